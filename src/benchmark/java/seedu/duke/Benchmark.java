@@ -0,0 +1,93 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+import seedu.duke.roomlists.Room;
+import seedu.duke.roomlists.RoomList;
+import seedu.duke.roomlists.RoomType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures how long the command parser and the assignment planner take on large inputs. The timings depend on the
+ * machine they are run on, so they are printed rather than checked, and are kept out of the unit tests.
+ *
+ * <p>Run with {@code ./gradlew benchmark}.
+ */
+public class Benchmark {
+    private static final long NANOSECONDS_PER_MILLISECOND = 1000000;
+    private static final int NUMBER_OF_PARSED_LINES = 200000;
+    private static final int NUMBER_OF_LEVELS = 50;
+    private static final int ROOMS_PER_LEVEL = 200;
+    private static final int NUMBER_OF_HOUSEKEEPERS = 500;
+    private static final String[] COMMAND_MIX = {
+        "check in 101", "check out 101", "check room 101", "check level 1", "check category single",
+        "check all room", "check vacancy summary", "reserve 301 / 2026-12-27 / 2026-12-29",
+        "find available single / 2026-12-27 / 2026-12-29", "cancel reservation 301 / 2026-12-27",
+        "add satisfaction jonathan / 5", "view satisfactions", "view average satisfaction",
+        "add item towel / 20", "update item pax towel / 15", "update item name towel / bath towel",
+        "search item towel", "delete item towel", "view all items", "view items with pax at most 5",
+        "add housekeeper susan / 30", "availability susan / 1,3", "get available on 1", "add performance susan / 4",
+        "view top performers 3", "assign susan / 301", "auto assign", "view assignments susan",
+        "add event fire drill / 2022-01-31", "add event inspection / 2022-02-01 / weekly for 4", "view events",
+        "view events from 2022-01-01 to 2022-03-01", "view events next 7 days", "delete event 1",
+        "view recorded housekeepers", "help"
+    };
+
+    /**
+     * Parses a realistic mix of commands, after parsing a tenth as many to warm up.
+     */
+    private static void measureCommandParser() throws Exception {
+        CommandParser commandParser = new CommandParser();
+        for (int i = 0; i < NUMBER_OF_PARSED_LINES / 10; i++) {
+            commandParser.parse(COMMAND_MIX[i % COMMAND_MIX.length]);
+        }
+        int commandsParsed = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < NUMBER_OF_PARSED_LINES; i++) {
+            Command command = commandParser.parse(COMMAND_MIX[i % COMMAND_MIX.length]);
+            if (command != null) {
+                commandsParsed++;
+            }
+        }
+        long parseTimeInNanos = System.nanoTime() - startTime;
+        System.out.printf("Parsed %d lines in %.1f ms (%.0f lines per second)%n", commandsParsed,
+                parseTimeInNanos / 1e6, commandsParsed * 1e9 / parseTimeInNanos);
+    }
+
+    /**
+     * Plans the assignment of every room of a fully occupied hotel to the housekeepers.
+     */
+    private static void measureAssignmentPlanner() {
+        ArrayList<Room> rooms = new ArrayList<>();
+        for (int level = NUMBER_OF_LEVELS; level >= 1; level--) {
+            for (int roomNumber = 1; roomNumber <= ROOMS_PER_LEVEL; roomNumber++) {
+                rooms.add(new Room(level * 1000 + roomNumber, level, RoomType.Single));
+            }
+        }
+        RoomList roomList = new RoomList(rooms);
+        for (Room room : rooms) {
+            roomList.checkInRoom(room);
+        }
+        ArrayList<String> housekeeperNames = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_HOUSEKEEPERS; i++) {
+            housekeeperNames.add("housekeeper" + i);
+        }
+        long startTime = System.nanoTime();
+        LinkedHashMap<String, List<Room>> plan = new AssignmentPlanner().plan(roomList.getOccupiedRooms(),
+                housekeeperNames, new HashMap<>());
+        long planTimeInMillis = (System.nanoTime() - startTime) / NANOSECONDS_PER_MILLISECOND;
+        System.out.printf("Planned %d rooms for %d housekeepers in %d ms%n", rooms.size(), plan.size(),
+                planTimeInMillis);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Logger.getLogger("").setLevel(Level.WARNING);
+        measureCommandParser();
+        measureAssignmentPlanner();
+    }
+}
@@ -1,21 +1,44 @@
 package seedu.duke;
 
-import seedu.duke.exceptions.HotelLiteManagerException;
-import seedu.duke.storage.AssignmentListFileManager;
+import seedu.duke.storage.JournalBuffer;
 
-import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Represents the assignments of housekeepers to rooms. Besides the housekeeper assigned to each room, the rooms
+ * assigned to each housekeeper are kept as well, so the rooms of a housekeeper are found without going through the
+ * assignments of every room.
+ */
 public class AssignmentMap {
     HashMap<Integer, String> map;
+    private HashMap<String, LinkedHashSet<Integer>> roomsByHousekeeper = new HashMap<>();
+    private JournalBuffer journalBuffer = new JournalBuffer();
 
     public AssignmentMap(HashMap<Integer, String> map) {
         this.map = map;
+        for (Map.Entry<Integer, String> assignment : map.entrySet()) {
+            roomsByHousekeeper.computeIfAbsent(assignment.getValue(), name -> new LinkedHashSet<>())
+                    .add(assignment.getKey());
+        }
     }
 
+    /**
+     * Assigns a housekeeper to a room, replacing the housekeeper previously assigned to the room if there is one.
+     *
+     * @param name   The name of the housekeeper.
+     * @param roomId The room id of the room.
+     */
     public void addAssignment(String name, int roomId) {
-        map.put(roomId, name);
+        String previousName = map.put(roomId, name);
+        if (previousName != null && !previousName.equals(name)) {
+            removeFromRoomsOf(previousName, roomId);
+        }
+        roomsByHousekeeper.computeIfAbsent(name, housekeeperName -> new LinkedHashSet<>()).add(roomId);
+        journalBuffer.recordPut(toFileString(roomId, name));
     }
 
     public String getHouseKeeperNameByRoom(int roomId) {
@@ -25,17 +48,56 @@ public class AssignmentMap {
         return map.get(roomId);
     }
 
-    public void removeAssignment(String name) {
-        for (Map.Entry<Integer, String> entry: map.entrySet()) {
-            if (entry.getValue().equals(name)) {
-                int k = entry.getKey();
-                map.remove(k);
-            }
+    public Map<Integer, String> getAssignments() {
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns the room ids of the rooms assigned to a housekeeper, in the order they were assigned.
+     *
+     * @param name The name of the housekeeper.
+     * @return the room ids of the rooms assigned to the housekeeper, which is empty if there are none.
+     */
+    public Set<Integer> roomsOf(String name) {
+        LinkedHashSet<Integer> rooms = roomsByHousekeeper.get(name);
+        return rooms == null ? Collections.emptySet() : Collections.unmodifiableSet(rooms);
+    }
+
+    /**
+     * Removes every assignment of a housekeeper. This takes time proportional to the number of rooms assigned to the
+     * housekeeper rather than the number of assignments.
+     *
+     * @param name The name of the housekeeper.
+     * @return the room ids of the rooms the housekeeper was assigned to.
+     */
+    public Set<Integer> unassignAll(String name) {
+        LinkedHashSet<Integer> rooms = roomsByHousekeeper.remove(name);
+        if (rooms == null) {
+            return Collections.emptySet();
+        }
+        for (int roomId : rooms) {
+            map.remove(roomId);
+            journalBuffer.recordDelete(toFileString(roomId, name));
+        }
+        return rooms;
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
+    }
+
+    private void removeFromRoomsOf(String name, int roomId) {
+        LinkedHashSet<Integer> rooms = roomsByHousekeeper.get(name);
+        if (rooms == null) {
+            return;
+        }
+        rooms.remove(roomId);
+        if (rooms.isEmpty()) {
+            roomsByHousekeeper.remove(name);
         }
     }
 
-    public void save() throws IOException, HotelLiteManagerException {
-        AssignmentListFileManager assignmentListFileManager = new AssignmentListFileManager();
-        assignmentListFileManager.save(map);
+    private String toFileString(int roomId, String name) {
+        return roomId + " | " + name;
     }
 }
@@ -0,0 +1,55 @@
+package seedu.duke;
+
+import seedu.duke.roomlists.Room;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plans how rooms are shared out between the housekeepers available on a day.
+ *
+ * <p>The rooms are sorted by level and room id, then split into consecutive runs, one for each housekeeper. The runs
+ * differ in length by at most one room, which is the lowest possible maximum number of rooms per housekeeper, and as
+ * each run is consecutive, each housekeeper only works on adjacent levels. When the rooms cannot be shared out evenly,
+ * the housekeepers with the highest performance ratings are given the longer runs.
+ */
+public class AssignmentPlanner {
+    private static final double UNRATED = 0;
+
+    /**
+     * Plans the assignment of the rooms to the housekeepers.
+     *
+     * @param rooms            The rooms to assign.
+     * @param housekeeperNames The names of the housekeepers to assign the rooms to.
+     * @param ratings          The mean performance rating of each housekeeper, keyed by name. Housekeepers without
+     *                         a rating are given the shorter runs.
+     * @return the rooms planned for each housekeeper given at least one room, from the lowest level to the highest.
+     */
+    public LinkedHashMap<String, List<Room>> plan(List<Room> rooms, List<String> housekeeperNames,
+                                                  Map<String, Double> ratings) {
+        LinkedHashMap<String, List<Room>> plan = new LinkedHashMap<>();
+        if (housekeeperNames.isEmpty()) {
+            return plan;
+        }
+        ArrayList<Room> sortedRooms = new ArrayList<>(rooms);
+        sortedRooms.sort(Comparator.comparingInt(Room::getLevel).thenComparingInt(Room::getRoomId));
+        ArrayList<String> housekeepersByRating = new ArrayList<>(housekeeperNames);
+        housekeepersByRating.sort(Comparator.comparingDouble(
+            (String name) -> ratings.getOrDefault(name, UNRATED)).reversed());
+
+        int numberOfHousekeepers = housekeepersByRating.size();
+        int shortestRun = sortedRooms.size() / numberOfHousekeepers;
+        int numberOfLongerRuns = sortedRooms.size() % numberOfHousekeepers;
+        int runStart = 0;
+        for (int i = 0; i < numberOfHousekeepers && runStart < sortedRooms.size(); i++) {
+            int runLength = i < numberOfLongerRuns ? shortestRun + 1 : shortestRun;
+            plan.put(housekeepersByRating.get(i), new ArrayList<>(sortedRooms.subList(runStart,
+                    runStart + runLength)));
+            runStart += runLength;
+        }
+        return plan;
+    }
+}
@@ -4,18 +4,24 @@ import seedu.duke.command.Command;
 import seedu.duke.command.HelpCommand;
 import seedu.duke.command.customercommands.AddSatisfactionCommand;
 import seedu.duke.command.customercommands.ViewAverageSatisfactionCommand;
+import seedu.duke.command.customercommands.ViewSatisfactionDistributionCommand;
 import seedu.duke.command.customercommands.ViewSatisfactionsCommand;
 import seedu.duke.command.eventcommands.AddEventCommand;
 import seedu.duke.command.eventcommands.DeleteEventCommand;
+import seedu.duke.command.eventcommands.ViewEventsBetweenDatesCommand;
 import seedu.duke.command.eventcommands.ViewEventsCommand;
+import seedu.duke.command.eventcommands.ViewUpcomingEventsCommand;
 import seedu.duke.command.itemcommands.AddItemCommand;
 import seedu.duke.command.itemcommands.ViewItemsWithZeroPaxCommand;
+import seedu.duke.command.itemcommands.ViewItemsWithLowPaxCommand;
 import seedu.duke.command.itemcommands.SearchItemCommand;
 import seedu.duke.command.itemcommands.UpdateItemPaxCommand;
 import seedu.duke.command.itemcommands.DeleteItemCommand;
 import seedu.duke.command.itemcommands.UpdateItemNameCommand;
 import seedu.duke.command.itemcommands.ViewItemListCommand;
 import seedu.duke.command.assigncommand.AssignHousekeeperCommand;
+import seedu.duke.command.assigncommand.AutoAssignCommand;
+import seedu.duke.command.assigncommand.ViewAssignmentsCommand;
 import seedu.duke.command.roomcommand.CheckAllRoomCommand;
 import seedu.duke.command.housekeepercommands.ViewHousekeeperListCommand;
 import seedu.duke.command.housekeepercommands.AgeIncreaseCommand;
@@ -24,6 +30,7 @@ import seedu.duke.command.housekeepercommands.ResetAvailabilityCommand;
 import seedu.duke.command.housekeepercommands.AddHousekeeperPerformanceCommand;
 import seedu.duke.command.housekeepercommands.AddAvailabilityCommand;
 import seedu.duke.command.housekeepercommands.ViewHousekeeperPerformancesCommand;
+import seedu.duke.command.housekeepercommands.ViewTopPerformersCommand;
 import seedu.duke.command.housekeepercommands.GetAvailableHousekeeperCommand;
 import seedu.duke.command.housekeepercommands.DeleteHousekeeperCommand;
 import seedu.duke.command.roomcommand.CheckInCommand;
@@ -31,51 +38,65 @@ import seedu.duke.command.roomcommand.CheckOutCommand;
 import seedu.duke.command.roomcommand.CheckRoomCommand;
 import seedu.duke.command.roomcommand.CheckRoomByLevelCommand;
 import seedu.duke.command.roomcommand.CheckRoomByCatCommand;
+import seedu.duke.command.roomcommand.CheckVacancySummaryCommand;
+import seedu.duke.command.roomcommand.ReserveRoomCommand;
+import seedu.duke.command.roomcommand.CancelReservationCommand;
+import seedu.duke.command.roomcommand.FindAvailableRoomCommand;
 import seedu.duke.exceptions.HotelLiteManagerException;
-import seedu.duke.exceptions.InvalidCommandException;
 
 /**
  * Class that implements behavior of parsing user input and linking
  * that user input to a Command class.
+ *
+ * <p>Every command is registered under its keyword once, in a {@link CommandRegistry} shared by all parsers, and
+ * each input is dispatched to the command with the longest keyword it starts with.
  */
 
 public class CommandParser {
-    private static final String SPACE = " ";
+    private static final String SEPARATOR = " ";
     private static final String BYE = "bye";
-    private static final String DELETE = "delete ";
-    private static final String ADD = "add ";
-    private static final String CHECK = "check ";
-    private static final String VIEW = "view ";
     private static final String HELP = "help";
     private static final String ADD_ITEM_COMMAND = "add item";
     private static final String VIEW_ITEM_LIST_COMMAND = "view all items";
     private static final String VIEW_ITEMS_WITH_ZERO_PAX_COMMAND = "view items with zero pax";
+    private static final String VIEW_ITEMS_WITH_LOW_PAX_COMMAND = "view items with pax at most";
     private static final String DELETE_ITEM_COMMAND = "delete item";
     private static final String UPDATE_ITEM_PAX_COMMAND = "update item pax";
     private static final String UPDATE_ITEM_NAME_COMMAND = "update item name";
-    private static final String ADD_HOUSEKEEPER_COMMAND = "add housekeeper ";
+    private static final String ADD_HOUSEKEEPER_COMMAND = "add housekeeper";
     private static final String SEARCH_ITEM_COMMAND = "search item";
-    private static final String ADD_PERFORMANCE_COMMAND = "add performance ";
+    private static final String ADD_PERFORMANCE_COMMAND = "add performance";
     private static final String VIEW_PERFORMANCES_COMMAND = "view performances";
-    private static final String ADD_AVAILABILITY_COMMAND = "availability ";
-    private static final String ADD_SATISFACTION_COMMAND = "add satisfaction ";
+    private static final String VIEW_TOP_PERFORMERS_COMMAND = "view top performers";
+    private static final String ADD_AVAILABILITY_COMMAND = "availability";
+    private static final String ADD_SATISFACTION_COMMAND = "add satisfaction";
     private static final String VIEW_SATISFACTIONS_COMMAND = "view satisfactions";
     private static final String AVERAGE_SATISFACTION_COMMAND = "view average satisfaction";
-    private static final String CHECK_IN = "check in ";
-    private static final String CHECK_OUT = "check out ";
-    private static final String CHECK_ROOM = "check room ";
+    private static final String SATISFACTION_DISTRIBUTION_COMMAND = "view satisfaction distribution";
+    private static final String CHECK_IN = "check in";
+    private static final String CHECK_OUT = "check out";
+    private static final String CHECK_ROOM = "check room";
     private static final String CHECK_ALL_ROOM = "check all room";
-    private static final String CHECK_ROOM_BY_LEVEL = "check level ";
-    private static final String CHECK_BY_CATEGORY = "check category ";
-    private static final String ASSIGN_HOUSEKEEPER = "assign ";
+    private static final String CHECK_VACANCY_SUMMARY = "check vacancy summary";
+    private static final String CHECK_ROOM_BY_LEVEL = "check level";
+    private static final String CHECK_BY_CATEGORY = "check category";
+    private static final String RESERVE_ROOM = "reserve";
+    private static final String CANCEL_RESERVATION = "cancel reservation";
+    private static final String FIND_AVAILABLE_ROOM = "find available";
+    private static final String ASSIGN_HOUSEKEEPER = "assign";
+    private static final String AUTO_ASSIGN = "auto assign";
+    private static final String VIEW_ASSIGNMENTS_COMMAND = "view assignments";
     private static final String VIEW_HOUSEKEEPER_COMMAND = "view recorded housekeepers";
-    private static final String VIEW_AVAILABLE_HOUSEKEEPER_DAY = "get available on ";
+    private static final String VIEW_AVAILABLE_HOUSEKEEPER_DAY = "get available on";
     private static final String RESET_AVAILABILITY = "is a new week";
-    private static final String DELETE_PROFILE = "delete housekeeper ";
+    private static final String DELETE_PROFILE = "delete housekeeper";
     private static final String UPDATE_AGE_BY_ONE = "is a new year";
-    private static final String ADD_EVENT = "add event ";
+    private static final String ADD_EVENT = "add event";
     private static final String VIEW_EVENTS = "view events";
-    private static final String DELETE_EVENT = "delete event ";
+    private static final String VIEW_EVENTS_BETWEEN_DATES = "view events from";
+    private static final String VIEW_UPCOMING_EVENTS = "view events next";
+    private static final String DELETE_EVENT = "delete event";
+    private static final CommandRegistry COMMANDS = createCommandRegistry();
 
     /**
      * Parses the user-provided command and creates the relevant Command object.
@@ -86,205 +107,115 @@ public class CommandParser {
      *                                   the relevant Command object.
      */
     public Command parse(String userInput) throws HotelLiteManagerException {
-        String userInputLowerCase = userInput.toLowerCase();
-        Command userCommand = null;
-        String userInputLowerCaseWithoutCommand;
-        if (userInputLowerCase.startsWith(SPACE)) {
-            throw new InvalidCommandException();
-        } else if (userInputLowerCase.startsWith(ADD)) {
-            userCommand = parseAdd(userInputLowerCase);
-        } else if (userInputLowerCase.startsWith(DELETE)) {
-            userCommand = parseDelete(userInputLowerCase);
-        } else if (userInputLowerCase.startsWith(CHECK)) {
-            userCommand = parseCheck(userInputLowerCase);
-        } else if (userInputLowerCase.startsWith(VIEW)) {
-            userCommand = parseView(userInputLowerCase);
-        } else {
-            userCommand = parseMiscellaneous(userInputLowerCase);
-        }
-        return userCommand;
+        return COMMANDS.dispatch(userInput.toLowerCase());
     }
 
-    /**
-     * Parses the user-provided delete-related command and creates the relevant Command object.
-     *
-     * @param userInputLowerCase User input to be parsed and turned into a delete-related Command object.
-     * @return The relevant Command object created based on the user input.
-     * @throws HotelLiteManagerException If there is an error in user input that prevents it from being parsed into
-     *                                   the relevant Command object.
-     */
-    public Command parseDelete(String userInputLowerCase) throws HotelLiteManagerException {
-        Command userCommand = null;
-        String userInputLowerCaseWithoutCommand;
-        if (userInputLowerCase.startsWith(DELETE_ITEM_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(DELETE_ITEM_COMMAND, "");
-            userCommand = new DeleteItemCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(DELETE_PROFILE)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(DELETE_PROFILE, "");
-            userCommand = new DeleteHousekeeperCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(DELETE_EVENT)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(DELETE_EVENT, "");
-            userCommand = new DeleteEventCommand(userInputLowerCaseWithoutCommand);
-        } else {
-            throw new InvalidCommandException();
-        }
-        return userCommand;
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry commands = new CommandRegistry();
+        registerItemCommands(commands);
+        registerHousekeeperCommands(commands);
+        registerCustomerCommands(commands);
+        registerRoomCommands(commands);
+        registerAssignmentCommands(commands);
+        registerEventCommands(commands);
+        commands.registerWithoutArguments(BYE, ExitCommand::new);
+        commands.register(HELP, HelpCommand::new);
+        return commands;
     }
 
     /**
-     * Parses the user-provided check-related command and creates the relevant Command object.
+     * Registers the item-related commands, which are given the rest of the input with its leading space, or trimmed
+     * for the commands that only list items.
      *
-     * @param userInputLowerCase User input to be parsed and turned into a check-related Command object.
-     * @return The relevant Command object created based on the user input.
-     * @throws HotelLiteManagerException If there is an error in user input that prevents it from being parsed into
-     *                                   the relevant Command object.
+     * @param commands The registry to add the commands to.
      */
-    private Command parseCheck(String userInputLowerCase) throws HotelLiteManagerException {
-        Command userCommand = null;
-        String userInputLowerCaseWithoutCommand;
-        if (userInputLowerCase.startsWith(CHECK_IN)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(CHECK_IN, "");
-            userCommand = new CheckInCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(CHECK_OUT)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(CHECK_OUT, "");
-            userCommand = new CheckOutCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(CHECK_BY_CATEGORY)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(CHECK_BY_CATEGORY, "");
-            userCommand = new CheckRoomByCatCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(CHECK_ROOM)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(CHECK_ROOM, "");
-            userCommand = new CheckRoomCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.trim().equals(CHECK_ALL_ROOM)) {
-            userCommand = new CheckAllRoomCommand();
-        } else if (userInputLowerCase.startsWith(CHECK_ROOM_BY_LEVEL)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(CHECK_ROOM_BY_LEVEL, "");
-            userCommand = new CheckRoomByLevelCommand(userInputLowerCaseWithoutCommand);
-        } else {
-            throw new InvalidCommandException();
-        }
-        return userCommand;
+    private static void registerItemCommands(CommandRegistry commands) {
+        commands.register(ADD_ITEM_COMMAND, AddItemCommand::new);
+        commands.register(DELETE_ITEM_COMMAND, DeleteItemCommand::new);
+        commands.register(SEARCH_ITEM_COMMAND, SearchItemCommand::new);
+        commands.register(UPDATE_ITEM_PAX_COMMAND, UpdateItemPaxCommand::new);
+        commands.register(UPDATE_ITEM_NAME_COMMAND, UpdateItemNameCommand::new);
+        commands.register(VIEW_ITEMS_WITH_LOW_PAX_COMMAND, ViewItemsWithLowPaxCommand::new);
+        commands.register(VIEW_ITEM_LIST_COMMAND, arguments -> new ViewItemListCommand(arguments.trim()));
+        commands.register(VIEW_ITEMS_WITH_ZERO_PAX_COMMAND,
+                arguments -> new ViewItemsWithZeroPaxCommand(arguments.trim()));
     }
 
     /**
-     * Parses the user-provided add-related command and creates the relevant Command object.
+     * Registers the housekeeper-related commands. The commands that check their whole input themselves are given the
+     * trimmed input including the keyword.
      *
-     * @param userInputLowerCase User input to be parsed and turned into a delete-related Command object.
-     * @return The relevant Command object created based on the user input.
-     * @throws HotelLiteManagerException If there is an error in user input that prevents it from being parsed into
-     *                                   the relevant Command object.
+     * @param commands The registry to add the commands to.
      */
-    public Command parseAdd(String userInputLowerCase) throws HotelLiteManagerException {
-        Command userCommand = null;
-        String userInputLowerCaseWithoutCommand;
-        if (userInputLowerCase.startsWith(ADD_SATISFACTION_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(ADD_SATISFACTION_COMMAND, "")
-                    .trim();
-            userCommand = new AddSatisfactionCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(ADD_ITEM_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(ADD_ITEM_COMMAND, "");
-            userCommand = new AddItemCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith((ADD_HOUSEKEEPER_COMMAND))) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(ADD_HOUSEKEEPER_COMMAND, "");
-            userCommand = new AddHousekeeperCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(ADD_PERFORMANCE_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(ADD_PERFORMANCE_COMMAND, "");
-            userCommand = new AddHousekeeperPerformanceCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(ADD_EVENT)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replace(ADD_EVENT, "");
-            userCommand = new AddEventCommand(userInputLowerCaseWithoutCommand);
-        } else {
-            throw new InvalidCommandException();
-        }
-        return userCommand;
+    private static void registerHousekeeperCommands(CommandRegistry commands) {
+        commands.register(ADD_HOUSEKEEPER_COMMAND,
+                arguments -> new AddHousekeeperCommand(withoutSeparator(arguments)));
+        commands.register(DELETE_PROFILE, arguments -> new DeleteHousekeeperCommand(withoutSeparator(arguments)));
+        commands.register(ADD_AVAILABILITY_COMMAND,
+                arguments -> new AddAvailabilityCommand(withoutSeparator(arguments)));
+        commands.register(VIEW_AVAILABLE_HOUSEKEEPER_DAY,
+                arguments -> new GetAvailableHousekeeperCommand(withoutSeparator(arguments)));
+        commands.register(ADD_PERFORMANCE_COMMAND,
+                arguments -> new AddHousekeeperPerformanceCommand(withoutSeparator(arguments)));
+        commands.register(VIEW_TOP_PERFORMERS_COMMAND,
+                arguments -> new ViewTopPerformersCommand(withoutSeparator(arguments)));
+        commands.registerWithoutArguments(VIEW_PERFORMANCES_COMMAND, ViewHousekeeperPerformancesCommand::new);
+        commands.register(VIEW_HOUSEKEEPER_COMMAND,
+                arguments -> new ViewHousekeeperListCommand((VIEW_HOUSEKEEPER_COMMAND + arguments).trim()));
+        commands.register(RESET_AVAILABILITY,
+                arguments -> new ResetAvailabilityCommand((RESET_AVAILABILITY + arguments).trim()));
+        commands.register(UPDATE_AGE_BY_ONE,
+                arguments -> new AgeIncreaseCommand((UPDATE_AGE_BY_ONE + arguments).trim()));
     }
 
-    /**
-     * Parses the user-provided commands that are neither an add, delete, view nor room-related commands. It then
-     * creates the relevant Command object.
-     *
-     * @param userInputLowerCase User input to be parsed and turned into the relevant Command object.
-     * @return The relevant Command object created based on the user input.
-     * @throws HotelLiteManagerException If there is an error in user input that prevents it from being parsed into
-     *                                   the relevant Command object or if the command is invalid.
-     */
-    public Command parseMiscellaneous(String userInputLowerCase) throws HotelLiteManagerException {
-        Command userCommand = null;
-        String userInputLowerCaseWithoutCommand;
-        if (userInputLowerCase.equals(BYE)) {
-            userCommand = new ExitCommand();
-        } else if (userInputLowerCase.startsWith(HELP)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(HELP, "");
-            userCommand = new HelpCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(ADD_AVAILABILITY_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replace(ADD_AVAILABILITY_COMMAND, "");
-            userCommand = new AddAvailabilityCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(VIEW_AVAILABLE_HOUSEKEEPER_DAY)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(VIEW_AVAILABLE_HOUSEKEEPER_DAY,
-                    "");
-            userCommand = new GetAvailableHousekeeperCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(RESET_AVAILABILITY)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.trim();
-            userCommand = new ResetAvailabilityCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(UPDATE_AGE_BY_ONE)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.trim();
-            userCommand = new AgeIncreaseCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(ASSIGN_HOUSEKEEPER)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replace(ASSIGN_HOUSEKEEPER, "");
-            userCommand = new AssignHousekeeperCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(SEARCH_ITEM_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(SEARCH_ITEM_COMMAND, "");
-            userCommand = new SearchItemCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(UPDATE_ITEM_PAX_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(UPDATE_ITEM_PAX_COMMAND, "");
-            userCommand = new UpdateItemPaxCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(UPDATE_ITEM_NAME_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(UPDATE_ITEM_NAME_COMMAND, "");
-            userCommand = new UpdateItemNameCommand(userInputLowerCaseWithoutCommand);
-        } else {
-            throw new InvalidCommandException();
-        }
-        return userCommand;
+    private static void registerCustomerCommands(CommandRegistry commands) {
+        commands.register(ADD_SATISFACTION_COMMAND, arguments -> new AddSatisfactionCommand(arguments.trim()));
+        commands.registerWithoutArguments(VIEW_SATISFACTIONS_COMMAND, ViewSatisfactionsCommand::new);
+        commands.registerWithoutArguments(AVERAGE_SATISFACTION_COMMAND, ViewAverageSatisfactionCommand::new);
+        commands.registerWithoutArguments(SATISFACTION_DISTRIBUTION_COMMAND,
+                ViewSatisfactionDistributionCommand::new);
+    }
+
+    private static void registerRoomCommands(CommandRegistry commands) {
+        commands.register(CHECK_IN, arguments -> new CheckInCommand(withoutSeparator(arguments)));
+        commands.register(CHECK_OUT, arguments -> new CheckOutCommand(withoutSeparator(arguments)));
+        commands.register(CHECK_ROOM, arguments -> new CheckRoomCommand(withoutSeparator(arguments)));
+        commands.register(CHECK_ROOM_BY_LEVEL, arguments -> new CheckRoomByLevelCommand(withoutSeparator(arguments)));
+        commands.register(CHECK_BY_CATEGORY, arguments -> new CheckRoomByCatCommand(withoutSeparator(arguments)));
+        commands.registerWithoutArguments(CHECK_ALL_ROOM, CheckAllRoomCommand::new);
+        commands.registerWithoutArguments(CHECK_VACANCY_SUMMARY, CheckVacancySummaryCommand::new);
+        commands.register(RESERVE_ROOM, arguments -> new ReserveRoomCommand(withoutSeparator(arguments)));
+        commands.register(CANCEL_RESERVATION,
+                arguments -> new CancelReservationCommand(withoutSeparator(arguments)));
+        commands.register(FIND_AVAILABLE_ROOM,
+                arguments -> new FindAvailableRoomCommand(withoutSeparator(arguments)));
+    }
+
+    private static void registerAssignmentCommands(CommandRegistry commands) {
+        commands.register(ASSIGN_HOUSEKEEPER,
+                arguments -> new AssignHousekeeperCommand(withoutSeparator(arguments)));
+        commands.registerWithoutArguments(AUTO_ASSIGN, AutoAssignCommand::new);
+        commands.register(VIEW_ASSIGNMENTS_COMMAND,
+                arguments -> new ViewAssignmentsCommand(withoutSeparator(arguments)));
+    }
+
+    private static void registerEventCommands(CommandRegistry commands) {
+        commands.register(ADD_EVENT, arguments -> new AddEventCommand(withoutSeparator(arguments)));
+        commands.register(DELETE_EVENT, arguments -> new DeleteEventCommand(withoutSeparator(arguments)));
+        commands.register(VIEW_EVENTS, ViewEventsCommand::new);
+        commands.register(VIEW_EVENTS_BETWEEN_DATES,
+                arguments -> new ViewEventsBetweenDatesCommand(withoutSeparator(arguments)));
+        commands.register(VIEW_UPCOMING_EVENTS,
+                arguments -> new ViewUpcomingEventsCommand(withoutSeparator(arguments)));
     }
 
     /**
-     * Parses the user-provided view-related command and creates the relevant Command object.
+     * Removes the space between a keyword and the arguments of its command.
      *
-     * @param userInputLowerCase User input to be parsed and turned into a delete-related Command object.
-     * @return The relevant Command object created based on the user input.
-     * @throws HotelLiteManagerException If there is an error in user input that prevents it from being parsed into
-     *                                   the relevant Command object.
+     * @param arguments The rest of the input after the keyword.
+     * @return the arguments without the space in front of them.
      */
-    public Command parseView(String userInputLowerCase) throws HotelLiteManagerException {
-        Command userCommand;
-        String userInputLowerCaseWithoutCommand;
-        if (userInputLowerCase.trim().equals(VIEW_SATISFACTIONS_COMMAND)) {
-            userCommand = new ViewSatisfactionsCommand();
-        } else if (userInputLowerCase.startsWith(VIEW_ITEM_LIST_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(VIEW_ITEM_LIST_COMMAND, "");
-            userInputLowerCaseWithoutCommand = userInputLowerCaseWithoutCommand.trim();
-            userCommand = new ViewItemListCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.startsWith(VIEW_ITEMS_WITH_ZERO_PAX_COMMAND)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(VIEW_ITEMS_WITH_ZERO_PAX_COMMAND,
-                    "");
-            userInputLowerCaseWithoutCommand = userInputLowerCaseWithoutCommand.trim();
-            userCommand = new ViewItemsWithZeroPaxCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.trim().equals(VIEW_PERFORMANCES_COMMAND)) {
-            userCommand = new ViewHousekeeperPerformancesCommand();
-        } else if (userInputLowerCase.contains((VIEW_HOUSEKEEPER_COMMAND))) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.trim();
-            userCommand = new ViewHousekeeperListCommand(userInputLowerCaseWithoutCommand);
-        } else if (userInputLowerCase.equals(AVERAGE_SATISFACTION_COMMAND)) {
-            userCommand = new ViewAverageSatisfactionCommand();
-        } else if (userInputLowerCase.startsWith(VIEW_EVENTS)) {
-            userInputLowerCaseWithoutCommand = userInputLowerCase.replaceFirst(VIEW_EVENTS, "");
-            userCommand = new ViewEventsCommand(userInputLowerCaseWithoutCommand);
-        } else {
-            throw new InvalidCommandException();
-        }
-        return userCommand;
+    private static String withoutSeparator(String arguments) {
+        return arguments.startsWith(SEPARATOR) ? arguments.substring(SEPARATOR.length()) : arguments;
     }
-
 }
-
-
-
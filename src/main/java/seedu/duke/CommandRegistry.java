@@ -0,0 +1,110 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidCommandException;
+
+import java.util.HashMap;
+
+/**
+ * Maps the keywords of every command to the way the command is created from the rest of the user input.
+ *
+ * <p>The keywords are kept in a trie with one level per space-separated word, where each node looks its next words
+ * up in a hash map. An input is dispatched by walking the trie one word at a time and taking the longest keyword that
+ * matches whole words, so dispatching takes time in the length of the keyword rather than the number of commands, and
+ * no command can shadow another whose keyword is longer.
+ */
+class CommandRegistry {
+    private static final char SEPARATOR = ' ';
+    private final Node root = new Node();
+
+    /**
+     * Creates a command from the part of the user input after its keyword.
+     */
+    @FunctionalInterface
+    interface CommandFactory {
+        Command create(String arguments) throws HotelLiteManagerException;
+    }
+
+    /**
+     * Creates a command that takes no arguments.
+     */
+    @FunctionalInterface
+    interface ArgumentlessCommandFactory {
+        Command create();
+    }
+
+    private static class Node {
+        private final HashMap<String, Node> children = new HashMap<>();
+        private CommandFactory factory;
+    }
+
+    /**
+     * Registers a command under a keyword.
+     *
+     * @param keyword The words the command starts with, separated by single spaces.
+     * @param factory Creates the command from the rest of the input, which starts with the space after the keyword
+     *                if there is one.
+     * @throws IllegalArgumentException if another command has already been registered under the keyword.
+     */
+    void register(String keyword, CommandFactory factory) {
+        Node node = root;
+        for (String word : keyword.split(String.valueOf(SEPARATOR))) {
+            node = node.children.computeIfAbsent(word, nextWord -> new Node());
+        }
+        if (node.factory != null) {
+            throw new IllegalArgumentException("Command already registered: " + keyword);
+        }
+        node.factory = factory;
+    }
+
+    /**
+     * Registers a command that takes no arguments, so it is only created if nothing but spaces follows its keyword.
+     *
+     * @param keyword The words of the command, separated by single spaces.
+     * @param factory Creates the command.
+     * @throws IllegalArgumentException if another command has already been registered under the keyword.
+     */
+    void registerWithoutArguments(String keyword, ArgumentlessCommandFactory factory) {
+        register(keyword, arguments -> {
+            if (!arguments.trim().isEmpty()) {
+                throw new InvalidCommandException();
+            }
+            return factory.create();
+        });
+    }
+
+    /**
+     * Creates the command whose keyword is the longest one the input starts with, matching whole words only.
+     *
+     * @param input The user input, in the same case as the keywords.
+     * @return the command created from the rest of the input.
+     * @throws HotelLiteManagerException if the input does not start with any keyword, or if the command cannot be
+     *                                   created from the rest of the input.
+     */
+    Command dispatch(String input) throws HotelLiteManagerException {
+        Node node = root;
+        CommandFactory factory = null;
+        int argumentsStart = 0;
+        int wordStart = 0;
+        while (wordStart <= input.length()) {
+            int wordEnd = input.indexOf(SEPARATOR, wordStart);
+            if (wordEnd < 0) {
+                wordEnd = input.length();
+            }
+            node = node.children.get(input.substring(wordStart, wordEnd));
+            if (node == null) {
+                break;
+            }
+            if (node.factory != null) {
+                factory = node.factory;
+                argumentsStart = wordEnd;
+            }
+            wordStart = wordEnd + 1;
+        }
+        if (factory == null) {
+            throw new InvalidCommandException();
+        }
+        return factory.create(input.substring(argumentsStart));
+    }
+}
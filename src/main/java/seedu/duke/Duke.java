@@ -4,126 +4,42 @@ import java.io.IOException;
 import java.util.logging.LogManager;
 
 import seedu.duke.command.Command;
-import seedu.duke.command.customercommands.AddSatisfactionCommand;
-import seedu.duke.command.housekeepercommands.AddAvailabilityCommand;
-import seedu.duke.command.housekeepercommands.AddHousekeeperCommand;
-import seedu.duke.command.housekeepercommands.AgeIncreaseCommand;
-import seedu.duke.command.housekeepercommands.ResetAvailabilityCommand;
-import seedu.duke.command.housekeepercommands.DeleteHousekeeperCommand;
-import seedu.duke.command.housekeepercommands.AddHousekeeperPerformanceCommand;
-import seedu.duke.command.itemcommands.AddItemCommand;
-import seedu.duke.command.itemcommands.DeleteItemCommand;
-import seedu.duke.command.itemcommands.UpdateItemNameCommand;
-import seedu.duke.command.itemcommands.UpdateItemPaxCommand;
-import seedu.duke.command.roomcommand.CheckAllRoomCommand;
-import seedu.duke.command.roomcommand.CheckInCommand;
-import seedu.duke.command.roomcommand.CheckOutCommand;
-import seedu.duke.command.roomcommand.CheckRoomByCatCommand;
-import seedu.duke.command.roomcommand.CheckRoomByLevelCommand;
-import seedu.duke.command.roomcommand.CheckRoomCommand;
 import seedu.duke.exceptions.HotelLiteManagerException;
-import seedu.duke.roomlists.RoomList;
-import seedu.duke.storage.RoomFileManager;
+import seedu.duke.storage.PersistenceManager;
 
 public class Duke {
-    /**
-     * Updates the list saved within the respective files based on the type of command the user has inputted.
-     *
-     * @param command       The command object that was constructed by the command parser based on the command the user
-     *                      inputted.
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException if we are unable to write to the respective file found within the ListFolder directory.
-     */
-
-    private void writeListsToFile(Command command, ListContainer listContainer)
-            throws IOException, HotelLiteManagerException {
-        if (command instanceof AddItemCommand || command instanceof UpdateItemPaxCommand
-                || command instanceof UpdateItemNameCommand || command instanceof UpdateItemNameCommand
-                || command instanceof DeleteItemCommand) {
-            writeItemListsToFile(command, listContainer);
-        } else if (command instanceof AddAvailabilityCommand || command instanceof AddHousekeeperCommand || command
-                instanceof AgeIncreaseCommand || command instanceof ResetAvailabilityCommand || command
-                instanceof DeleteHousekeeperCommand || command instanceof AddHousekeeperPerformanceCommand) {
-            writeHousekeeperListsToFile(command, listContainer);
-        } else if (command instanceof CheckAllRoomCommand || command instanceof CheckInCommand || command
-                instanceof CheckOutCommand || command instanceof CheckRoomByCatCommand || command
-                instanceof CheckRoomByLevelCommand || command instanceof CheckRoomCommand) {
-            writeRoomListToFile(listContainer);
-        } else if (command instanceof AddSatisfactionCommand) {
-            writeSatisfactionListsToFile(command, listContainer);
-        }
-    }
+    private PersistenceManager persistenceManager = new PersistenceManager();
 
     /**
-     * Updates the list saved within the respective files based on the type of housekeeper related
-     * commands given by the user.
+     * Saves every list that the command has modified. Only the lists the command declares it may modify are checked,
+     * except when the program exits, when every list is checked so that no modification is left unsaved.
      *
      * @param command       The command object that was constructed by the command parser based on the command the user
-     *                      inputted.
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException if we are unable to write to the respective file found within the ListFolder directory.
+     *                      inputted. This is null if the user input could not be parsed, in which case no list has been
+     *                      modified.
+     * @param listContainer The object containing the lists to save.
+     * @throws IOException if we are unable to write to the journal found within the ListFolder directory.
      */
-    private void writeHousekeeperListsToFile(Command command, ListContainer listContainer) throws IOException {
-        if (command instanceof AddHousekeeperCommand) {
-            AddHousekeeperCommand addHousekeeperCommand = (AddHousekeeperCommand) command;
-            addHousekeeperCommand.writeHousekeeperToFile(listContainer);
-        } else if (command instanceof AddAvailabilityCommand) {
-            AddAvailabilityCommand addAvailabilityCommand = (AddAvailabilityCommand) command;
-            addAvailabilityCommand.writeAvailabilityToFile(listContainer);
-        } else if (command instanceof AgeIncreaseCommand) {
-            AgeIncreaseCommand ageIncreaseCommand = (AgeIncreaseCommand) command;
-            ageIncreaseCommand.writeAgeIncreaseToFile(listContainer);
-        } else if (command instanceof DeleteHousekeeperCommand) {
-            DeleteHousekeeperCommand deleteHousekeeperCommand = (DeleteHousekeeperCommand) command;
-            deleteHousekeeperCommand.writeHousekeeperToFile(listContainer);
-        } else if (command instanceof ResetAvailabilityCommand) {
-            ResetAvailabilityCommand resetAvailabilityCommand = (ResetAvailabilityCommand) command;
-            resetAvailabilityCommand.writeHousekeeperToFile(listContainer);
-        } else if (command instanceof AddHousekeeperPerformanceCommand) {
-            AddHousekeeperPerformanceCommand addHousekeeperPerformanceCommand
-                    = (AddHousekeeperPerformanceCommand) command;
-            addHousekeeperPerformanceCommand.writeHousekeeperPerformanceListToFile(listContainer);
+    private void writeListsToFile(Command command, ListContainer listContainer) throws IOException {
+        if (listContainer == null || command == null) {
+            return;
+        }
+        String commandName = command.getClass().getSimpleName();
+        if (command.isExit()) {
+            persistenceManager.saveChangedLists(listContainer, commandName);
+        } else {
+            persistenceManager.saveChangedLists(listContainer, command.getModifiedLists(), commandName);
         }
     }
 
-
-    private void writeRoomListToFile(ListContainer listContainer) throws IOException, HotelLiteManagerException {
-        RoomList roomList = listContainer.getRoomList();
-        RoomFileManager fileManager = new RoomFileManager();
-        fileManager.save(roomList.getRoomList());
-    }
-
-
     /**
-     * Updates the item list saved within the file ListFolder/ItemList.txt with the current item list.
-     *
-     * @param command       The command object that was constructed by the command parser based on the command the user
-     *                      inputted.
-     * @param listContainer The object containing the data structure necessary to update the ItemList stored within
-     *                      the ListFolder/ItemList.txt file.
-     *                      In this case, we require access to the ItemList object which is within listContainer.
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
+     * Waits for every saved change to be written to the disk and stops the background journal writer.
      */
-    private void writeItemListsToFile(Command command, ListContainer listContainer) throws IOException {
-        if (command instanceof AddItemCommand) {
-            AddItemCommand addItemCommand = (AddItemCommand) command;
-            addItemCommand.writeItemListToFile(listContainer);
-        } else if (command instanceof UpdateItemPaxCommand) {
-            UpdateItemPaxCommand updateItemPaxCommand = (UpdateItemPaxCommand) command;
-            updateItemPaxCommand.writeItemListToFile(listContainer);
-        } else if (command instanceof UpdateItemNameCommand) {
-            UpdateItemNameCommand updateItemNameCommand = (UpdateItemNameCommand) command;
-            updateItemNameCommand.writeItemListToFile(listContainer);
-        } else if (command instanceof DeleteItemCommand) {
-            DeleteItemCommand deleteItemNameCommand = (DeleteItemCommand) command;
-            deleteItemNameCommand.writeItemListToFile(listContainer);
-        }
-    }
-
-    private void writeSatisfactionListsToFile(Command command, ListContainer listContainer) throws IOException {
-        if (command instanceof AddSatisfactionCommand) {
-            AddSatisfactionCommand addSatisfactionCommand = (AddSatisfactionCommand) command;
-            addSatisfactionCommand.writeSatisfactionListToFile(listContainer);
+    private void closePersistence() {
+        try {
+            persistenceManager.close();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
 
@@ -134,15 +50,21 @@ public class Duke {
         Ui ui = new Ui();
         ui.printGreeting();
         CommandParser commandParser = new CommandParser();
-        ListContainer listContainer = null;
+        ListContainer listContainer;
         try {
             listContainer = new ListContainer();
         } catch (IOException e) {
             e.printStackTrace();
+            closePersistence();
+            return;
         } catch (HotelLiteManagerException e) {
             ui.printErrorMessage(e);
+            closePersistence();
+            return;
         }
 
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closePersistence));
+
         boolean shouldExitProgram = false;
         String userInput;
         while (!shouldExitProgram) {
@@ -151,14 +73,19 @@ public class Duke {
                 userInput = ui.readUserInput();
                 command = commandParser.parse(userInput);
                 command.execute(listContainer, ui);
-                writeListsToFile(command, listContainer);
                 shouldExitProgram = command.isExit();
             } catch (HotelLiteManagerException e) {
                 ui.printErrorMessage(e);
             } catch (IOException e) {
                 e.printStackTrace();
             }
+            try {
+                writeListsToFile(command, listContainer);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
         }
+        closePersistence();
     }
 
     /**
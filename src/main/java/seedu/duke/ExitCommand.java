@@ -2,8 +2,10 @@ package seedu.duke;
 
 import seedu.duke.command.Command;
 import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.command.ListAccess;
 
 
+@ListAccess
 public class ExitCommand extends Command {
     public ExitCommand() {
         isExit = true;
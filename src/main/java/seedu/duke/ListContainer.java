@@ -4,68 +4,201 @@ package seedu.duke;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import seedu.duke.housekeeperlists.HousekeeperList;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
 import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
 import seedu.duke.itemlists.ItemList;
 import seedu.duke.eventlists.EventList;
-import seedu.duke.eventlists.Event;
+import seedu.duke.exceptions.CorruptedFileException;
 import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.roomlists.ReservationList;
 import seedu.duke.roomlists.Room;
 import seedu.duke.roomlists.RoomList;
 import seedu.duke.satisfactionlists.SatisfactionList;
 import seedu.duke.storage.AssignmentListFileManager;
 import seedu.duke.storage.RoomFileManager;
+import seedu.duke.storage.CorruptedSnapshotException;
 import seedu.duke.storage.EventListFileManager;
+import seedu.duke.storage.FileManager;
 import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.storage.JournalFileManager;
+import seedu.duke.storage.ReservationListFileManager;
 import seedu.duke.storage.SatisfactionListFileManager;
+import seedu.duke.storage.SnapshotConverter;
+import seedu.duke.storage.SnapshotFormat;
 import seedu.duke.storage.HousekeeperPerformanceFileManager;
 import seedu.duke.storage.HousekeeperFileManager;
 
 public class ListContainer {
+    private static final int NUMBER_OF_LOADER_THREADS = 4;
+    private static final long NANOSECONDS_PER_MILLISECOND = 1000000;
+    private static Logger listContainerLogger = Logger.getLogger("listContainerLogger");
+
     private HousekeeperList housekeeperList;
     private HousekeeperPerformanceList housekeeperPerformanceList;
     private SatisfactionList satisfactionList;
     private AssignmentMap assignmentMap;
     private RoomList roomList;
+    private ReservationList reservationList;
     private ItemList itemList;
     private EventList eventList;
 
     public ListContainer() throws IOException, HotelLiteManagerException {
-        satisfactionList = new SatisfactionList();
-        housekeeperList = new HousekeeperList();
-        housekeeperPerformanceList = new HousekeeperPerformanceList();
+        try {
+            SnapshotConverter snapshotConverter = new SnapshotConverter();
+            snapshotConverter.convertOtherFormatSnapshots(SnapshotFormat.getSelectedFormat());
+            JournalFileManager journalFileManager = new JournalFileManager();
+            journalFileManager.compact();
+        } catch (CorruptedSnapshotException e) {
+            listContainerLogger.log(Level.SEVERE, e.getMessage());
+            throw new CorruptedFileException(e.getSnapshotPath().toString());
+        }
+
+        ExecutorService loaderExecutor = Executors.newFixedThreadPool(NUMBER_OF_LOADER_THREADS);
+        try {
+            CompletableFuture<AssignmentMap> assignmentMapLoad = loadInBackground(loaderExecutor,
+                    new AssignmentListFileManager(), this::loadAssignmentMap);
+            CompletableFuture<RoomList> roomListLoad = loadInBackground(loaderExecutor,
+                    new RoomFileManager(), this::loadRoomList);
+            CompletableFuture<ReservationList> reservationListLoad = loadInBackground(loaderExecutor,
+                    new ReservationListFileManager(), () -> new ReservationListFileManager().load());
+            CompletableFuture<EventList> eventListLoad = loadInBackground(loaderExecutor,
+                    new EventListFileManager(), () -> new EventListFileManager().load());
+            CompletableFuture<ItemList> itemListLoad = loadInBackground(loaderExecutor,
+                    new ItemListFileManager(), () -> new ItemListFileManager().load());
+            CompletableFuture<HousekeeperList> housekeeperListLoad = loadInBackground(loaderExecutor,
+                    new HousekeeperFileManager(), () -> new HousekeeperFileManager().load());
+            CompletableFuture<HousekeeperPerformanceList> housekeeperPerformanceListLoad = loadInBackground(
+                    loaderExecutor, new HousekeeperPerformanceFileManager(),
+                    () -> new HousekeeperPerformanceFileManager().load());
+            CompletableFuture<SatisfactionList> satisfactionListLoad = loadInBackground(loaderExecutor,
+                    new SatisfactionListFileManager(), () -> new SatisfactionListFileManager().load());
+
+            assignmentMap = waitForLoad(assignmentMapLoad);
+            roomList = waitForLoad(roomListLoad);
+            reservationList = waitForLoad(reservationListLoad);
+            eventList = waitForLoad(eventListLoad);
+            itemList = waitForLoad(itemListLoad);
+            housekeeperList = waitForLoad(housekeeperListLoad);
+            housekeeperPerformanceList = waitForLoad(housekeeperPerformanceListLoad);
+            satisfactionList = waitForLoad(satisfactionListLoad);
+        } finally {
+            loaderExecutor.shutdown();
+        }
+
+        checkHousekeeperNames();
+        clearJournalBuffers();
+    }
+
+    /**
+     * Loads a list from its file on one of the loader threads and logs how long the file took to load.
+     *
+     * @param loaderExecutor The executor running the loader threads.
+     * @param fileManager    The file manager of the file the list is loaded from, used for logging.
+     * @param listLoader     The function that loads the list from its file.
+     * @return a future that completes with the loaded list.
+     */
+    private <T> CompletableFuture<T> loadInBackground(ExecutorService loaderExecutor, FileManager fileManager,
+                                                      ListLoader<T> listLoader) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            try {
+                T list = listLoader.load();
+                long loadTimeInMillis = (System.nanoTime() - startTime) / NANOSECONDS_PER_MILLISECOND;
+                listContainerLogger.log(Level.INFO, "Loaded " + fileManager.getFilePath() + " in "
+                        + loadTimeInMillis + " ms.");
+                return list;
+            } catch (IOException | HotelLiteManagerException e) {
+                throw new CompletionException(e);
+            }
+        }, loaderExecutor);
+    }
 
+    /**
+     * Waits for a list to finish loading, rethrowing the exception thrown while loading it if there was one.
+     */
+    private <T> T waitForLoad(CompletableFuture<T> listLoad) throws IOException, HotelLiteManagerException {
+        try {
+            return listLoad.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof HotelLiteManagerException) {
+                throw (HotelLiteManagerException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private AssignmentMap loadAssignmentMap() throws IOException, HotelLiteManagerException {
         AssignmentListFileManager assignmentListFileManager = new AssignmentListFileManager();
         HashMap<Integer,String> map = new HashMap<>();
         assignmentListFileManager.load(map);
-        assignmentMap = new AssignmentMap(map);
+        return new AssignmentMap(map);
+    }
 
+    private RoomList loadRoomList() throws IOException, HotelLiteManagerException {
         RoomFileManager roomFileManager = new RoomFileManager();
         ArrayList<Room> roomArrayList = new ArrayList<>();
         roomFileManager.load(roomArrayList);
-        roomList = new RoomList(roomArrayList);
-
-        EventListFileManager eventFileManager = new EventListFileManager();
-        ArrayList<Event> eventArrayList = new ArrayList<>();
-        eventFileManager.load(eventArrayList);
-        eventList = new EventList(eventArrayList);
-
-        ItemListFileManager itemListFileManager = new ItemListFileManager();
-        itemList = itemListFileManager.load();
+        return new RoomList(roomArrayList);
+    }
 
-        HousekeeperFileManager housekeeperFileManager = new HousekeeperFileManager();
-        housekeeperList = housekeeperFileManager.load();
+    /**
+     * Checks that the housekeepers named within the performance list and the assignments are still recorded within the
+     * housekeeper list. This can only be done once every list has finished loading. Records referring to housekeepers
+     * that have since been deleted are kept, but are logged.
+     */
+    private void checkHousekeeperNames() {
+        ArrayList<HousekeeperPerformance> performances = housekeeperPerformanceList.getHousekeeperPerformanceList();
+        for (HousekeeperPerformance housekeeperPerformance : performances) {
+            if (!housekeeperList.hasNameAdded(housekeeperPerformance.getName())) {
+                listContainerLogger.log(Level.WARNING, "Performance rating recorded for unknown housekeeper "
+                        + housekeeperPerformance.getName() + ".");
+            }
+        }
+        for (Map.Entry<Integer, String> assignment : assignmentMap.getAssignments().entrySet()) {
+            if (!housekeeperList.hasNameAdded(assignment.getValue())) {
+                listContainerLogger.log(Level.WARNING, "Room " + assignment.getKey()
+                        + " is assigned to unknown housekeeper " + assignment.getValue() + ".");
+            }
+        }
+    }
 
-        HousekeeperPerformanceFileManager housekeeperPerformanceFileManager = new HousekeeperPerformanceFileManager();
-        housekeeperPerformanceList = housekeeperPerformanceFileManager.load();
+    /**
+     * Discards the mutations recorded while the lists were being loaded from their files, since those records are
+     * already stored within the files.
+     */
+    private void clearJournalBuffers() {
+        assignmentMap.getJournalBuffer().clear();
+        roomList.getJournalBuffer().clear();
+        reservationList.getJournalBuffer().clear();
+        eventList.getJournalBuffer().clear();
+        itemList.getJournalBuffer().clear();
+        housekeeperList.getJournalBuffer().clear();
+        housekeeperPerformanceList.getJournalBuffer().clear();
+        satisfactionList.getJournalBuffer().clear();
+    }
 
-        SatisfactionListFileManager satisfactionListFileManager = new SatisfactionListFileManager();
-        satisfactionList = satisfactionListFileManager.load();
 
+    /**
+     * Loads a list from its file.
+     */
+    private interface ListLoader<T> {
+        T load() throws IOException, HotelLiteManagerException;
     }
 
-
     public HousekeeperList getHousekeeperList() {
         return housekeeperList;
     }
@@ -86,6 +219,10 @@ public class ListContainer {
         return roomList;
     }
 
+    public ReservationList getReservationList() {
+        return reservationList;
+    }
+
     public ItemList getItemList() {
         return itemList;
     }
@@ -0,0 +1,60 @@
+package seedu.duke;
+
+import seedu.duke.storage.AssignmentListFileManager;
+import seedu.duke.storage.EventListFileManager;
+import seedu.duke.storage.FileManager;
+import seedu.duke.storage.HousekeeperFileManager;
+import seedu.duke.storage.HousekeeperPerformanceFileManager;
+import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.storage.JournalBuffer;
+import seedu.duke.storage.ReservationListFileManager;
+import seedu.duke.storage.RoomFileManager;
+import seedu.duke.storage.SatisfactionListFileManager;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The lists kept within a ListContainer, each of which is saved to a file of its own. Commands declare the lists they
+ * read and modify with these values, so only the lists a command has modified are saved after it is executed.
+ */
+public enum ListType {
+    ROOMS(listContainer -> listContainer.getRoomList().getJournalBuffer(), RoomFileManager::new),
+    RESERVATIONS(listContainer -> listContainer.getReservationList().getJournalBuffer(),
+            ReservationListFileManager::new),
+    ASSIGNMENTS(listContainer -> listContainer.getAssignmentMap().getJournalBuffer(), AssignmentListFileManager::new),
+    EVENTS(listContainer -> listContainer.getEventList().getJournalBuffer(), EventListFileManager::new),
+    ITEMS(listContainer -> listContainer.getItemList().getJournalBuffer(), ItemListFileManager::new),
+    HOUSEKEEPERS(listContainer -> listContainer.getHousekeeperList().getJournalBuffer(), HousekeeperFileManager::new),
+    HOUSEKEEPER_PERFORMANCES(listContainer -> listContainer.getHousekeeperPerformanceList().getJournalBuffer(),
+            HousekeeperPerformanceFileManager::new),
+    SATISFACTIONS(listContainer -> listContainer.getSatisfactionList().getJournalBuffer(),
+            SatisfactionListFileManager::new);
+
+    private final Function<ListContainer, JournalBuffer> journalBufferGetter;
+    private final Supplier<FileManager> fileManagerFactory;
+
+    ListType(Function<ListContainer, JournalBuffer> journalBufferGetter, Supplier<FileManager> fileManagerFactory) {
+        this.journalBufferGetter = journalBufferGetter;
+        this.fileManagerFactory = fileManagerFactory;
+    }
+
+    /**
+     * Returns the journal buffer which records the modifications made to this list.
+     *
+     * @param listContainer The object containing the lists.
+     * @return the journal buffer of the list of this type within the list container.
+     */
+    public JournalBuffer getJournalBuffer(ListContainer listContainer) {
+        return journalBufferGetter.apply(listContainer);
+    }
+
+    /**
+     * Creates the file manager of the file this list is saved to.
+     *
+     * @return a new file manager for the list.
+     */
+    public FileManager createFileManager() {
+        return fileManagerFactory.get();
+    }
+}
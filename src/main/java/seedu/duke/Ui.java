@@ -6,12 +6,21 @@ import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
 import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
 import seedu.duke.itemlists.Item;
 import seedu.duke.itemlists.ItemList;
+import seedu.duke.roomlists.Reservation;
+import seedu.duke.roomlists.Room;
 import seedu.duke.eventlists.Event;
+import seedu.duke.eventlists.EventOccurrence;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.satisfactionlists.Satisfaction;
 import seedu.duke.satisfactionlists.SatisfactionList;
 
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Scanner;
 
 /**
@@ -49,17 +58,35 @@ public class Ui {
     public void printEventAdded(Event event) {
         System.out.println(MESSAGE_HEADER);
         System.out.println("I have added the following event in your list:");
-        System.out.println("\t" + event.toString());
+        System.out.println("\t#" + event.getId() + " " + event.toString());
         System.out.println(END_OF_MESSAGE_LINE);
     }
 
     public void printAllEvents(ArrayList<Event> events) {
         System.out.println(MESSAGE_HEADER);
         System.out.println("Here are all the events in your list:");
-        int j = 0;
         for (Event event : events) {
-            j = j + 1;
-            System.out.println("\t" + j + ". " + event.toString());
+            System.out.println("\t#" + event.getId() + " " + event.toString());
+        }
+        System.out.println(END_OF_MESSAGE_LINE);
+    }
+
+    /**
+     * Prints the occurrences of the events within a range of dates, reading each occurrence only as it is printed.
+     *
+     * @param heading     The line describing which occurrences are printed.
+     * @param occurrences The occurrences to print, in date order.
+     */
+    public void printEvents(String heading, Iterator<EventOccurrence> occurrences) {
+        System.out.println(MESSAGE_HEADER);
+        if (!occurrences.hasNext()) {
+            System.out.println("There are no events within the given dates.");
+        } else {
+            System.out.println(heading);
+            while (occurrences.hasNext()) {
+                EventOccurrence occurrence = occurrences.next();
+                System.out.println("\t#" + occurrence.getEvent().getId() + " " + occurrence.toString());
+            }
         }
         System.out.println(END_OF_MESSAGE_LINE);
     }
@@ -101,7 +128,21 @@ public class Ui {
     public void printEventDeleted(Event event) {
         System.out.println(MESSAGE_HEADER);
         System.out.println("I have deleted the following event from your list:");
-        System.out.println("\t" + event.toString());
+        System.out.println("\t#" + event.getId() + " " + event.toString());
+        System.out.println(END_OF_MESSAGE_LINE);
+    }
+
+    public void printReservationAdded(Reservation reservation) {
+        System.out.println(MESSAGE_HEADER);
+        System.out.println("I have added the following reservation:");
+        System.out.println("\t" + reservation.toString());
+        System.out.println(END_OF_MESSAGE_LINE);
+    }
+
+    public void printReservationCancelled(Reservation reservation) {
+        System.out.println(MESSAGE_HEADER);
+        System.out.println("I have cancelled the following reservation:");
+        System.out.println("\t" + reservation.toString());
         System.out.println(END_OF_MESSAGE_LINE);
     }
 
@@ -112,6 +153,30 @@ public class Ui {
         System.out.println(END_OF_MESSAGE_LINE);
     }
 
+    /**
+     * Prints the number of rooms assigned to each housekeeper by auto assign, together with the levels they cover.
+     *
+     * @param plan                 The rooms assigned to each housekeeper, from the lowest level to the highest.
+     * @param numberOfRooms        The number of occupied rooms that were assigned.
+     * @param numberOfHousekeepers The number of housekeepers available on the day.
+     * @param day                  The day the rooms were assigned for.
+     */
+    public void printAutoAssignment(Map<String, List<Room>> plan, int numberOfRooms, int numberOfHousekeepers,
+                                    DayOfWeek day) {
+        System.out.println(MESSAGE_HEADER);
+        System.out.println("Assigned " + numberOfRooms + " occupied room(s) to the " + numberOfHousekeepers
+                + " housekeeper(s) available on " + day.getDisplayName(TextStyle.FULL, Locale.ENGLISH) + ":");
+        for (Map.Entry<String, List<Room>> plannedRooms : plan.entrySet()) {
+            List<Room> rooms = plannedRooms.getValue();
+            int lowestLevel = rooms.get(0).getLevel();
+            int highestLevel = rooms.get(rooms.size() - 1).getLevel();
+            String levels = lowestLevel == highestLevel ? "level " + lowestLevel
+                    : "levels " + lowestLevel + " to " + highestLevel;
+            System.out.println("\t" + plannedRooms.getKey() + ": " + rooms.size() + " room(s) on " + levels);
+        }
+        System.out.println(END_OF_MESSAGE_LINE);
+    }
+
     /**
      * Prints out the error message associated with the exception that is passed into the function.
      *
@@ -158,6 +223,26 @@ public class Ui {
      * @param listOfItems The item list containing all the items in the inventory.
      */
     public void printItemList(ItemList listOfItems) {
+        printItemList(listOfItems, 0);
+    }
+
+    /**
+     * Prints out a page of the items found when searching the item list, followed by the page number and the number of
+     * items found.
+     *
+     * @param pageOfItems          The item list containing the items within the page.
+     * @param numberOfItemsSkipped The number of items found that are within the earlier pages.
+     * @param pageNumber           The page number of the page.
+     * @param numberOfPages        The number of pages of items found.
+     * @param numberOfItemsFound   The number of items found within all the pages.
+     */
+    public void printItemSearchPage(ItemList pageOfItems, int numberOfItemsSkipped, int pageNumber, int numberOfPages,
+                                    int numberOfItemsFound) {
+        printItemList(pageOfItems, numberOfItemsSkipped);
+        System.out.printf("Page %d of %d (%d items found).\n", pageNumber, numberOfPages, numberOfItemsFound);
+    }
+
+    private void printItemList(ItemList listOfItems, int numberOfItemsSkipped) {
         String itemName;
         int itemPax;
         Item currentItem;
@@ -174,7 +259,7 @@ public class Ui {
                 assert (itemPax >= 0) : "Assertion Failed! Pax of an item within the listOfItems is less than 0 !";
                 assert (!itemName.isEmpty()) : "Assertion Failed! The name of the item within the listOfItems is empty "
                         + "!";
-                currentListIndex = i + ARRAY_INDEX_OFFSET;
+                currentListIndex = i + ARRAY_INDEX_OFFSET + numberOfItemsSkipped;
                 System.out.printf("%d. Item Name: %s Item Pax: %d\n", currentListIndex, itemName, itemPax);
             }
         }
@@ -217,16 +302,22 @@ public class Ui {
     }
 
     /**
-     * Given the day interested from the user, this method will print the list of housekeeper available on the
-     * day of interest.
+     * Given the days interested from the user, this method will print the list of housekeeper available on every one
+     * of the days of interest.
      *
      * @param housekeeperPrintList Contains the list of housekeeper's profiles.
-     * @param dayInteger           The Day user is interested to know which housekeepers are available.
+     * @param dayIntegers          The Days user is interested to know which housekeepers are available on.
      */
-    public void printFoundHousekeeperList(ArrayList<Housekeeper> housekeeperPrintList, int dayInteger) {
-        String day = getDayInString(dayInteger);
+    public void printFoundHousekeeperList(ArrayList<Housekeeper> housekeeperPrintList, List<Integer> dayIntegers) {
+        StringBuilder days = new StringBuilder();
+        for (int dayInteger : dayIntegers) {
+            if (days.length() > 0) {
+                days.append(" & ");
+            }
+            days.append(getDayInString(dayInteger));
+        }
 
-        printMessage("=========== " + day + " List ===========");
+        printMessage("=========== " + days + " List ===========");
         if (housekeeperPrintList.isEmpty()) {
             printMessage("TAKE NOTE! NO ONE IS AVAILABLE!!");
         }
@@ -357,15 +448,73 @@ public class Ui {
                 + "of housekeeper performances.");
         System.out.printf("There are currently %d recorded housekeeper performances.\n",
                 housekeeperPerformanceList.getSize());
+        System.out.printf("%s now has a mean rating of %s.\n", housekeeperPerformance.getName().toUpperCase(),
+                housekeeperPerformance.getSummary());
+        System.out.printf("%s is ranked %d out of %d.\n", housekeeperPerformance.getName().toUpperCase(),
+                housekeeperPerformanceList.getRank(housekeeperPerformance.getName()),
+                housekeeperPerformanceList.getSize());
         System.out.println(END_OF_MESSAGE_LINE);
     }
 
+    /**
+     * Prints the names and performance ratings of the highest rated housekeepers, from the highest rating to the
+     * lowest.
+     *
+     * @param topPerformances The performances of the highest rated housekeepers.
+     */
+    public void printTopPerformers(List<HousekeeperPerformance> topPerformances) {
+        if (topPerformances.isEmpty()) {
+            System.out.println("There have not been any housekeeper performances recorded yet.");
+            return;
+        }
+        System.out.println("======== Top " + topPerformances.size() + " Housekeeper Performances ========");
+        int number = 1;
+        for (HousekeeperPerformance housekeeperPerformance : topPerformances) {
+            System.out.println(number + ". [ " + housekeeperPerformance.getName().toUpperCase() + " ]: "
+                    + housekeeperPerformance.getSummary());
+            number += 1;
+        }
+        System.out.println("============= End of the list =============");
+    }
+
+    /**
+     * Prints the number of customers who gave each satisfaction rating, from the highest rating to the lowest, along
+     * with their share of all the recorded satisfactions.
+     *
+     * @param satisfactionList The list of recorded customer satisfactions.
+     */
+    public void printSatisfactionDistribution(SatisfactionList satisfactionList) {
+        int numberOfSatisfactions = satisfactionList.getSize();
+        if (numberOfSatisfactions == 0) {
+            System.out.println("There have not been any customer satisfactions recorded yet.");
+            return;
+        }
+        System.out.println("======== Customer Satisfaction Distribution ========");
+        for (int value = SatisfactionList.MAX_SATISFACTION_VALUE; value >= SatisfactionList.MIN_SATISFACTION_VALUE;
+                value--) {
+            int count = satisfactionList.countSatisfactionsWithValue(value);
+            System.out.printf("%d: %d customer(s) (%.1f%%)\n", value, count, 100.0 * count / numberOfSatisfactions);
+        }
+        System.out.println("============= End of the list =============");
+    }
+
     public void printTableHeader() {
         System.out.println(LINE);
         System.out.println(TABLE_HEADER);
         System.out.println(LINE);
     }
 
+    /**
+     * Prints the header of a section of the vacancy summary.
+     *
+     * @param groupName The name of what the rooms within the section are grouped by.
+     */
+    public void printVacancySummaryHeader(String groupName) {
+        System.out.println(LINE);
+        System.out.println(String.format("%-15s%-15s%-15s", groupName, "Vacant", "Total"));
+        System.out.println(LINE);
+    }
+
     public void printNotedLine() {
         System.out.println("================ Noted! ===================");
     }
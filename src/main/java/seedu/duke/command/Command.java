@@ -2,14 +2,21 @@ package seedu.duke.command;
 
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.ListContainer;
+import seedu.duke.ListType;
 import seedu.duke.Ui;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Abstract class that generalizes all Commands.
  * Contains an abstract "execute" method and keeps track of
  * whether the program should exit.
+ *
+ * <p>The lists a command reads from and modifies are declared by annotating its class with {@link ListAccess}.
  */
 
 public abstract class Command {
@@ -31,5 +38,47 @@ public abstract class Command {
         return this.isExit;
     }
 
+    /**
+     * Returns the lists the command may modify, which are the lists to save after it is executed.
+     *
+     * @return the lists declared as modified by the command, or every list if the command declares nothing.
+     */
+    public Set<ListType> getModifiedLists() {
+        ListAccess listAccess = getClass().getAnnotation(ListAccess.class);
+        if (listAccess == null) {
+            return Collections.unmodifiableSet(EnumSet.allOf(ListType.class));
+        }
+        return Collections.unmodifiableSet(toSet(listAccess.modifies()));
+    }
+
+    /**
+     * Returns the lists the command reads from, including the lists it modifies.
+     *
+     * @return the lists declared as read or modified by the command, or every list if the command declares nothing.
+     */
+    public Set<ListType> getReadLists() {
+        ListAccess listAccess = getClass().getAnnotation(ListAccess.class);
+        if (listAccess == null) {
+            return Collections.unmodifiableSet(EnumSet.allOf(ListType.class));
+        }
+        EnumSet<ListType> readLists = toSet(listAccess.reads());
+        readLists.addAll(toSet(listAccess.modifies()));
+        return Collections.unmodifiableSet(readLists);
+    }
+
+    /**
+     * Returns whether the command leaves every list unchanged, so it may run at the same time as other commands that
+     * do not modify the lists it reads from.
+     *
+     * @return true if the command declares that it modifies no list.
+     */
+    public boolean isReadOnly() {
+        return getModifiedLists().isEmpty();
+    }
 
+    private static EnumSet<ListType> toSet(ListType[] listTypes) {
+        EnumSet<ListType> listTypeSet = EnumSet.noneOf(ListType.class);
+        listTypeSet.addAll(Arrays.asList(listTypes));
+        return listTypeSet;
+    }
 }
@@ -8,6 +8,7 @@ import seedu.duke.exceptions.InvalidHelpException;
 import java.io.IOException;
 import java.util.logging.Level;
 
+@ListAccess
 public class HelpCommand extends Command {
     private static final String line = "------------------------------------------\n";
     private static final String HELP_MESSAGE = "I am here to help! \n"
@@ -15,18 +16,22 @@ public class HelpCommand extends Command {
             + "\t 1. add satisfaction CUSTOMER_NAME / SATISFACTION_RATING \n"
             + "\t 2. view satisfactions \n"
             + "\t 3. view average satisfaction \n"
+            + "\t 4. view satisfaction distribution \n"
             + line
             + "For commands related with housekeepers, use following formats: \n"
             + "\t 1. add housekeeper NAME / AGE \n"
             + "\t 2. availability NAME / DAY(S) \n"
             + "\t 3. view recorded housekeepers \n"
             + "\t 4. delete housekeeper NAME \n"
-            + "\t 5. get available on DAY \n"
+            + "\t 5. get available on DAY(S) \n"
             + "\t 6. is a new week \n"
             + "\t 7. is a new year \n"
             + "\t 8. assign NAME / ROOM_NUMBER \n"
             + "\t 9. add performance HOUSEKEEPER_NAME / PERFORMANCE_RATING \n"
             + "\t 10. view performances \n"
+            + "\t 11. view assignments NAME \n"
+            + "\t 12. auto assign \n"
+            + "\t 13. view top performers K \n"
             + line
             + "For commands related with rooms, use following formats: \n"
             + "\t 1. check in ROOM_NUMBER \n"
@@ -35,6 +40,10 @@ public class HelpCommand extends Command {
             + "\t 4. check all room \n"
             + "\t 5. check level LEVEL_NUMBER \n"
             + "\t 6. check category CATEGORY \n"
+            + "\t 7. check vacancy summary \n"
+            + "\t 8. reserve ROOM_NUMBER / START_DATE / END_DATE \n"
+            + "\t 9. cancel reservation ROOM_NUMBER / START_DATE \n"
+            + "\t 10. find available [CATEGORY /] START_DATE / END_DATE \n"
             + line
             + "For commands related with inventory, use following formats:  \n"
             + "\t 1. add item ITEM NAME / PAX \n"
@@ -43,12 +52,15 @@ public class HelpCommand extends Command {
             + "\t 4. delete item NAME \n"
             + "\t 5. view all items \n"
             + "\t 6. view items with zero pax \n"
-            + "\t 7. search item KEYWORD \n"
+            + "\t 7. search item KEYWORD [/ PAGE] \n"
+            + "\t 8. view items with pax at most PAX \n"
             + line
             + "For commands related with events happening in the hotel, use following formats: \n"
-            + "\t 1. add event DESCRIPTION / DATE \n"
-            + "\t 2. delete event INDEX \n"
-            + "\t 3. view events";
+            + "\t 1. add event DESCRIPTION / DATE [/ FREQUENCY until END_DATE | / FREQUENCY for COUNT times] \n"
+            + "\t 2. delete event ID \n"
+            + "\t 3. view events \n"
+            + "\t 4. view events from START_DATE to END_DATE \n"
+            + "\t 5. view events next N days";
 
     public HelpCommand(String c) throws HotelLiteManagerException {
         if (!c.equals("")) {
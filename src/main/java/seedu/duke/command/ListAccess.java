@@ -0,0 +1,27 @@
+package seedu.duke.command;
+
+import seedu.duke.ListType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the lists a Command reads from and modifies when it is executed. Only the lists a command modifies are
+ * saved after it is executed, so every list the command may modify must be declared. A command without this
+ * annotation is taken to read from and modify every list.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ListAccess {
+    /**
+     * Returns the lists the command only reads from. The lists it modifies do not have to be repeated here.
+     */
+    ListType[] reads() default {};
+
+    /**
+     * Returns the lists the command may modify.
+     */
+    ListType[] modifies() default {};
+}
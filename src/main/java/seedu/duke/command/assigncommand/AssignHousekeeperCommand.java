@@ -11,8 +11,9 @@ import seedu.duke.exceptions.InvalidRoomNumberException;
 import seedu.duke.roomlists.RoomList;
 import seedu.duke.AssignmentMap;
 import seedu.duke.housekeeperlists.HousekeeperList;
-import seedu.duke.roomlists.Room;
 import seedu.duke.exceptions.InvalidHousekeeperNameException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 import java.util.logging.Level;
@@ -23,6 +24,7 @@ import java.util.logging.Logger;
  * Identifies the name of the housekeeper and assign to room id
  * housekeeper list.
  */
+@ListAccess(reads = {ListType.HOUSEKEEPERS, ListType.ROOMS}, modifies = ListType.ASSIGNMENTS)
 public class AssignHousekeeperCommand extends Command {
     private String name;
     private String roomID;
@@ -112,33 +114,19 @@ public class AssignHousekeeperCommand extends Command {
             throw new InvalidRoomNumberException();
         }
 
-        if (!isRoomIdValid(roomIdNumber, roomList)) {
+        if (!roomList.hasRoom(roomIdNumber)) {
             throw new InvalidRoomNumberException();
         }
 
 
         assignmentMap.addAssignment(name, roomIdNumber);
-        assignmentMap.save();
         ui.printAssignedHousekeeper(roomID, name);
         ui.printMessage("Assigned " + name + " to room no. " + roomID + ".");
         logger.log(Level.INFO, "end of processing");
     }
 
-    private boolean isRoomIdValid(int roomIdNumber, RoomList roomList) {
-        for (Room room : roomList.getRoomList()) {
-            if (room.getRoomId() == roomIdNumber) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean isNameExist(String name, HousekeeperList housekeeperList) {
-        for (Housekeeper housekeeper : housekeeperList.getHousekeeperList()) {
-            if (housekeeper.getName().equals(name)) {
-                return true;
-            }
-        }
-        return false;
+        Housekeeper housekeeper = housekeeperList.getHousekeeperByName(name);
+        return housekeeper != null && housekeeper.getName().equals(name);
     }
 }
@@ -0,0 +1,89 @@
+package seedu.duke.command.assigncommand;
+
+import seedu.duke.AssignmentMap;
+import seedu.duke.AssignmentPlanner;
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.NoAvailableHousekeeperException;
+import seedu.duke.housekeeperlists.Housekeeper;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
+import seedu.duke.roomlists.Room;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Assigns every occupied room to one of the housekeepers available today, sharing the rooms out as evenly as possible
+ * and keeping each housekeeper on adjacent levels.
+ */
+@ListAccess(reads = {ListType.HOUSEKEEPERS, ListType.HOUSEKEEPER_PERFORMANCES, ListType.ROOMS},
+        modifies = ListType.ASSIGNMENTS)
+public class AutoAssignCommand extends Command {
+    private static Logger logger = Logger.getLogger("Auto Assign");
+    private DayOfWeek day;
+
+    public AutoAssignCommand() {
+        this(LocalDate.now().getDayOfWeek());
+    }
+
+    public AutoAssignCommand(DayOfWeek day) {
+        this.day = day;
+    }
+
+    /**
+     * Plans the assignment of the occupied rooms to the housekeepers available on the day, then records the planned
+     * assignments that differ from the current ones. All of them are saved together once the command has finished.
+     *
+     * @param listContainer The object containing the necessary data structure.
+     * @param ui            The object that deals with user interface for the program.
+     * @throws HotelLiteManagerException if no housekeeper is available on the day.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException {
+        ArrayList<String> housekeeperNames = new ArrayList<>();
+        for (Housekeeper housekeeper : listContainer.getHousekeeperList().getAvailableHousekeeperByDay(
+                day.getValue())) {
+            housekeeperNames.add(housekeeper.getName());
+        }
+        if (housekeeperNames.isEmpty()) {
+            throw new NoAvailableHousekeeperException();
+        }
+        HashMap<String, Double> ratings = new HashMap<>();
+        for (HousekeeperPerformance performance
+                : listContainer.getHousekeeperPerformanceList().getHousekeeperPerformanceList()) {
+            ratings.put(performance.getName(), performance.getMeanRating());
+        }
+        List<Room> occupiedRooms = listContainer.getRoomList().getOccupiedRooms();
+        long startTime = System.nanoTime();
+        LinkedHashMap<String, List<Room>> plan = new AssignmentPlanner().plan(occupiedRooms, housekeeperNames,
+                ratings);
+        logger.log(Level.INFO, "Planned " + occupiedRooms.size() + " rooms for " + housekeeperNames.size()
+                + " housekeepers in " + (System.nanoTime() - startTime) / 1000 + " us.");
+
+        AssignmentMap assignmentMap = listContainer.getAssignmentMap();
+        for (Map.Entry<String, List<Room>> plannedRooms : plan.entrySet()) {
+            String name = plannedRooms.getKey();
+            for (Room room : plannedRooms.getValue()) {
+                if (!name.equals(assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))) {
+                    assignmentMap.addAssignment(name, room.getRoomId());
+                }
+            }
+        }
+        ui.printAutoAssignment(plan, occupiedRooms.size(), housekeeperNames.size(), day);
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.duke.command.assigncommand;
+
+import seedu.duke.AssignmentMap;
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.EmptyNameException;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidHousekeeperNameException;
+import seedu.duke.housekeeperlists.Housekeeper;
+import seedu.duke.roomlists.Room;
+import seedu.duke.roomlists.RoomList;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Lists the information of every room assigned to a housekeeper.
+ */
+@ListAccess(reads = {ListType.ASSIGNMENTS, ListType.HOUSEKEEPERS, ListType.ROOMS})
+public class ViewAssignmentsCommand extends Command {
+    private String name;
+
+    public ViewAssignmentsCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
+        name = commandStringWithoutCommand.trim();
+        if (name.isEmpty()) {
+            throw new EmptyNameException();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Prints the information of the rooms assigned to the housekeeper, from the lowest room number to the highest.
+     * The rooms are found through the rooms assigned to the housekeeper, without going through every assignment. A
+     * recorded housekeeper is looked up by the name they were recorded with, which may differ in case from the name
+     * given.
+     *
+     * @param listContainer The object containing the necessary data structure.
+     * @param ui            The object that deals with user interface for the program.
+     * @throws HotelLiteManagerException if no housekeeper by this name is recorded or assigned to any room.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException {
+        AssignmentMap assignmentMap = listContainer.getAssignmentMap();
+        RoomList roomList = listContainer.getRoomList();
+        Housekeeper housekeeper = listContainer.getHousekeeperList().getHousekeeperByName(name);
+        String assignedName = housekeeper == null ? name : housekeeper.getName();
+        Set<Integer> assignedRooms = assignmentMap.roomsOf(assignedName);
+        if (assignedRooms.isEmpty() && housekeeper == null) {
+            throw new InvalidHousekeeperNameException();
+        }
+        ArrayList<Integer> roomIds = new ArrayList<>(assignedRooms);
+        Collections.sort(roomIds);
+        ui.printMessage(assignedName + " is assigned to " + roomIds.size() + " room(s).");
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        ui.printTableHeader();
+        for (int roomId : roomIds) {
+            Room room = roomList.getRoomById(roomId);
+            if (room == null) {
+                continue;
+            }
+            System.out.println(room + String.format("%-30s", assignedName));
+        }
+    }
+}
@@ -14,13 +14,12 @@ import seedu.duke.exceptions.EmptySatisfactionCustomerException;
 import seedu.duke.exceptions.InvalidSatisfactionValueException;
 import seedu.duke.exceptions.InvalidSatisfactionCustomerNameException;
 import seedu.duke.exceptions.RepeatCustomerException;
-import seedu.duke.itemlists.ItemList;
 import seedu.duke.satisfactionlists.Satisfaction;
 import seedu.duke.satisfactionlists.SatisfactionList;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
-import seedu.duke.storage.ItemListFileManager;
-import seedu.duke.storage.SatisfactionListFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 
 /**
@@ -33,6 +32,7 @@ import seedu.duke.storage.SatisfactionListFileManager;
  * a satisfaction rating from1 to 5 inclusive.
  */
 
+@ListAccess(modifies = ListType.SATISFACTIONS)
 public class AddSatisfactionCommand extends Command {
     private static final String DELIMITER = "/";
     private Satisfaction satisfaction;
@@ -151,12 +151,6 @@ public class AddSatisfactionCommand extends Command {
         ui.printAddSatisfactionAcknowledgementMessage(satisfactionList, satisfaction);
     }
 
-    public void writeSatisfactionListToFile(ListContainer listContainer) throws IOException {
-        SatisfactionList satisfactionList = listContainer.getSatisfactionList();
-        SatisfactionListFileManager satisfactionListFileManager = new SatisfactionListFileManager();
-        satisfactionListFileManager.save(satisfactionList);
-    }
-
     public Satisfaction getSatisfaction() {
         return satisfaction;
     }
@@ -5,6 +5,8 @@ import seedu.duke.satisfactionlists.SatisfactionList;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
 import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Class that implements execution behavior for user command
@@ -14,6 +16,7 @@ import seedu.duke.exceptions.HotelLiteManagerException;
  * objects.
  */
 
+@ListAccess(reads = ListType.SATISFACTIONS)
 public class ViewAverageSatisfactionCommand extends Command {
 
     /**
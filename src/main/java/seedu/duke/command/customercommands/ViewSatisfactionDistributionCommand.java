@@ -0,0 +1,33 @@
+package seedu.duke.command.customercommands;
+
+import seedu.duke.ListContainer;
+import seedu.duke.satisfactionlists.SatisfactionList;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+/**
+ * Class that implements execution behavior for user command
+ * "view satisfaction distribution." Contains override of execution
+ * method in Command class that prints out how many customers gave
+ * each satisfaction rating from 1 to 5.
+ */
+
+@ListAccess(reads = ListType.SATISFACTIONS)
+public class ViewSatisfactionDistributionCommand extends Command {
+
+    /**
+     * Override of execute command in Command class.
+     * Prints out the number and share of customers who gave
+     * each satisfaction rating in the given satisfactionList.
+     *
+     * @param ui The user interface for this execution method.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        SatisfactionList satisfactionList = listContainer.getSatisfactionList();
+        ui.printSatisfactionDistribution(satisfactionList);
+    }
+
+}
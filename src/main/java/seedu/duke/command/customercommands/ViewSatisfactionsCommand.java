@@ -4,6 +4,8 @@ import seedu.duke.ListContainer;
 import seedu.duke.satisfactionlists.SatisfactionList;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Class that implements execution behavior for user command
@@ -13,6 +15,7 @@ import seedu.duke.command.Command;
  * corresponding customer name and satisfaction value).
  */
 
+@ListAccess(reads = ListType.SATISFACTIONS)
 public class ViewSatisfactionsCommand extends Command {
 
     /**
@@ -7,18 +7,24 @@ import seedu.duke.command.Command;
 import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.eventlists.EventList;
+import seedu.duke.eventlists.RecurrenceRule;
 import seedu.duke.exceptions.InvalidEventException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+@ListAccess(modifies = ListType.EVENTS)
 public class AddEventCommand extends Command {
     private String description;
     private String at;
+    private RecurrenceRule recurrence;
     private static final String REGEX = "[a-zA-Z0-9 ]*";
     private static final String EVENT_INDICATE = "/";
     private static final int NUMBER_OF_FIELDS = 2;
+    private static final int NUMBER_OF_FIELDS_WITH_RECURRENCE = 3;
     private static Logger logger = Logger.getLogger("Add Event");
 
     public AddEventCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
@@ -28,8 +34,8 @@ public class AddEventCommand extends Command {
         }
         String[] input = extractInput(commandStringWithoutCommand);
         String description = input[0].trim();
-        if (input.length != NUMBER_OF_FIELDS) {
-            logger.log(Level.INFO, "only one field entered");
+        if (input.length != NUMBER_OF_FIELDS && input.length != NUMBER_OF_FIELDS_WITH_RECURRENCE) {
+            logger.log(Level.INFO, "wrong number of fields entered");
             throw new InvalidEventException();
         }
 
@@ -44,6 +50,9 @@ public class AddEventCommand extends Command {
         if (!description.matches(REGEX)) {
             throw new InvalidDescriptionException();
         }
+        if (input.length == NUMBER_OF_FIELDS_WITH_RECURRENCE) {
+            recurrence = RecurrenceRule.parse(input[2]);
+        }
         setDescription(description);
         setAt(at);
         logger.log(Level.INFO, "Event command parsed");
@@ -81,6 +90,10 @@ public class AddEventCommand extends Command {
         this.at = at;
     }
 
+    public RecurrenceRule getRecurrence() {
+        return this.recurrence;
+    }
+
     /**
      * Get the Name of the housekeeper and verify that housekeeper is in records. If in records, add
      * his/her availability into housekeeper list.
@@ -98,9 +111,7 @@ public class AddEventCommand extends Command {
         String at = getAt();
         assert !at.isEmpty() : "at should not be empty";
 
-        eventList.add(description, at);
-        logger.log(Level.INFO, "about to add to file.");
-        eventList.save();
+        eventList.add(description, at, recurrence);
         logger.log(Level.INFO, "end of adding event.");
     }
 
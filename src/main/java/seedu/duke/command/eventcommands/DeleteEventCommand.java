@@ -7,13 +7,19 @@ import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.eventlists.EventList;
 import seedu.duke.exceptions.InvalidDeleteEventException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Represents a command to delete an event by its id, which stays the same however the list of events changes.
+ */
+@ListAccess(modifies = ListType.EVENTS)
 public class DeleteEventCommand extends Command {
-    private String index;
+    private String id;
     private static final String EVENT_INDICATE = "/";
     private static final int ONLY_ONE_FIELD_ENTERED = 1;
     private static Logger logger = Logger.getLogger("Add Event");
@@ -24,13 +30,13 @@ public class DeleteEventCommand extends Command {
             throw new InvalidDeleteEventException();
         }
         String[] input = extractInput(commandStringWithoutCommand);
-        String n = input[0].trim();
+        String id = input[0].trim();
         if (input.length != ONLY_ONE_FIELD_ENTERED) {
             logger.log(Level.INFO, "more than one field entered");
             throw new InvalidDeleteEventException();
         }
 
-        setIndex(n);
+        setId(id);
         logger.log(Level.INFO, "Event command parsed");
     }
 
@@ -46,33 +52,29 @@ public class DeleteEventCommand extends Command {
         return input;
     }
 
-    public String getIndex() {
-        return this.index;
+    public String getId() {
+        return this.id;
     }
 
-    public void setIndex(String index) {
-        this.index = index;
+    public void setId(String id) {
+        this.id = id;
     }
 
 
     /**
-     * Get the Name of the housekeeper and verify that housekeeper is in records. If in records, add
-     * his/her availability into housekeeper list.
+     * Deletes the event with the id given by the user from the list of events.
      *
      * @param ui The user interface for this execution method.
-     * @return
      */
     @Override
     public void execute(ListContainer listContainer, Ui ui)
             throws HotelLiteManagerException, IOException {
 
         final EventList eventList = listContainer.getEventList();
-        String n = getIndex();
-        assert !n.isEmpty() : "event number should not be empty";
+        String id = getId();
+        assert !id.isEmpty() : "event id should not be empty";
 
-        eventList.delete(n);
-        logger.log(Level.INFO, "about to update file.");
-        eventList.save();
+        eventList.delete(id);
         logger.log(Level.INFO, "end of deleting event.");
     }
 
@@ -0,0 +1,76 @@
+package seedu.duke.command.eventcommands;
+
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.command.Command;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.eventlists.EventOccurrence;
+import seedu.duke.eventlists.EventList;
+import seedu.duke.exceptions.InvalidViewEventsBetweenDatesException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to view the events from one date to another, both inclusive.
+ */
+@ListAccess(reads = ListType.EVENTS)
+public class ViewEventsBetweenDatesCommand extends Command {
+    private static final String DATE_SEPARATOR = " to ";
+    private static final int NUMBER_OF_FIELDS = 2;
+    private static Logger logger = Logger.getLogger("log: View events between dates.");
+    private LocalDate from;
+    private LocalDate to;
+
+    /**
+     * Takes in the user input and checks that it contains a valid range of dates.
+     *
+     * @param commandStringWithoutCommand The user's input, which should be in the format START_DATE to END_DATE.
+     * @throws HotelLiteManagerException if either date is missing or invalid, or the range ends before it starts.
+     */
+    public ViewEventsBetweenDatesCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
+        String[] input = commandStringWithoutCommand.split(DATE_SEPARATOR);
+        if (input.length != NUMBER_OF_FIELDS) {
+            throw new InvalidViewEventsBetweenDatesException();
+        }
+        try {
+            from = LocalDate.parse(input[0].trim());
+            to = LocalDate.parse(input[1].trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidViewEventsBetweenDatesException();
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidViewEventsBetweenDatesException();
+        }
+        logger.log(Level.INFO, "View events between dates command parsed");
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Prints out the events within the range of dates, in date order.
+     *
+     * @param listContainer The object containing the data structures necessary for viewing the events.
+     * @param ui            The object that deals with user interface for the program.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        final EventList eventList = listContainer.getEventList();
+        Stream<EventOccurrence> occurrences = eventList.getOccurrencesBetween(from, to);
+        ui.printEvents("Here are the events from " + from + " to " + to + ":", occurrences.iterator());
+        logger.log(Level.INFO, "log: events between dates displayed");
+    }
+
+}
@@ -8,11 +8,14 @@ import seedu.duke.Ui;
 import seedu.duke.eventlists.EventList;
 import seedu.duke.exceptions.InvalidViewEventException;
 import seedu.duke.exceptions.InvalidRoomNumberException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+@ListAccess(reads = ListType.EVENTS)
 public class ViewEventsCommand extends Command {
     private static Logger logger = Logger.getLogger("log: View events present in the list of events.");
 
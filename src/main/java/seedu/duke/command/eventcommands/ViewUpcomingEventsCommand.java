@@ -0,0 +1,71 @@
+package seedu.duke.command.eventcommands;
+
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.command.Command;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.eventlists.EventOccurrence;
+import seedu.duke.eventlists.EventList;
+import seedu.duke.exceptions.InvalidViewUpcomingEventsException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to view the events within a number of days, starting from today.
+ */
+@ListAccess(reads = ListType.EVENTS)
+public class ViewUpcomingEventsCommand extends Command {
+    private static final String DAYS = "days";
+    private static Logger logger = Logger.getLogger("log: View upcoming events.");
+    private int numberOfDays;
+
+    /**
+     * Takes in the user input and checks that it contains a valid number of days.
+     *
+     * @param commandStringWithoutCommand The user's input, which should be in the format N days.
+     * @throws HotelLiteManagerException if the number of days is missing, not an integer or lesser than 1.
+     */
+    public ViewUpcomingEventsCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
+        String input = commandStringWithoutCommand.trim();
+        if (!input.endsWith(DAYS)) {
+            throw new InvalidViewUpcomingEventsException();
+        }
+        input = input.substring(0, input.length() - DAYS.length());
+        try {
+            numberOfDays = Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidViewUpcomingEventsException();
+        }
+        if (numberOfDays < 1) {
+            throw new InvalidViewUpcomingEventsException();
+        }
+        logger.log(Level.INFO, "View upcoming events command parsed");
+    }
+
+    public int getNumberOfDays() {
+        return numberOfDays;
+    }
+
+    /**
+     * Prints out the events from today until the end of the last day of interest, in date order.
+     *
+     * @param listContainer The object containing the data structures necessary for viewing the events.
+     * @param ui            The object that deals with user interface for the program.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        final EventList eventList = listContainer.getEventList();
+        LocalDate today = LocalDate.now();
+        Stream<EventOccurrence> occurrences = eventList.getOccurrencesWithinDays(today, numberOfDays);
+        ui.printEvents("Here are the events in the next " + numberOfDays + " day(s), from " + today + ":",
+                occurrences.iterator());
+        logger.log(Level.INFO, "log: upcoming events displayed");
+    }
+
+}
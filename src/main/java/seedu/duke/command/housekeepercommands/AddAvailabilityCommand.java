@@ -7,7 +7,8 @@ import seedu.duke.exceptions.InvalidDayException;
 import seedu.duke.Ui;
 import seedu.duke.housekeeperlists.HousekeeperList;
 import seedu.duke.command.Command;
-import seedu.duke.storage.HousekeeperFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 import java.util.logging.Level;
@@ -18,6 +19,7 @@ import java.util.logging.Logger;
  * housekeeper list. An AddAvailabilityCommand object consists of the name of the housekeeper in list together with
  * their availabilities given. This can be used for updating or adding availabilities.
  */
+@ListAccess(modifies = ListType.HOUSEKEEPERS)
 public class AddAvailabilityCommand extends Command {
     private String name;
     private String availability;
@@ -191,16 +193,4 @@ public class AddAvailabilityCommand extends Command {
         ui.printMessage("Added " + name + " availability into records");
         ui.printBottomLine();
     }
-
-    /**
-     * This methods update the housekeeper's availability into the housekeeper file.
-     *
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException Write to file has failed.
-     */
-    public void writeAvailabilityToFile(ListContainer listContainer) throws IOException {
-        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
-        HousekeeperFileManager housekeeperFileManager = new HousekeeperFileManager();
-        housekeeperFileManager.save(housekeeperList);
-    }
 }
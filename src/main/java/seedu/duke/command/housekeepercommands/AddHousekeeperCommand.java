@@ -1,6 +1,5 @@
 package seedu.duke.command.housekeepercommands;
 
-import java.io.IOException;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -16,11 +15,13 @@ import seedu.duke.Ui;
 import seedu.duke.housekeeperlists.Housekeeper;
 import seedu.duke.housekeeperlists.HousekeeperList;
 import seedu.duke.command.Command;
-import seedu.duke.storage.HousekeeperFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Extract name and age of housekeeper from user input and record it into the housekeeper list.
  */
+@ListAccess(modifies = ListType.HOUSEKEEPERS)
 public class AddHousekeeperCommand extends Command {
     private static final int CONTAIN_ONE_SLASH_ONLY = 1;
     private static final String ADD_HOUSEKEEPER_COMMAND = "add housekeeper";
@@ -169,16 +170,4 @@ public class AddHousekeeperCommand extends Command {
         housekeeperList.addHousekeeperInList(getHousekeeper());
         ui.printHousekeeperNoted(housekeeper);
     }
-
-    /**
-     * This method updates the new profile into the file.
-     *
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException Write to file has failed.
-     */
-    public void writeHousekeeperToFile(ListContainer listContainer) throws IOException {
-        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
-        HousekeeperFileManager housekeeperFileManager = new HousekeeperFileManager();
-        housekeeperFileManager.save(housekeeperList);
-    }
 }
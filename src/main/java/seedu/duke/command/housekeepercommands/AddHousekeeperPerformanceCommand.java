@@ -13,24 +13,25 @@ import seedu.duke.exceptions.EmptyHousekeeperPerformanceRatingException;
 import seedu.duke.exceptions.EmptyHousekeeperPerformanceNameException;
 import seedu.duke.exceptions.InvalidHousekeeperPerformanceNameException;
 import seedu.duke.exceptions.InvalidHousekeeperPerformanceRatingException;
-import seedu.duke.exceptions.RepeatHousekeeperPerformanceNameException;
 import seedu.duke.exceptions.NonexistentHousekeeperException;
 import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
 import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
+import seedu.duke.housekeeperlists.Housekeeper;
 import seedu.duke.housekeeperlists.HousekeeperList;
 import seedu.duke.ListContainer;
 
 import seedu.duke.command.Command;
-import seedu.duke.satisfactionlists.SatisfactionList;
-import seedu.duke.storage.HousekeeperPerformanceFileManager;
-import seedu.duke.storage.SatisfactionListFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 
 /**
  * Represents a command to add a new HousekeeperPerformance object to the HousekeeperPerformanceList.
  * In other words, implements the user command of recording a housekeeper's name and their performance rating.
+ * A housekeeper may be rated any number of times, and every rating is kept in their rating history.
  */
 
+@ListAccess(reads = ListType.HOUSEKEEPERS, modifies = ListType.HOUSEKEEPER_PERFORMANCES)
 public class AddHousekeeperPerformanceCommand extends Command {
     private static Logger logger = Logger.getLogger("housekeeperPerformanceLogger");
     private static final String DELIMITER = "/";
@@ -136,8 +137,8 @@ public class AddHousekeeperPerformanceCommand extends Command {
 
     @Override
     /**
-     * Adds a new HousekeeperPerformance object to the HousekeeperPerformanceList using the
-     * housekeeper name and performance rating found in the housekeeperPerformance instance variable.
+     * Appends the performance rating found in the housekeeperPerformance instance variable to the rating history of
+     * the housekeeper within the HousekeeperPerformanceList.
      * Returns an acknowledgement message to inform the user that the performance has been recorded.
      *
      * @param listContainer The object containing the data structures necessary for recording a housekeeper's
@@ -150,19 +151,14 @@ public class AddHousekeeperPerformanceCommand extends Command {
         HousekeeperPerformanceList housekeeperPerformanceList = listContainer.getHousekeeperPerformanceList();
         HousekeeperList housekeeperList = listContainer.getHousekeeperList();
         // Checks if the user tries to add a housekeeper performance for a housekeeper not the HousekeeperList records
-        if (!housekeeperList.hasNameAdded(housekeeperPerformance.getName())) {
+        Housekeeper housekeeper = housekeeperList.getHousekeeperByName(housekeeperPerformance.getName());
+        if (housekeeper == null) {
             throw new NonexistentHousekeeperException();
-        } else if (housekeeperPerformanceList.isHousekeeperInPerformanceList(housekeeperPerformance.getName())) {
-            throw new RepeatHousekeeperPerformanceNameException();
         }
-        housekeeperPerformanceList.addHousekeeperPerformance(housekeeperPerformance);
-        ui.printAddHousekeeperPerformanceAcknowledgementMessage(housekeeperPerformanceList, housekeeperPerformance);
-    }
-
-    public void writeHousekeeperPerformanceListToFile(ListContainer listContainer) throws IOException {
-        HousekeeperPerformanceList housekeeperPerformanceList = listContainer.getHousekeeperPerformanceList();
-        HousekeeperPerformanceFileManager housekeeperPerformanceFileManager = new HousekeeperPerformanceFileManager();
-        housekeeperPerformanceFileManager.save(housekeeperPerformanceList);
+        // Ratings are kept under the name the housekeeper was recorded with, whatever the case of the name typed
+        HousekeeperPerformance recordedPerformance = housekeeperPerformanceList.addRating(
+                housekeeper.getName(), housekeeperPerformance.getRating(), housekeeperPerformance.getRatedAt(0));
+        ui.printAddHousekeeperPerformanceAcknowledgementMessage(housekeeperPerformanceList, recordedPerformance);
     }
 
 
@@ -10,12 +10,14 @@ import seedu.duke.Ui;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.command.Command;
 import seedu.duke.exceptions.InvalidNewYearException;
-import seedu.duke.storage.HousekeeperFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Represents a command to increase every housekeeper age by one and delete housekeeper whose age has exceeded age
  * limit.
  */
+@ListAccess(modifies = ListType.HOUSEKEEPERS)
 public class AgeIncreaseCommand extends Command {
     private static final String UPDATE_AGE_BY_ONE = "is a new year";
 
@@ -43,16 +45,4 @@ public class AgeIncreaseCommand extends Command {
         ui.printOverAgeList(overAgeHousekeeperList);
         housekeeperList.deleteOverAgeHousekeeper();
     }
-
-    /**
-     * This method updates all the age of housekeeper in records by one.
-     *
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException Write to has file failed.
-     */
-    public void writeAgeIncreaseToFile(ListContainer listContainer) throws IOException {
-        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
-        HousekeeperFileManager housekeeperFileManager = new HousekeeperFileManager();
-        housekeeperFileManager.save(housekeeperList);
-    }
 }
@@ -10,14 +10,17 @@ import seedu.duke.exceptions.DuplicateCommandException;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.Ui;
 import seedu.duke.exceptions.EmptyNameException;
+import seedu.duke.housekeeperlists.Housekeeper;
 import seedu.duke.housekeeperlists.HousekeeperList;
 import seedu.duke.AssignmentMap;
-import seedu.duke.storage.HousekeeperFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Represents a command to delete an existing housekeeper within the housekeeper list.
  * A DeleteHousekeeperCommand object consists of the name of the housekeeper to be deleted.
  */
+@ListAccess(modifies = {ListType.HOUSEKEEPERS, ListType.ASSIGNMENTS})
 public class DeleteHousekeeperCommand extends Command {
     private String name;
     private static final String DELETE_PROFILE_COMMAND = "delete housekeeper";
@@ -45,6 +48,8 @@ public class DeleteHousekeeperCommand extends Command {
 
     /**
      * Remove Housekeeper that is not active from the list and print out the total strength of housekeeper in the list.
+     * The rooms assigned to the housekeeper are unassigned by the name the housekeeper was recorded with, which may
+     * differ in case from the name given.
      *
      * @param listContainer List of information.
      * @param ui            The instance of the Ui class used for printing additional messages when a command
@@ -55,23 +60,10 @@ public class DeleteHousekeeperCommand extends Command {
     @Override
     public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException, IOException {
         HousekeeperList housekeeperList = listContainer.getHousekeeperList();
+        Housekeeper housekeeper = housekeeperList.getHousekeeperByName(name);
         housekeeperList.removeHousekeeperInList(name);
         AssignmentMap assignmentMap = listContainer.getAssignmentMap();
-        assignmentMap.removeAssignment(name);
-        assignmentMap.save();
-        ui.printNotifiedDeletionOfHousekeeper(housekeeperList, name);
-    }
-
-    /**
-     * After deletion of housekeeper, the housekeeper file has to be updated. This method will update
-     * by removing the housekeeper from the records.
-     *
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException Write to file has failed.
-     */
-    public void writeHousekeeperToFile(ListContainer listContainer) throws IOException {
-        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
-        HousekeeperFileManager housekeeperFileManager = new HousekeeperFileManager();
-        housekeeperFileManager.save(housekeeperList);
+        assignmentMap.unassignAll(housekeeper.getName());
+        ui.printNotifiedDeletionOfHousekeeper(housekeeperList, housekeeper.getName());
     }
 }
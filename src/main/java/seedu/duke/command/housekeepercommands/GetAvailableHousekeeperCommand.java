@@ -13,12 +13,18 @@ import seedu.duke.exceptions.EmptyDayException;
 import seedu.duke.housekeeperlists.HousekeeperList;
 import seedu.duke.exceptions.InvalidDayException;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
- * Number given from user to view list of housekeeper available on any day from Monday to Sunday.
+ * Number given from user to view list of housekeeper available on any day from Monday to Sunday. Several days may be
+ * given, separated by commas, to view the housekeepers available on every one of those days.
  */
+@ListAccess(reads = ListType.HOUSEKEEPERS)
 public class GetAvailableHousekeeperCommand extends Command {
     private int searchDay;
+    private ArrayList<Integer> searchDays = new ArrayList<>();
+    private int searchDaysMask = 0;
     private static Logger logger = Logger.getLogger("housekeeperLogger");
     private static final int MONDAY_INDICATE = 1;
     private static final int SUNDAY_INDICATE = 7;
@@ -33,7 +39,15 @@ public class GetAvailableHousekeeperCommand extends Command {
             logger.log(Level.WARNING, "Duplicated command.");
             throw new DuplicateCommandException();
         }
-        searchDay = checkCorrectDayGiven(commandStringWithoutCommand);
+        for (String dayGiven : commandStringWithoutCommand.split(",")) {
+            int day = checkCorrectDayGiven(dayGiven);
+            int dayBit = Housekeeper.toDayBit(day);
+            if ((searchDaysMask & dayBit) == 0) {
+                searchDaysMask |= dayBit;
+                searchDays.add(day);
+            }
+        }
+        searchDay = searchDays.get(0);
         assert (searchDay >= MONDAY_INDICATE & searchDay <= SUNDAY_INDICATE) : "Input day incorrect range.";
     }
 
@@ -64,8 +78,13 @@ public class GetAvailableHousekeeperCommand extends Command {
         return searchDay;
     }
 
+    public ArrayList<Integer> getSearchDays() {
+        return searchDays;
+    }
+
     /**
-     * Method will derive all housekeeper available on the day given by the user in an list.
+     * Method will derive all housekeeper available on the days given by the user in an list. The housekeepers
+     * available on several days are found by intersecting the housekeepers available on each of the days.
      *
      * @param listContainer The object containing the lists to update depending on the command inputted by the user.
      * @param ui            The instance of the Ui class used for printing additional messages
@@ -74,7 +93,7 @@ public class GetAvailableHousekeeperCommand extends Command {
     @Override
     public void execute(ListContainer listContainer, Ui ui) {
         HousekeeperList housekeeperList = listContainer.getHousekeeperList();
-        ArrayList<Housekeeper> foundList = housekeeperList.getAvailableHousekeeperByDay(searchDay);
-        ui.printFoundHousekeeperList(foundList, searchDay);
+        ArrayList<Housekeeper> foundList = housekeeperList.getAvailableHousekeeperOnAllDays(searchDaysMask);
+        ui.printFoundHousekeeperList(foundList, searchDays);
     }
 }
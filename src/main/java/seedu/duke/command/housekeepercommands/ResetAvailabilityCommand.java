@@ -6,13 +6,15 @@ import seedu.duke.Ui;
 import seedu.duke.command.Command;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.InvalidNewWeekException;
-import seedu.duke.storage.HousekeeperFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 
 /**
  * Reset availability of each housekeeper when needed such as a start of a new week.
  */
+@ListAccess(modifies = ListType.HOUSEKEEPERS)
 public class ResetAvailabilityCommand extends Command {
     private static final String RESET_AVAILABILITY = "is a new week";
 
@@ -36,17 +38,4 @@ public class ResetAvailabilityCommand extends Command {
         housekeeperList.resetAvailability();
         ui.printHousekeeperListReset(housekeeperList);
     }
-
-    /**
-     * After all housekeeper's availability has been reset, this method will update the file and resets
-     * every housekeeper availability.
-     *
-     * @param listContainer The object containing the lists to update depending on the command inputted by the user.
-     * @throws IOException Failed to write to file.
-     */
-    public void writeHousekeeperToFile(ListContainer listContainer) throws IOException {
-        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
-        HousekeeperFileManager housekeeperFileManager = new HousekeeperFileManager();
-        housekeeperFileManager.save(housekeeperList);
-    }
 }
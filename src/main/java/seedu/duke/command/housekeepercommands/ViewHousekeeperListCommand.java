@@ -6,7 +6,10 @@ import seedu.duke.Ui;
 import seedu.duke.exceptions.InvalidViewHousekeeperException;
 import seedu.duke.housekeeperlists.HousekeeperList;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
+@ListAccess(reads = ListType.HOUSEKEEPERS)
 public class ViewHousekeeperListCommand extends Command {
     private static final String VIEW_HOUSEKEEPER_COMMAND = "view recorded housekeepers";
 
@@ -5,12 +5,15 @@ import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
 import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Represents a command to view the list of housekeeper performances.
  * The user command is "view housekeeper performances."
  */
 
+@ListAccess(reads = ListType.HOUSEKEEPER_PERFORMANCES)
 public class ViewHousekeeperPerformancesCommand extends Command {
 
     @Override
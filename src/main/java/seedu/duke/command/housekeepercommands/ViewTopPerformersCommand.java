@@ -0,0 +1,58 @@
+package seedu.duke.command.housekeepercommands;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidViewTopPerformersException;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.util.List;
+
+/**
+ * Represents a command to view the housekeepers with the highest performance ratings. A ViewTopPerformersCommand
+ * object consists of the number of housekeepers to view.
+ */
+@ListAccess(reads = ListType.HOUSEKEEPER_PERFORMANCES)
+public class ViewTopPerformersCommand extends Command {
+    private int numberOfPerformers;
+
+    /**
+     * Takes in the user input and checks if the number of housekeepers within the user input is valid.
+     *
+     * @param userInput The user's input, which should only contain the number of housekeepers to view.
+     * @throws HotelLiteManagerException if the number is missing, not an integer or lesser than 1.
+     */
+    public ViewTopPerformersCommand(String userInput) throws HotelLiteManagerException {
+        try {
+            numberOfPerformers = Integer.parseInt(userInput.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidViewTopPerformersException();
+        }
+        if (numberOfPerformers < 1) {
+            throw new InvalidViewTopPerformersException();
+        }
+    }
+
+    public int getNumberOfPerformers() {
+        return numberOfPerformers;
+    }
+
+    /**
+     * Prints out the names and performance ratings of the highest rated housekeepers, from the highest rating to the
+     * lowest. Only the performances printed are read from the list of housekeeper performances.
+     *
+     * @param listContainer The object containing the data structures necessary for viewing the performances.
+     * @param ui            The object that deals with user interface for the program.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        HousekeeperPerformanceList housekeeperPerformanceList = listContainer.getHousekeeperPerformanceList();
+        List<HousekeeperPerformance> topPerformances =
+                housekeeperPerformanceList.getTopPerformances(numberOfPerformers);
+        ui.printTopPerformers(topPerformances);
+    }
+}
@@ -13,9 +13,9 @@ import seedu.duke.itemlists.Item;
 import seedu.duke.itemlists.ItemList;
 import seedu.duke.Ui;
 import seedu.duke.ListContainer;
-import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
-import java.io.IOException;
 import java.util.StringTokenizer;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -24,6 +24,7 @@ import java.util.logging.Level;
  * Represents a command to add a new item to the item list. An AddItemCommand object consists of the name of the item
  * to add as well as its pax.
  */
+@ListAccess(modifies = ListType.ITEMS)
 public class AddItemCommand extends Command {
     private static final String DELIMITER = "/";
     private static final int NUMBER_OF_PARTS_IN_COMMAND = 2;
@@ -138,19 +139,6 @@ public class AddItemCommand extends Command {
         ui.printAddItemAcknowledgementMessage(listOfItems);
     }
 
-    /**
-     * Updates the item list saved within the file ListFolder/ItemList.txt with the current item list.
-     *
-     * @param listContainer The object containing the data structure necessary for adding an item into the item list.
-     *                      In this case, we require access to the ItemList object which is within listContainer.
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
-     */
-    public void writeItemListToFile(ListContainer listContainer) throws IOException {
-        ItemList listOfItems = listContainer.getItemList();
-        ItemListFileManager itemListFileManager = new ItemListFileManager();
-        itemListFileManager.save(listOfItems);
-    }
-
     public Item getItem() {
         return item;
     }
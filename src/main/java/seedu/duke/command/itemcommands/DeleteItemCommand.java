@@ -9,9 +9,9 @@ import seedu.duke.exceptions.EmptyItemNameException;
 import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.itemlists.ItemList;
-import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +19,7 @@ import java.util.logging.Logger;
  * Represents a command to delete an existing item within the item list. A DeleteItemCommand object consists of the
  * name of the item to delete.
  */
+@ListAccess(modifies = ListType.ITEMS)
 public class DeleteItemCommand extends Command {
     private Item item;
     private static final String DELETE_ITEM_COMMAND = "delete item";
@@ -79,18 +80,4 @@ public class DeleteItemCommand extends Command {
         listOfItems.deleteItemInList(itemToDelete);
         ui.printDeleteItemAcknowledgementMessage(itemToDelete, listOfItems);
     }
-
-    /**
-     * Updates the item list saved within the file ListFolder/ItemList.txt with the current item list.
-     *
-     * @param listContainer The object containing the data structure necessary to delete items from the item
-     *                      list.
-     *                      In this case, we require access to the ItemList object which is within listContainer.
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
-     */
-    public void writeItemListToFile(ListContainer listContainer) throws IOException {
-        ItemList listOfItems = listContainer.getItemList();
-        ItemListFileManager itemListFileManager = new ItemListFileManager();
-        itemListFileManager.save(listOfItems);
-    }
 }
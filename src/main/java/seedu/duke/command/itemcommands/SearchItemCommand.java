@@ -7,18 +7,27 @@ import seedu.duke.exceptions.EmptyKeywordException;
 import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.exceptions.InvalidSearchItemException;
+import seedu.duke.exceptions.InvalidSearchPageException;
 import seedu.duke.itemlists.ItemList;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Represents a command to search for items within the item list that matches a specific keyword. An SearchItemCommand
- * object consists of the keyword used to search for items within the item list.
+ * object consists of the keyword used to search for items within the item list, and optionally the page of the search
+ * results to display.
  */
+@ListAccess(reads = ListType.ITEMS)
 public class SearchItemCommand extends Command {
     private String keyword;
+    private int pageNumber = ALL_PAGES;
+    private static final int ALL_PAGES = 0;
+    public static final int ITEMS_PER_PAGE = 20;
     private static final String SEARCH_ITEM_COMMAND = "search item";
+    private static final String PAGE_SEPARATOR = "/";
     private static Logger itemLogger = Logger.getLogger("itemLogger");
 
     /**
@@ -27,7 +36,8 @@ public class SearchItemCommand extends Command {
      * Takes the user input and creates a SearchItemCommand object using it.
      *
      * @param userInput The user's input.
-     * @throws HotelLiteManagerException if the keyword is empty or if the string userInput contains "search item".
+     * @throws HotelLiteManagerException if the keyword is empty, if the string userInput contains "search item" or if
+     *                                   the page number given is not a positive integer.
      */
     public SearchItemCommand(String userInput) throws HotelLiteManagerException {
         if (!userInput.startsWith(" ")) {
@@ -35,6 +45,11 @@ public class SearchItemCommand extends Command {
         }
 
         String keyword = userInput.trim();
+        if (keyword.contains(PAGE_SEPARATOR)) {
+            int separatorIndex = keyword.indexOf(PAGE_SEPARATOR);
+            setPageNumber(extractPageNumber(keyword.substring(separatorIndex + 1)));
+            keyword = keyword.substring(0, separatorIndex).trim();
+        }
         if (keyword.contains(SEARCH_ITEM_COMMAND)) {
             itemLogger.log(Level.WARNING, "Repeated search item command given.");
             throw new DuplicateCommandException();
@@ -47,11 +62,25 @@ public class SearchItemCommand extends Command {
         setKeyword(keyword);
     }
 
+    private int extractPageNumber(String pageNumberInput) throws InvalidSearchPageException {
+        int pageNumber;
+        try {
+            pageNumber = Integer.parseInt(pageNumberInput.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidSearchPageException();
+        }
+        if (pageNumber <= 0) {
+            throw new InvalidSearchPageException();
+        }
+        return pageNumber;
+    }
+
     /**
      * Searches the item list for items whose name contains the keyword specified by the user.
      * Prints out all the items whose name contains the keyword specified by the user.
      * If no items are found, a message informing the user that there are no item in the item list whose name contains
      * the keyword would be displayed.
+     * If a page number was given, only the items within that page of the search results are printed.
      *
      * @param listContainer The object containing the data structure necessary to search for items within the item
      *                      list.
@@ -62,13 +91,27 @@ public class SearchItemCommand extends Command {
     public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException {
         ItemList listOfItems = listContainer.getItemList();
         String keyword = getKeyword();
-        ItemList listOfMatchingItems = listOfItems.findItemsInList(keyword);
-        int numberOfItemsFound = listOfMatchingItems.getSize();
+        if (pageNumber == ALL_PAGES) {
+            ItemList listOfMatchingItems = listOfItems.findItemsInList(keyword);
+            if (listOfMatchingItems.getSize() == 0) {
+                ui.printNoItemsFoundInListAcknowledgementMessage();
+            } else {
+                ui.printItemList(listOfMatchingItems);
+            }
+            return;
+        }
+        int numberOfItemsFound = listOfItems.countItemsInList(keyword);
         if (numberOfItemsFound == 0) {
             ui.printNoItemsFoundInListAcknowledgementMessage();
-        } else {
-            ui.printItemList(listOfMatchingItems);
+            return;
         }
+        int numberOfPages = (numberOfItemsFound + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE;
+        if (pageNumber > numberOfPages) {
+            throw new InvalidSearchPageException();
+        }
+        int numberToSkip = (pageNumber - 1) * ITEMS_PER_PAGE;
+        ItemList pageOfMatchingItems = listOfItems.findItemsInList(keyword, numberToSkip, ITEMS_PER_PAGE);
+        ui.printItemSearchPage(pageOfMatchingItems, numberToSkip, pageNumber, numberOfPages, numberOfItemsFound);
     }
 
     public String getKeyword() {
@@ -78,4 +121,12 @@ public class SearchItemCommand extends Command {
     public void setKeyword(String keyword) {
         this.keyword = keyword;
     }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public void setPageNumber(int pageNumber) {
+        this.pageNumber = pageNumber;
+    }
 }
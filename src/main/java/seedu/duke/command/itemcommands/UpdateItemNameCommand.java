@@ -12,9 +12,9 @@ import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.itemlists.Item;
 import seedu.duke.itemlists.ItemList;
-import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
-import java.io.IOException;
 import java.util.StringTokenizer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,6 +24,7 @@ import java.util.logging.Logger;
  * A UpdateItemNameCommand object consists of the name of the item which the user wants to update (oldItemName) and the
  * name the user wants to update the item to (newItemName).
  */
+@ListAccess(modifies = ListType.ITEMS)
 public class UpdateItemNameCommand extends Command {
     private static final String DELIMITER = "/";
     private Item item;
@@ -143,18 +144,4 @@ public class UpdateItemNameCommand extends Command {
         newItemName = newItemName.toUpperCase();
         ui.printUpdateItemNameAcknowledgementMessage(oldItemName, newItemName);
     }
-
-    /**
-     * Updates the item list saved within the file ListFolder/ItemList.txt.
-     *
-     * @param listContainer The object containing the data structure necessary for updating the name of an item within
-     *                      the item list.
-     *                      In this case, we require access to the ItemList object which is within listContainer.
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
-     */
-    public void writeItemListToFile(ListContainer listContainer) throws IOException {
-        ItemList listOfItems = listContainer.getItemList();
-        ItemListFileManager itemListFileManager = new ItemListFileManager();
-        itemListFileManager.save(listOfItems);
-    }
 }
@@ -12,10 +12,10 @@ import seedu.duke.itemlists.Item;
 import seedu.duke.itemlists.ItemList;
 import seedu.duke.Ui;
 import seedu.duke.ListContainer;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
-import seedu.duke.storage.ItemListFileManager;
 
-import java.io.IOException;
 import java.util.StringTokenizer;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -24,6 +24,7 @@ import java.util.logging.Level;
  * Represents a command to update the pax of an item within the item list. An UpdateItemPaxCommand object consists of
  * the name of the item to update and the new pax value.
  */
+@ListAccess(modifies = ListType.ITEMS)
 public class UpdateItemPaxCommand extends Command {
     private Item item;
     private static final String DELIMITER = "/";
@@ -136,20 +137,6 @@ public class UpdateItemPaxCommand extends Command {
         ui.printUpdateItemPaxAcknowledgementMessage(item);
     }
 
-    /**
-     * Updates the item list saved within the file ListFolder/ItemList.txt.
-     *
-     * @param listContainer The object containing the data structure necessary for updating the name of an item within
-     *                      the item list.
-     *                      In this case, we require access to the ItemList object which is within listContainer.
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
-     */
-    public void writeItemListToFile(ListContainer listContainer) throws IOException {
-        ItemList listOfItems = listContainer.getItemList();
-        ItemListFileManager itemListFileManager = new ItemListFileManager();
-        itemListFileManager.save(listOfItems);
-    }
-
     public Item getItem() {
         return item;
     }
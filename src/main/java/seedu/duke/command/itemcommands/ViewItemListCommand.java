@@ -6,10 +6,13 @@ import seedu.duke.Ui;
 import seedu.duke.itemlists.ItemList;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.InvalidViewItemsCommandException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Represents a command to view all the items currently within the item list.
  */
+@ListAccess(reads = ListType.ITEMS)
 public class ViewItemListCommand extends Command {
     /**
      * Takes in the user input and checks if the formatting of the view item list command within the user input is
@@ -0,0 +1,68 @@
+package seedu.duke.command.itemcommands;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidViewItemsWithLowPaxCommandException;
+import seedu.duke.itemlists.ItemList;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+/**
+ * Represents a command to view all the items currently within the item list whose pax is at most a given pax, so that
+ * items which are running low can be restocked. A ViewItemsWithLowPaxCommand object consists of the highest pax of the
+ * items to view.
+ */
+@ListAccess(reads = ListType.ITEMS)
+public class ViewItemsWithLowPaxCommand extends Command {
+    private int maximumPax;
+
+    /**
+     * Takes in the user input and checks if the pax within the user input is valid.
+     * Takes the user input and creates a ViewItemsWithLowPaxCommand object using it.
+     *
+     * @param userInput The user's input, which should only contain the highest pax of the items to view.
+     * @throws HotelLiteManagerException if the pax is missing, not an integer or lesser than 0.
+     */
+    public ViewItemsWithLowPaxCommand(String userInput) throws HotelLiteManagerException {
+        int maximumPax;
+        try {
+            maximumPax = Integer.parseInt(userInput.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidViewItemsWithLowPaxCommandException();
+        }
+        if (maximumPax < 0) {
+            throw new InvalidViewItemsWithLowPaxCommandException();
+        }
+        setMaximumPax(maximumPax);
+    }
+
+    /**
+     * Prints out the item name and pax of the items within the item list whose pax is at most the given pax, from the
+     * lowest pax to the highest pax.
+     *
+     * @param listContainer The object containing the data structures necessary for viewing the items within the
+     *                      item list. In this case, we require access to the ItemList object which is within
+     *                      listContainer.
+     * @param ui            The object that deals with user interface for the program.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        ItemList listOfItems = listContainer.getItemList();
+        ItemList listOfItemsWithLowPax = listOfItems.findItemsWithPaxAtMost(getMaximumPax());
+        if (listOfItemsWithLowPax.getSize() == 0) {
+            ui.printNoItemsFoundInListAcknowledgementMessage();
+            return;
+        }
+        ui.printItemList(listOfItemsWithLowPax);
+    }
+
+    public int getMaximumPax() {
+        return maximumPax;
+    }
+
+    public void setMaximumPax(int maximumPax) {
+        this.maximumPax = maximumPax;
+    }
+}
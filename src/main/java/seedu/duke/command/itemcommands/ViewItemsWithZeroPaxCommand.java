@@ -6,10 +6,13 @@ import seedu.duke.itemlists.ItemList;
 import seedu.duke.ListContainer;
 import seedu.duke.Ui;
 import seedu.duke.exceptions.InvalidViewItemsWithZeroPaxCommandException;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Represents a command to view all the items currently within the item list that have a pax of zero.
  */
+@ListAccess(reads = ListType.ITEMS)
 public class ViewItemsWithZeroPaxCommand extends Command {
     /**
      * Takes in the user input and checks if the formatting of the search item command within the user input is
@@ -0,0 +1,56 @@
+package seedu.duke.command.roomcommand;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidReservationException;
+import seedu.duke.exceptions.InvalidRoomNumberException;
+import seedu.duke.roomlists.Reservation;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.time.LocalDate;
+
+/**
+ * Class that cancels the reservation of a room starting on a given date.
+ */
+@ListAccess(modifies = ListType.RESERVATIONS)
+public class CancelReservationCommand extends Command {
+    private static final String SEPARATOR = "/";
+    private static final int NUMBER_OF_FIELDS = 2;
+    private int roomId;
+    private LocalDate startDate;
+
+    /**
+     * Extracts the room number and the start date of the reservation from user input.
+     *
+     * @param commandStringWithoutCommand contains the room number and start date, separated by "/".
+     * @throws HotelLiteManagerException if either field is missing or invalid.
+     */
+    public CancelReservationCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
+        String[] fields = commandStringWithoutCommand.split(SEPARATOR, -1);
+        if (fields.length != NUMBER_OF_FIELDS) {
+            throw new InvalidReservationException();
+        }
+        if (!RoomHelper.isValidIntNumber(fields[0].trim())) {
+            throw new InvalidRoomNumberException();
+        }
+        roomId = Integer.parseInt(fields[0].trim());
+        startDate = RoomHelper.parseDate(fields[1]);
+    }
+
+    /**
+     * Override of execute command in Command class.
+     * Cancels the reservation of the room with corresponding room number starting on the start date.
+     *
+     * @param listContainer The object containing the necessary data structure.
+     * @param ui            The object that deals with user interface for the program.
+     * @throws HotelLiteManagerException if the room has no reservation starting on the start date.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException {
+        Reservation reservation = listContainer.getReservationList().cancel(roomId, startDate);
+        ui.printReservationCancelled(reservation);
+    }
+}
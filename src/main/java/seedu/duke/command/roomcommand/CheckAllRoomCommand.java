@@ -6,12 +6,15 @@ import seedu.duke.roomlists.Room;
 import seedu.duke.roomlists.RoomList;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 
 /**
  * Class that implements execution behavior for listing all room.
  * information with its type, room id, level and vacancy status.
  */
+@ListAccess(reads = {ListType.ROOMS, ListType.ASSIGNMENTS})
 public class CheckAllRoomCommand extends Command {
     private RoomList roomList;
 
@@ -9,6 +9,8 @@ import seedu.duke.AssignmentMap;
 import seedu.duke.roomlists.Room;
 import seedu.duke.exceptions.InvalidRoomNumberException;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 import java.io.IOException;
 
@@ -17,6 +19,7 @@ import java.io.IOException;
  * of the room to be occupied.
  */
 
+@ListAccess(reads = ListType.ASSIGNMENTS, modifies = ListType.ROOMS)
 public class CheckInCommand extends Command {
     RoomList roomList;
     int roomId;
@@ -36,21 +39,18 @@ public class CheckInCommand extends Command {
     public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException, IOException {
         this.roomList = listContainer.getRoomList();
         AssignmentMap assignmentMap = listContainer.getAssignmentMap();
-        for (Room room : roomList.getRoomList()) {
-            if (room.getRoomId() == roomId) {
-                if (!room.getIsVacant()) {
-                    throw new RoomAlrOccupiedException();
-                }
-                room.checkIn();
-                ui.printTableHeader();
-                System.out.println(room
-                        + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
-                );
-                return;
-            }
+        Room room = roomList.getRoomById(roomId);
+        if (room == null) {
+            throw new InvalidRoomNumberException();
         }
-
-        throw new InvalidRoomNumberException();
+        if (!room.getIsVacant()) {
+            throw new RoomAlrOccupiedException();
+        }
+        roomList.checkInRoom(room);
+        ui.printTableHeader();
+        System.out.println(room
+                + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
+        );
     }
 
     /**
@@ -11,11 +11,14 @@ import seedu.duke.AssignmentMap;
 import seedu.duke.roomlists.Room;
 import seedu.duke.exceptions.InvalidRoomNumberException;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Class that checks out a room with corresponding room number
  * and changes its status to be vacant.
  */
+@ListAccess(reads = ListType.ASSIGNMENTS, modifies = ListType.ROOMS)
 public class CheckOutCommand extends Command {
     RoomList roomList;
     int roomId;
@@ -35,20 +38,18 @@ public class CheckOutCommand extends Command {
     public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException, IOException {
         this.roomList = listContainer.getRoomList();
         AssignmentMap assignmentMap = listContainer.getAssignmentMap();
-        for (Room room : roomList.getRoomList()) {
-            if (room.getRoomId() == roomId) {
-                if (room.getIsVacant()) {
-                    throw new RoomAlrVacantException();
-                }
-                room.checkOut();
-                ui.printTableHeader();
-                System.out.println(room
-                        + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
-                );
-                return;
-            }
+        Room room = roomList.getRoomById(roomId);
+        if (room == null) {
+            throw new InvalidRoomNumberException();
+        }
+        if (room.getIsVacant()) {
+            throw new RoomAlrVacantException();
         }
-        throw new InvalidRoomNumberException();
+        roomList.checkOutRoom(room);
+        ui.printTableHeader();
+        System.out.println(room
+                + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
+        );
     }
 
     /**
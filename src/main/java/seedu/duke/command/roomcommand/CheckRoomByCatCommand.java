@@ -8,6 +8,8 @@ import seedu.duke.roomlists.RoomList;
 import seedu.duke.roomlists.RoomType;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 
 /**
@@ -15,6 +17,7 @@ import seedu.duke.command.Command;
  * of all rooms with corresponding category.
  * Information contains its type, room id, level and vacancy status
  */
+@ListAccess(reads = {ListType.ROOMS, ListType.ASSIGNMENTS})
 public class CheckRoomByCatCommand extends Command {
     private RoomType type;
 
@@ -25,28 +28,7 @@ public class CheckRoomByCatCommand extends Command {
      * @throws InvalidCategoryException If the category is not valid.
      */
     public CheckRoomByCatCommand(String commandStringWithoutCommand) throws InvalidCategoryException {
-        switch (commandStringWithoutCommand.trim()) {
-        case "single":
-            type = RoomType.Single;
-            break;
-        case "double":
-            type = RoomType.Double;
-            break;
-        case "triple":
-            type = RoomType.Triple;
-            break;
-        case "queen":
-            type = RoomType.Queen;
-            break;
-        case "twin":
-            type = RoomType.Twin;
-            break;
-        case "king":
-            type = RoomType.King;
-            break;
-        default:  // throw !!!!!!!
-            throw new InvalidCategoryException();
-        }
+        type = RoomHelper.parseRoomType(commandStringWithoutCommand);
     }
 
 
@@ -64,12 +46,10 @@ public class CheckRoomByCatCommand extends Command {
         RoomList roomList = listContainer.getRoomList();
         AssignmentMap assignmentMap = listContainer.getAssignmentMap();
         ui.printTableHeader();
-        for (Room room : roomList.getRoomList()) {
-            if (room.getType() == type) {
-                System.out.println(room.toString()
-                        + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
-                );
-            }
+        for (Room room : roomList.getRoomsByType(type)) {
+            System.out.println(room.toString()
+                    + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
+            );
         }
     }
 }
@@ -8,6 +8,10 @@ import seedu.duke.roomlists.Room;
 import seedu.duke.roomlists.RoomList;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.util.List;
 
 
 /**
@@ -15,6 +19,7 @@ import seedu.duke.command.Command;
  * of all rooms with corresponding category.
  * Information contains its type, room id, level and vacancy status
  */
+@ListAccess(reads = {ListType.ROOMS, ListType.ASSIGNMENTS})
 public class CheckRoomByLevelCommand extends Command {
     private int level;
 
@@ -47,26 +52,15 @@ public class CheckRoomByLevelCommand extends Command {
             throws InvalidLevelException {
         RoomList roomList = listContainer.getRoomList();
         AssignmentMap assignmentMap = listContainer.getAssignmentMap();
-        boolean isValidLevel = isValidLevel(level, roomList);
-        if (!isValidLevel) {
+        List<Room> roomsOnLevel = roomList.getRoomsByLevel(level);
+        if (roomsOnLevel.isEmpty()) {
             throw new InvalidLevelException();
         }
         ui.printTableHeader();
-        for (Room room : roomList.getRoomList()) {
-            if (room.getLevel() == level) {
-                System.out.println(room
-                        + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
-                );
-            }
-        }
-    }
-
-    private boolean isValidLevel(int level, RoomList roomList) {
-        for (Room room : roomList.getRoomList()) {
-            if (room.getLevel() == level) {
-                return true;
-            }
+        for (Room room : roomsOnLevel) {
+            System.out.println(room
+                    + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
+            );
         }
-        return false;
     }
 }
@@ -8,12 +8,15 @@ import seedu.duke.roomlists.Room;
 import seedu.duke.roomlists.RoomList;
 import seedu.duke.Ui;
 import seedu.duke.command.Command;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
 
 /**
  * Class that implements execution behavior to list room with corresponding
  * room number.
  * The information includes its type, room id, level and vacancy status.
  */
+@ListAccess(reads = {ListType.ROOMS, ListType.ASSIGNMENTS})
 public class CheckRoomCommand extends Command {
     private int roomId;
 
@@ -43,16 +46,14 @@ public class CheckRoomCommand extends Command {
     public void execute(ListContainer listContainer, Ui ui) throws InvalidRoomNumberException {
         RoomList roomList = listContainer.getRoomList();
         AssignmentMap assignmentMap = listContainer.getAssignmentMap();
-        for (Room room : roomList.getRoomList()) {
-            if (room.getRoomId() == roomId) {
-                ui.printTableHeader();
-                System.out.println(room.toString()
-                        + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
-                );
-                return;
-            }
+        Room room = roomList.getRoomById(roomId);
+        if (room == null) {
+            throw new InvalidRoomNumberException();
         }
-        throw new InvalidRoomNumberException();
+        ui.printTableHeader();
+        System.out.println(room.toString()
+                + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
+        );
     }
 }
 
@@ -0,0 +1,45 @@
+package seedu.duke.command.roomcommand;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.roomlists.RoomList;
+import seedu.duke.roomlists.RoomType;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+/**
+ * Class that implements execution behavior for printing the number of vacant rooms
+ * of every room type, on every level and within the whole hotel.
+ * The counts are kept up to date by the room list, so no room is visited.
+ */
+@ListAccess(reads = ListType.ROOMS)
+public class CheckVacancySummaryCommand extends Command {
+    private static final String VACANCY_FORMAT = "%-15s%-15d%-15d";
+
+    /**
+     * Override of execute command in Command class.
+     * Print out the number of vacant rooms and the total number of rooms
+     * for every room type, for every level and for the whole hotel.
+     *
+     * @param listContainer The object containing the necessary data structure.
+     * @param ui            The object that deals with user interface for the program.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        RoomList roomList = listContainer.getRoomList();
+        ui.printVacancySummaryHeader("Type");
+        for (RoomType type : RoomType.values()) {
+            System.out.println(String.format(VACANCY_FORMAT, type, roomList.countVacantRooms(type),
+                    roomList.getRoomsByType(type).size()));
+        }
+        ui.printVacancySummaryHeader("Level");
+        for (int level : roomList.getLevels()) {
+            System.out.println(String.format(VACANCY_FORMAT, level, roomList.countVacantRoomsOnLevel(level),
+                    roomList.getRoomsByLevel(level).size()));
+        }
+        ui.printVacancySummaryHeader("Hotel");
+        System.out.println(String.format(VACANCY_FORMAT, "All", roomList.countVacantRooms(),
+                roomList.getRoomList().size()));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.duke.command.roomcommand;
+
+import seedu.duke.AssignmentMap;
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidReservationException;
+import seedu.duke.roomlists.Room;
+import seedu.duke.roomlists.RoomList;
+import seedu.duke.roomlists.RoomType;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Class that lists the rooms which are not reserved for any night within a range of dates, either among all rooms or
+ * among the rooms of one category.
+ */
+@ListAccess(reads = {ListType.ROOMS, ListType.RESERVATIONS, ListType.ASSIGNMENTS})
+public class FindAvailableRoomCommand extends Command {
+    private static final String SEPARATOR = "/";
+    private static final int NUMBER_OF_FIELDS_WITHOUT_CATEGORY = 2;
+    private static final int NUMBER_OF_FIELDS_WITH_CATEGORY = 3;
+    private RoomType type;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * Extracts the optional room category, the start date and the end date from user input.
+     *
+     * @param commandStringWithoutCommand contains the category if given, the start date and the end date, separated
+     *                                    by "/".
+     * @throws HotelLiteManagerException if any of the fields is missing or invalid, or if the end date is not after
+     *                                   the start date.
+     */
+    public FindAvailableRoomCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
+        String[] fields = commandStringWithoutCommand.split(SEPARATOR, -1);
+        int firstDateField;
+        if (fields.length == NUMBER_OF_FIELDS_WITH_CATEGORY) {
+            type = RoomHelper.parseRoomType(fields[0]);
+            firstDateField = 1;
+        } else if (fields.length == NUMBER_OF_FIELDS_WITHOUT_CATEGORY) {
+            firstDateField = 0;
+        } else {
+            throw new InvalidReservationException();
+        }
+        startDate = RoomHelper.parseDate(fields[firstDateField]);
+        endDate = RoomHelper.parseDate(fields[firstDateField + 1]);
+        if (!endDate.isAfter(startDate)) {
+            throw new InvalidReservationException();
+        }
+    }
+
+    /**
+     * Override of execute command in Command class.
+     * Print out the information of every room that is free for every night from the start date up to, but not
+     * including, the end date, including the information of:
+     * type, room number, level, status and assigned housekeeper.
+     *
+     * @param listContainer The object containing the necessary data structure.
+     * @param ui            The object that deals with user interface for the program.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) {
+        RoomList roomList = listContainer.getRoomList();
+        AssignmentMap assignmentMap = listContainer.getAssignmentMap();
+        List<Room> rooms = type == null ? roomList.getRoomList() : roomList.getRoomsByType(type);
+        List<Room> availableRooms = listContainer.getReservationList().findAvailableRooms(rooms, startDate, endDate);
+        ui.printMessage(availableRooms.size() + " room(s) available from " + startDate + " to " + endDate + ":");
+        ui.printTableHeader();
+        for (Room room : availableRooms) {
+            System.out.println(room
+                    + String.format("%-30s", assignmentMap.getHouseKeeperNameByRoom(room.getRoomId()))
+            );
+        }
+    }
+
+    public RoomType getType() {
+        return type;
+    }
+}
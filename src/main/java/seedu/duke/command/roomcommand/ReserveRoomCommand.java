@@ -0,0 +1,79 @@
+package seedu.duke.command.roomcommand;
+
+import seedu.duke.ListContainer;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidReservationException;
+import seedu.duke.exceptions.InvalidRoomNumberException;
+import seedu.duke.roomlists.Reservation;
+import seedu.duke.ListType;
+import seedu.duke.command.ListAccess;
+
+import java.time.LocalDate;
+
+/**
+ * Class that reserves a room for a range of nights in the future.
+ */
+@ListAccess(reads = ListType.ROOMS, modifies = ListType.RESERVATIONS)
+public class ReserveRoomCommand extends Command {
+    private static final String SEPARATOR = "/";
+    private static final int NUMBER_OF_FIELDS = 3;
+    private int roomId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * Extracts the room number, the start date and the end date of the reservation from user input.
+     *
+     * @param commandStringWithoutCommand contains the room number, start date and end date, separated by "/".
+     * @throws HotelLiteManagerException if any of the fields is missing or invalid, or if the reservation does not
+     *                                   end after it starts.
+     */
+    public ReserveRoomCommand(String commandStringWithoutCommand) throws HotelLiteManagerException {
+        String[] fields = commandStringWithoutCommand.split(SEPARATOR, -1);
+        if (fields.length != NUMBER_OF_FIELDS) {
+            throw new InvalidReservationException();
+        }
+        if (!RoomHelper.isValidIntNumber(fields[0].trim())) {
+            throw new InvalidRoomNumberException();
+        }
+        roomId = Integer.parseInt(fields[0].trim());
+        startDate = RoomHelper.parseDate(fields[1]);
+        endDate = RoomHelper.parseDate(fields[2]);
+        if (!endDate.isAfter(startDate)) {
+            throw new InvalidReservationException();
+        }
+    }
+
+    /**
+     * Override of execute command in Command class.
+     * Reserves the room with corresponding room number for every night from the start date up to, but not
+     * including, the end date.
+     *
+     * @param listContainer The object containing the necessary data structure.
+     * @param ui            The object that deals with user interface for the program.
+     * @throws HotelLiteManagerException if the room number is not in the room list or if the room is already
+     *                                   reserved for any of those nights.
+     */
+    @Override
+    public void execute(ListContainer listContainer, Ui ui) throws HotelLiteManagerException {
+        if (!listContainer.getRoomList().hasRoom(roomId)) {
+            throw new InvalidRoomNumberException();
+        }
+        Reservation reservation = listContainer.getReservationList().reserve(roomId, startDate, endDate);
+        ui.printReservationAdded(reservation);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+}
@@ -1,5 +1,12 @@
 package seedu.duke.command.roomcommand;
 
+import seedu.duke.exceptions.InvalidCategoryException;
+import seedu.duke.exceptions.InvalidDateException;
+import seedu.duke.roomlists.RoomType;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 public class RoomHelper {
     public static boolean isValidIntNumber(String numberStr) {
         if (numberStr == null) {
@@ -13,5 +20,44 @@ public class RoomHelper {
         return true;
     }
 
+    /**
+     * Converts a room category entered by the user into its room type.
+     *
+     * @param category The room category in lower case.
+     * @return the room type of the category.
+     * @throws InvalidCategoryException If the category is not valid.
+     */
+    public static RoomType parseRoomType(String category) throws InvalidCategoryException {
+        switch (category.trim()) {
+        case "single":
+            return RoomType.Single;
+        case "double":
+            return RoomType.Double;
+        case "triple":
+            return RoomType.Triple;
+        case "queen":
+            return RoomType.Queen;
+        case "twin":
+            return RoomType.Twin;
+        case "king":
+            return RoomType.King;
+        default:
+            throw new InvalidCategoryException();
+        }
+    }
 
+    /**
+     * Converts a date entered by the user in the format yyyy-mm-dd into a date.
+     *
+     * @param date The date entered by the user.
+     * @return the date.
+     * @throws InvalidDateException If the date is not in the format yyyy-mm-dd.
+     */
+    public static LocalDate parseDate(String date) throws InvalidDateException {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateException();
+        }
+    }
 }
@@ -2,25 +2,54 @@ package seedu.duke.eventlists;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Iterator;
 
 public class Event {
+    public static final int FIRST_ID = 1;
+    public static final String DELETED = "deleted";
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
     public LocalDate at;
     public String description;
+    private final int id;
+    private RecurrenceRule recurrence;
+    private boolean isDeleted = false;
 
-    public Event(String description, LocalDate at) {
+    public Event(int id, String description, LocalDate at) {
+        this(id, description, at, null);
+    }
+
+    /**
+     * Creates an event which repeats from the given date.
+     *
+     * @param id          The id of the event, which is never given to another event.
+     * @param description The description of the event.
+     * @param at          The first date of the event.
+     * @param recurrence  How the event repeats, or null if it only happens once.
+     */
+    public Event(int id, String description, LocalDate at, RecurrenceRule recurrence) {
+        this.id = id;
         this.description = description;
         this.at = at;
+        this.recurrence = recurrence;
     }
 
     @Override
     public String toString() {
         String message = "Event " + description
-                + " (at: " + getAt() + ")";
+                + " (at: " + getAt() + (isRecurring() ? ", " + recurrence : "") + ")";
         return message;
     }
 
+    /**
+     * Returns the event in the format it is stored within the file ListFolder/event_file.txt. A deleted event is
+     * stored as a tombstone, marked as deleted in the last field, until the file is compacted.
+     *
+     * @return the description, date, repetition, id and deletion mark of the event.
+     */
     public String toFileString() {
-        return getDescription() + " | " + at.toString();
+        return getDescription() + " | " + at.toString() + " | " + (isRecurring() ? recurrence.toFileString() : "")
+                + " | " + id + " | " + (isDeleted ? DELETED : "");
     }
 
     public void setAt(String at) {
@@ -28,11 +57,60 @@ public class Event {
     }
 
     public String getAt() {
-        return at.format(DateTimeFormatter.ofPattern("MMM d yyyy"));
+        return at.format(DISPLAY_FORMAT);
     }
 
+    public LocalDate getDate() {
+        return at;
+    }
 
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean isDeleted() {
+        return isDeleted;
+    }
+
+    public void markDeleted() {
+        isDeleted = true;
+    }
+
+    public RecurrenceRule getRecurrence() {
+        return recurrence;
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the date of the last time the event happens.
+     *
+     * @return the last date of a repeating event, or the date of a one-off event.
+     */
+    public LocalDate getLastDate() {
+        return isRecurring() ? recurrence.getLastOccurrence(at) : at;
+    }
+
+    /**
+     * Returns the dates the event happens on between two dates, both inclusive, from the earliest to the latest.
+     *
+     * @param from The earliest date of interest.
+     * @param to   The latest date of interest.
+     * @return the dates of the occurrences within the dates.
+     */
+    public Iterator<LocalDate> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        if (isRecurring()) {
+            return recurrence.getOccurrencesBetween(at, from, to);
+        }
+        if (at.isBefore(from) || at.isAfter(to)) {
+            return Collections.emptyIterator();
+        }
+        return Collections.singletonList(at).iterator();
+    }
+}
@@ -3,72 +3,301 @@ package seedu.duke.eventlists;
 import seedu.duke.exceptions.EventExistsException;
 import seedu.duke.exceptions.InvalidDateException;
 import seedu.duke.exceptions.EventDoesNotExist;
-import seedu.duke.exceptions.HotelLiteManagerException;
-import seedu.duke.storage.EventListFileManager;
+import seedu.duke.exceptions.InvalidRecurrenceException;
+import seedu.duke.storage.JournalBuffer;
 
-import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import seedu.duke.Ui;
 
 /**
  * Represents a data structure containing multiple Event objects.
- * The constructor will initialize all rooms with status vacant
+ *
+ * <p>The events are kept in a tree map from each date to the events on that date, in the order they were added, so
+ * the events are listed in date order, checking whether an event already exists only looks at the events on its
+ * date, and the events within a range of dates are found without going through the events outside the range.
+ *
+ * <p>A repeating event is stored once, under its first date, and is also kept in a list of repeating events. The
+ * occurrences within a range of dates are found by merging the one-off events within the range with the occurrences
+ * of each repeating event, which are only worked out as they are read.
+ *
+ * <p>Each event is given an id one greater than the largest id given so far, and is found by its id through a hash
+ * map. Deleting an event only removes it from the hash map and marks it as deleted, leaving a tombstone in the tree
+ * map and the list of repeating events that is skipped when they are read. The tombstones are cleared out once they
+ * outnumber the events that are left. The deleted event is saved as a tombstone record too, which is cleared out of
+ * the file when the journal is compacted.
  */
 public class EventList {
     private Ui ui;
-    private ArrayList<Event> eventList;
+    private TreeMap<LocalDate, List<Event>> eventsByDate = new TreeMap<>();
+    private ArrayList<Event> recurringEvents = new ArrayList<>();
+    private HashMap<Integer, Event> eventsById = new HashMap<>();
+    private int nextId;
+    private int tombstoneCount = 0;
+    private JournalBuffer journalBuffer = new JournalBuffer();
 
-    public EventList(ArrayList<Event> eventList) {  // dummy data for initialization
-        this.eventList = eventList;
+    public EventList(ArrayList<Event> eventList) {
+        this(eventList, Event.FIRST_ID);
+    }
+
+    /**
+     * Creates a list of events which gives ids starting from at least the given id to the events added to it, so the
+     * ids of events deleted before the list was loaded are not given out again.
+     *
+     * @param eventList The events in the list.
+     * @param nextId    The smallest id that may be given to the next event added.
+     */
+    public EventList(ArrayList<Event> eventList, int nextId) {
+        this.nextId = nextId;
+        for (Event event : eventList) {
+            addToIndexes(event);
+        }
         this.ui = new Ui();
     }
 
+    /**
+     * Returns all the events, from the earliest date to the latest.
+     *
+     * @return the events in date order.
+     */
     public ArrayList<Event> getEventList() {
-        return this.eventList;
+        return flatten(eventsByDate);
+    }
+
+    /**
+     * Returns the event with the given id.
+     *
+     * @param id The id of the event.
+     * @return the event, or null if there is no event with the id.
+     */
+    public Event getEvent(int id) {
+        return eventsById.get(id);
+    }
+
+    public int getSize() {
+        return eventsById.size();
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
     }
 
-    public void add(String description, String atString) throws InvalidDateException, EventExistsException {
+    public void add(String description, String atString) throws InvalidDateException, EventExistsException,
+            InvalidRecurrenceException {
+        add(description, atString, null);
+    }
+
+    /**
+     * Adds an event which repeats from the given date.
+     *
+     * @param description The description of the event.
+     * @param atString    The first date of the event, in the format yyyy-mm-dd.
+     * @param recurrence  How the event repeats, or null if it only happens once.
+     * @throws InvalidDateException       if the date is not in the format yyyy-mm-dd.
+     * @throws EventExistsException       if an event with the same description already starts on the date.
+     * @throws InvalidRecurrenceException if the event stops repeating before the date.
+     */
+    public void add(String description, String atString, RecurrenceRule recurrence)
+            throws InvalidDateException, EventExistsException, InvalidRecurrenceException {
         LocalDate at;
         try {
             at = LocalDate.parse(atString);
         } catch (Exception e) {
             throw new InvalidDateException();
         }
+        if (recurrence != null && !recurrence.isValidFrom(at)) {
+            throw new InvalidRecurrenceException();
+        }
         if (eventExists(description, at)) {
             throw new EventExistsException();
         }
-        Event event = new Event(description, at);
-        eventList.add(event);
+        Event event = new Event(nextId, description, at, recurrence);
+        addToIndexes(event);
+        journalBuffer.recordPut(event.toFileString());
         ui.printEventAdded(event);
     }
 
+    /**
+     * Deletes the event with the given id. The id of an event never changes and is never given to another event, so
+     * an id taken from an earlier listing of the events never deletes the wrong event.
+     *
+     * @param n The id of the event to delete.
+     * @throws EventDoesNotExist if the id is not an integer, or there is no event with the id.
+     */
     public void delete(String n) throws EventDoesNotExist {
+        Event deleted;
         try {
-            int j = Integer.parseInt(n) - 1;
-            Event deleted = eventList.get(j);
-            eventList.remove(j);
-            ui.printEventDeleted(deleted);
-        } catch (Exception e) {
+            deleted = eventsById.remove(Integer.parseInt(n.trim()));
+        } catch (NumberFormatException e) {
+            throw new EventDoesNotExist();
+        }
+        if (deleted == null) {
             throw new EventDoesNotExist();
         }
+        deleted.markDeleted();
+        tombstoneCount++;
+        if (tombstoneCount > eventsById.size()) {
+            removeTombstones();
+        }
+        journalBuffer.recordPut(deleted.toFileString());
+        ui.printEventDeleted(deleted);
     }
 
     public boolean eventExists(String description, LocalDate at) {
-        String atString = at.format(DateTimeFormatter.ofPattern("MMM d yyyy"));
-        for (Event e : eventList) {
-            String d = e.getDescription();
-            String a = e.getAt();
-            if (d.equals(description) && a.equals(atString)) {
+        List<Event> eventsOnDate = eventsByDate.get(at);
+        if (eventsOnDate == null) {
+            return false;
+        }
+        for (Event e : eventsOnDate) {
+            if (!e.isDeleted() && e.getDescription().equals(description)) {
                 return true;
             }
         }
         return false;
     }
 
-    public void save() throws IOException, HotelLiteManagerException {
-        EventListFileManager eventFileManager = new EventListFileManager();
-        eventFileManager.save(eventList);
+    /**
+     * Finds the occurrences of the events from one date to another, both inclusive. The occurrences are worked out
+     * as the stream is read, so only the occurrences read take up memory.
+     *
+     * @param from The earliest date of interest.
+     * @param to   The latest date of interest, which must not be before from.
+     * @return the occurrences within the dates, in date order.
+     */
+    public Stream<EventOccurrence> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        assert !to.isBefore(from) : "the end of the range should not be before its start";
+        PriorityQueue<OccurrenceSource> sources = new PriorityQueue<>();
+        Iterator<EventOccurrence> oneOffOccurrences = eventsByDate.subMap(from, true, to, true).values().stream()
+                .flatMap(List::stream)
+                .filter(event -> !event.isDeleted() && !event.isRecurring())
+                .map(event -> new EventOccurrence(event, event.getDate()))
+                .iterator();
+        int order = 0;
+        addSource(sources, new OccurrenceSource(oneOffOccurrences, order++));
+        for (Event event : recurringEvents) {
+            if (!event.isDeleted() && !event.getDate().isAfter(to) && !event.getLastDate().isBefore(from)) {
+                addSource(sources, new OccurrenceSource(toOccurrences(event, event.getOccurrencesBetween(from, to)),
+                        order++));
+            }
+        }
+        Iterator<EventOccurrence> mergedOccurrences = new Iterator<EventOccurrence>() {
+            @Override
+            public boolean hasNext() {
+                return !sources.isEmpty();
+            }
+
+            @Override
+            public EventOccurrence next() {
+                OccurrenceSource source = sources.poll();
+                if (source == null) {
+                    throw new NoSuchElementException();
+                }
+                EventOccurrence occurrence = source.current;
+                addSource(sources, source);
+                return occurrence;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(mergedOccurrences,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Finds the occurrences of the events within a number of days, counting the first day as day one.
+     *
+     * @param from The first day of interest.
+     * @param days The number of days of interest, which must be positive.
+     * @return the occurrences within the days, in date order.
+     */
+    public Stream<EventOccurrence> getOccurrencesWithinDays(LocalDate from, int days) {
+        assert days > 0 : "the number of days should be positive";
+        return getOccurrencesBetween(from, from.plusDays(days - 1));
+    }
+
+    private void addToIndexes(Event event) {
+        eventsByDate.computeIfAbsent(event.getDate(), date -> new ArrayList<>()).add(event);
+        if (event.isRecurring()) {
+            recurringEvents.add(event);
+        }
+        eventsById.put(event.getId(), event);
+        nextId = Math.max(nextId, event.getId() + 1);
+    }
+
+    /**
+     * Removes the deleted events from the tree map and the list of repeating events.
+     */
+    private void removeTombstones() {
+        eventsByDate.values().forEach(eventsOnDate -> eventsOnDate.removeIf(Event::isDeleted));
+        eventsByDate.values().removeIf(List::isEmpty);
+        recurringEvents.removeIf(Event::isDeleted);
+        tombstoneCount = 0;
+    }
+
+    /**
+     * Moves a source on to its next occurrence and puts it back into the queue, unless it has no more occurrences.
+     */
+    private static void addSource(PriorityQueue<OccurrenceSource> sources, OccurrenceSource source) {
+        if (source.occurrences.hasNext()) {
+            source.current = source.occurrences.next();
+            sources.add(source);
+        }
+    }
+
+    private static Iterator<EventOccurrence> toOccurrences(Event event, Iterator<LocalDate> dates) {
+        return new Iterator<EventOccurrence>() {
+            @Override
+            public boolean hasNext() {
+                return dates.hasNext();
+            }
+
+            @Override
+            public EventOccurrence next() {
+                return new EventOccurrence(event, dates.next());
+            }
+        };
+    }
+
+    /**
+     * The occurrences of one repeating event, or of all the one-off events, being merged by date. Sources with
+     * occurrences on the same date are ordered by the order they were created in.
+     */
+    private static class OccurrenceSource implements Comparable<OccurrenceSource> {
+        private final Iterator<EventOccurrence> occurrences;
+        private final int order;
+        private EventOccurrence current;
+
+        OccurrenceSource(Iterator<EventOccurrence> occurrences, int order) {
+            this.occurrences = occurrences;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(OccurrenceSource other) {
+            int dateComparison = current.getDate().compareTo(other.current.getDate());
+            return dateComparison != 0 ? dateComparison : Integer.compare(order, other.order);
+        }
+    }
+
+    private static ArrayList<Event> flatten(NavigableMap<LocalDate, List<Event>> eventsByDate) {
+        ArrayList<Event> events = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<Event>> eventsOnDate : eventsByDate.entrySet()) {
+            for (Event event : eventsOnDate.getValue()) {
+                if (!event.isDeleted()) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
     }
-}
\ No newline at end of file
+}
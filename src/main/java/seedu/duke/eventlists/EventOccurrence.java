@@ -0,0 +1,32 @@
+package seedu.duke.eventlists;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Represents a single date on which an event happens. A one-off event has one occurrence, on its date, while a
+ * repeating event has one occurrence for each date it repeats on.
+ */
+public class EventOccurrence {
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
+    private final Event event;
+    private final LocalDate date;
+
+    public EventOccurrence(Event event, LocalDate date) {
+        this.event = event;
+        this.date = date;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    @Override
+    public String toString() {
+        return "Event " + event.getDescription() + " (at: " + date.format(DISPLAY_FORMAT) + ")";
+    }
+}
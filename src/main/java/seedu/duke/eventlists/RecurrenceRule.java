@@ -0,0 +1,228 @@
+package seedu.duke.eventlists;
+
+import seedu.duke.exceptions.InvalidRecurrenceException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Describes how an event repeats: daily, weekly or monthly, either until an end date or for a number of times.
+ *
+ * <p>The n-th occurrence of an event is always worked out from its first date, so a monthly event on the 31st falls on
+ * the last day of shorter months without drifting to an earlier day in the months after them. Occurrences are worked
+ * out only when they are asked for, so an event repeating for years takes no more memory than a one-off event.
+ */
+public class RecurrenceRule {
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
+    private static final String UNTIL = " until ";
+    private static final String FOR = " for ";
+    private static final String TIMES = "times";
+    private static final int DAYS_IN_WEEK = 7;
+
+    public enum Frequency {
+        DAILY("daily", "day"), WEEKLY("weekly", "week"), MONTHLY("monthly", "month");
+
+        private final String keyword;
+        private final String period;
+
+        Frequency(String keyword, String period) {
+            this.keyword = keyword;
+            this.period = period;
+        }
+    }
+
+    private final Frequency frequency;
+    private final LocalDate until;
+    private final int count;
+
+    private RecurrenceRule(Frequency frequency, LocalDate until, int count) {
+        this.frequency = frequency;
+        this.until = until;
+        this.count = count;
+    }
+
+    public static RecurrenceRule until(Frequency frequency, LocalDate until) {
+        return new RecurrenceRule(frequency, until, 0);
+    }
+
+    public static RecurrenceRule times(Frequency frequency, int count) {
+        assert count > 0 : "an event should happen at least once";
+        return new RecurrenceRule(frequency, null, count);
+    }
+
+    /**
+     * Parses a repetition in the format FREQUENCY until END_DATE or FREQUENCY for COUNT times. The word times may be
+     * left out, which is how the repetition is stored within the file ListFolder/event_file.txt.
+     *
+     * @param recurrence The repetition, such as weekly until 2022-12-31 or monthly for 12 times.
+     * @return the rule described by the repetition.
+     * @throws InvalidRecurrenceException if the repetition is not in either format.
+     */
+    public static RecurrenceRule parse(String recurrence) throws InvalidRecurrenceException {
+        String trimmedRecurrence = recurrence.trim().toLowerCase();
+        for (Frequency frequency : Frequency.values()) {
+            if (!trimmedRecurrence.startsWith(frequency.keyword)) {
+                continue;
+            }
+            String end = trimmedRecurrence.substring(frequency.keyword.length());
+            if (end.startsWith(UNTIL)) {
+                return until(frequency, parseEndDate(end.substring(UNTIL.length())));
+            } else if (end.startsWith(FOR)) {
+                return times(frequency, parseCount(end.substring(FOR.length())));
+            }
+        }
+        throw new InvalidRecurrenceException();
+    }
+
+    private static LocalDate parseEndDate(String endDate) throws InvalidRecurrenceException {
+        try {
+            return LocalDate.parse(endDate.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidRecurrenceException();
+        }
+    }
+
+    private static int parseCount(String count) throws InvalidRecurrenceException {
+        String trimmedCount = count.trim();
+        if (trimmedCount.endsWith(TIMES)) {
+            trimmedCount = trimmedCount.substring(0, trimmedCount.length() - TIMES.length()).trim();
+        }
+        int parsedCount;
+        try {
+            parsedCount = Integer.parseInt(trimmedCount);
+        } catch (NumberFormatException e) {
+            throw new InvalidRecurrenceException();
+        }
+        if (parsedCount < 1) {
+            throw new InvalidRecurrenceException();
+        }
+        return parsedCount;
+    }
+
+    /**
+     * Checks if an event starting on a date can repeat with this rule, which is not the case when the end date of the
+     * rule is before the start.
+     *
+     * @param start The first date of the event.
+     * @return true if the event happens at least once. Otherwise, false.
+     */
+    public boolean isValidFrom(LocalDate start) {
+        return until == null || !until.isBefore(start);
+    }
+
+    /**
+     * Returns the date of an occurrence of an event, whether or not the rule has ended by then.
+     *
+     * @param start The first date of the event.
+     * @param index The number of the occurrence, starting from 0 for the first date.
+     * @return the date of the occurrence.
+     */
+    public LocalDate getOccurrence(LocalDate start, long index) {
+        switch (frequency) {
+        case DAILY:
+            return start.plusDays(index);
+        case WEEKLY:
+            return start.plusWeeks(index);
+        default:
+            return start.plusMonths(index);
+        }
+    }
+
+    /**
+     * Returns the date of the last occurrence of an event.
+     *
+     * @param start The first date of the event.
+     * @return the date of the last occurrence.
+     */
+    public LocalDate getLastOccurrence(LocalDate start) {
+        if (until == null) {
+            return getOccurrence(start, count - 1);
+        }
+        long index = findFirstIndexOnOrAfter(start, until);
+        if (getOccurrence(start, index).isAfter(until)) {
+            index--;
+        }
+        return getOccurrence(start, Math.max(index, 0));
+    }
+
+    /**
+     * Returns the dates an event happens on between two dates, both inclusive. Each date is only worked out when the
+     * iterator reaches it.
+     *
+     * @param start The first date of the event.
+     * @param from  The earliest date of interest.
+     * @param to    The latest date of interest.
+     * @return the dates of the occurrences within the dates, from the earliest to the latest.
+     */
+    public Iterator<LocalDate> getOccurrencesBetween(LocalDate start, LocalDate from, LocalDate to) {
+        LocalDate lastDate = getLastOccurrence(start);
+        LocalDate end = lastDate.isBefore(to) ? lastDate : to;
+        long firstIndex = findFirstIndexOnOrAfter(start, from);
+        return new Iterator<LocalDate>() {
+            private long index = firstIndex;
+            private LocalDate next = getOccurrence(start, index);
+
+            @Override
+            public boolean hasNext() {
+                return !next.isAfter(end);
+            }
+
+            @Override
+            public LocalDate next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                LocalDate occurrence = next;
+                index++;
+                next = getOccurrence(start, index);
+                return occurrence;
+            }
+        };
+    }
+
+    private long findFirstIndexOnOrAfter(LocalDate start, LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long index;
+        switch (frequency) {
+        case DAILY:
+            index = ChronoUnit.DAYS.between(start, date);
+            break;
+        case WEEKLY:
+            index = ChronoUnit.DAYS.between(start, date) / DAYS_IN_WEEK;
+            break;
+        default:
+            index = ChronoUnit.MONTHS.between(start, date);
+            break;
+        }
+        if (getOccurrence(start, index).isBefore(date)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the rule in the format it is stored within the file ListFolder/event_file.txt.
+     *
+     * @return the rule, such as weekly until 2022-12-31 or monthly for 12.
+     */
+    public String toFileString() {
+        if (until == null) {
+            return frequency.keyword + FOR + count;
+        }
+        return frequency.keyword + UNTIL + until;
+    }
+
+    @Override
+    public String toString() {
+        if (until == null) {
+            return "every " + frequency.period + ", " + count + " time(s)";
+        }
+        return "every " + frequency.period + " until " + until.format(DISPLAY_FORMAT);
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown if a list file within ListFolder is corrupted and neither it nor its
+ * previous generation can be loaded.
+ */
+public class CorruptedFileException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! The file %s is corrupted and cannot be loaded. Restore it "
+            + "from a backup before starting Hotel Lite again.";
+    private final String filePath;
+
+    public CorruptedFileException(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return String.format(ERROR_MESSAGE, filePath);
+    }
+
+}
@@ -1,7 +1,7 @@
 package seedu.duke.exceptions;
 
 public class InvalidDeleteEventException extends HotelLiteManagerException {
-    private static final String ERROR_MESSAGE = "Error! Please delete event with format: delete event INDEX.";
+    private static final String ERROR_MESSAGE = "Error! Please delete event with format: delete event ID.";
 
     @Override
     public String getErrorMessage() {
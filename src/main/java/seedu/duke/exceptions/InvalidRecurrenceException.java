@@ -0,0 +1,16 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown when the repetition of an event is not in a valid format, or ends
+ * before the event starts.
+ */
+public class InvalidRecurrenceException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! Please give the repetition of an event as "
+            + "FREQUENCY until END_DATE or FREQUENCY for COUNT times, where FREQUENCY is daily, weekly or monthly, "
+            + "END_DATE is in the format yyyy-mm-dd and not before the date of the event, and COUNT is at least 1.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
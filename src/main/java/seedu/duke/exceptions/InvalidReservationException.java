@@ -0,0 +1,16 @@
+package seedu.duke.exceptions;
+
+/**
+ * An exception to check the format of the reservation commands.
+ * This exception is thrown if the room, category or dates are missing, or if the stay does not end after it starts.
+ */
+public class InvalidReservationException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! Reservation commands must be in the format "
+            + "reserve ROOM_NUMBER / START_DATE / END_DATE, cancel reservation ROOM_NUMBER / START_DATE or "
+            + "find available [CATEGORY /] START_DATE / END_DATE, with the end date after the start date.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown when the page number given with the search item command is not a
+ * positive integer.
+ */
+public class InvalidSearchPageException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! The page number of the search results must be a positive "
+            + "integer -> Search Item KEYWORD / PAGE";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown when the user enters an invalid format for the view events from
+ * command.
+ */
+public class InvalidViewEventsBetweenDatesException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! Please view events between dates with format: "
+            + "view events from START_DATE to END_DATE, where both dates are in the format yyyy-mm-dd "
+            + "and START_DATE is not after END_DATE.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown when the user enters an invalid format for the view items with pax at
+ * most command.
+ */
+public class InvalidViewItemsWithLowPaxCommandException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! Invalid Command -> view items with pax at most PAX, where PAX "
+            + "is an integer that is at least 0";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
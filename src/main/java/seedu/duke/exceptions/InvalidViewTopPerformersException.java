@@ -0,0 +1,15 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown when the user enters an invalid format for the view top performers
+ * command.
+ */
+public class InvalidViewTopPerformersException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! Invalid Command -> view top performers K, where K "
+            + "is an integer that is at least 1";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.duke.exceptions;
+
+/**
+ * Represents an exception which would be thrown when the user enters an invalid format for the view events next
+ * command.
+ */
+public class InvalidViewUpcomingEventsException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! Please view upcoming events with format: "
+            + "view events next N days, where N is an integer that is at least 1.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.duke.exceptions;
+
+/**
+ * An exception to check that rooms can be assigned automatically.
+ * This exception is thrown if no housekeeper is available on the day the rooms are assigned.
+ */
+public class NoAvailableHousekeeperException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! No housekeeper is available today to assign rooms to.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.duke.exceptions;
+
+/**
+ * An exception to check that a room is free before it is reserved.
+ * This exception is thrown if the room is already reserved for any of the nights requested.
+ */
+public class ReservationClashException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! The room is already reserved for some of those nights.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
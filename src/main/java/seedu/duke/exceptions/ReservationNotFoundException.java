@@ -0,0 +1,14 @@
+package seedu.duke.exceptions;
+
+/**
+ * An exception to check that a reservation exists before it is cancelled.
+ * This exception is thrown if the room has no reservation starting on the date given.
+ */
+public class ReservationNotFoundException extends HotelLiteManagerException {
+    private static final String ERROR_MESSAGE = "Error! The room has no reservation starting on that date.";
+
+    @Override
+    public String getErrorMessage() {
+        return ERROR_MESSAGE;
+    }
+}
@@ -1,15 +1,19 @@
 package seedu.duke.housekeeperlists;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Records the age, name and availability of each Housekeeper.
+ * The days a housekeeper is available on are kept as a bitmask, where bit 0 stands for Monday and bit 6 for Sunday,
+ * together with the days in the order they were entered so that they are shown in that order.
  */
 public class Housekeeper {
+    static final int NUMBER_OF_DAYS = 7;
     private String name;
     private int age;
-    private String availability;
-    private ArrayList<Integer> availableList = new ArrayList<>();
+    private byte availableDays = 0;
+    private byte[] daysInEnteredOrder = new byte[0];
+    private HousekeeperRoster roster;
     private static final String[] daysList = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday",
         "Sunday"};
 
@@ -18,6 +22,19 @@ public class Housekeeper {
         this.age = age;
     }
 
+    /**
+     * Returns the bit standing for a day within an availability bitmask.
+     *
+     * @param day The day, from 1 for Monday to 7 for Sunday.
+     * @return the bit standing for the day, or 0 if the day is not between 1 and 7.
+     */
+    public static int toDayBit(int day) {
+        if (day < 1 || day > NUMBER_OF_DAYS) {
+            return 0;
+        }
+        return 1 << (day - 1);
+    }
+
     /**
      * Verifies if housekeeper is available of the day given.
      *
@@ -25,13 +42,18 @@ public class Housekeeper {
      * @return True if housekeeper is available, false if housekeeper is not available.
      */
     public boolean isAvailableOn(int day) {
-        day -= 1;
-        for (Integer i : availableList) {
-            if (i == day) {
-                return true;
-            }
-        }
-        return false;
+        int dayBit = toDayBit(day);
+        return dayBit != 0 && (availableDays & dayBit) != 0;
+    }
+
+    /**
+     * Returns the days the housekeeper is available on as a bitmask, where bit 0 stands for Monday and bit 6 for
+     * Sunday.
+     *
+     * @return the availability bitmask of the housekeeper.
+     */
+    public int getAvailableDays() {
+        return availableDays;
     }
 
     /**
@@ -40,47 +62,37 @@ public class Housekeeper {
      * @return String of days the housekeeper is available to work on.
      */
     public String getAvailability() {
-        if (availability == null) {
+        if (availableDays == 0) {
             return "N/A";
         }
-        String availableStr = "";
-        int incrementCounter = 1;
-        for (Integer i : availableList) {
-            if (availableList.size() <= incrementCounter) {
-                availableStr += daysList[i];
-            } else {
-                availableStr += daysList[i] + " ";
+        StringBuilder availableStr = new StringBuilder();
+        for (byte day : daysInEnteredOrder) {
+            if (availableStr.length() > 0) {
+                availableStr.append(' ');
             }
-            incrementCounter += 1;
+            availableStr.append(daysList[day - 1]);
         }
-        return availableStr;
+        return availableStr.toString();
     }
 
     /**
      * Ensure the availability written into the file is in the correct format such that the next time it loads the
      * correct format of availability is given.
      *
-     * @param availability Availability of housekeeper given in integer.
      * @return Valid format of availability to be written into housekeeper_file.txt.
      */
-    public String getAvailabilityFile(String availability) {
-        if (availability == null) {
+    private String getAvailabilityFile() {
+        if (availableDays == 0) {
             return "N/A";
         }
-        String[] availabilitySplit = availability.split(",");
-        String availabilityForFile = "";
-        int incrementCounter = 1;
-        for (String day: availabilitySplit) {
-            String trimDay = day.trim();
-            if (!(incrementCounter == availabilitySplit.length)) {
-                availabilityForFile += trimDay;
-                availabilityForFile += ",";
-            } else {
-                availabilityForFile += trimDay;
+        StringBuilder availabilityForFile = new StringBuilder();
+        for (byte day : daysInEnteredOrder) {
+            if (availabilityForFile.length() > 0) {
+                availabilityForFile.append(',');
             }
-            incrementCounter += 1;
+            availabilityForFile.append(day);
         }
-        return availabilityForFile;
+        return availabilityForFile.toString();
     }
 
     /**
@@ -90,16 +102,39 @@ public class Housekeeper {
      * @param availability Given by the user in integer format.
      */
     public void setAvailability(String availability) {
-        this.availability = availability;
-        availableList.clear();
-        String[] days = availability.split(",");
-        for (String day : days) {
-            String trimDay = day.trim();
-            int convertToCorrectDay = Integer.parseInt(trimDay) - 1;
-            if (!(availableList.contains(convertToCorrectDay))) {
-                availableList.add(convertToCorrectDay);
+        int newAvailableDays = 0;
+        byte[] newDaysInEnteredOrder = new byte[NUMBER_OF_DAYS];
+        int numberOfDays = 0;
+        for (String day : availability.split(",")) {
+            int dayNumber = Integer.parseInt(day.trim());
+            int dayBit = toDayBit(dayNumber);
+            if (dayBit != 0 && (newAvailableDays & dayBit) == 0) {
+                newAvailableDays |= dayBit;
+                newDaysInEnteredOrder[numberOfDays++] = (byte) dayNumber;
             }
         }
+        updateAvailableDays(newAvailableDays, Arrays.copyOf(newDaysInEnteredOrder, numberOfDays));
+    }
+
+    public void setNullAvailability() {
+        updateAvailableDays(0, new byte[0]);
+    }
+
+    private void updateAvailableDays(int newAvailableDays, byte[] newDaysInEnteredOrder) {
+        int previousAvailableDays = availableDays;
+        availableDays = (byte) newAvailableDays;
+        daysInEnteredOrder = newDaysInEnteredOrder;
+        if (roster != null) {
+            roster.updateAvailability(this, previousAvailableDays);
+        }
+    }
+
+    /**
+     * Sets the roster of the housekeeper list this housekeeper belongs to, which is told whenever the availability of
+     * the housekeeper changes.
+     */
+    void setRoster(HousekeeperRoster roster) {
+        this.roster = roster;
     }
 
     public String getName() {
@@ -124,10 +159,6 @@ public class Housekeeper {
     }
 
     public String toFileString() {
-        return getName() + " | " + getAge() + " | " + getAvailabilityFile(availability);
-    }
-
-    public void setNullAvailability() {
-        this.availability = null;
+        return getName() + " | " + getAge() + " | " + getAvailabilityFile();
     }
 }
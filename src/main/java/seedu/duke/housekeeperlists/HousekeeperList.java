@@ -3,19 +3,26 @@ package seedu.duke.housekeeperlists;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.InvalidUserException;
 import seedu.duke.exceptions.UserDoesNotExistException;
+import seedu.duke.storage.JournalBuffer;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static java.util.stream.Collectors.toList;
-
 /**
- * Represents a data structure containing all housekeeper profiles.
+ * Represents a data structure containing all housekeeper profiles. Besides the list of housekeepers in the order they
+ * were recorded, each housekeeper is indexed by their name in lower case, so a housekeeper is found by name without
+ * going through the whole list.
  */
 public class HousekeeperList {
     private ArrayList<Housekeeper> housekeeperList;
-    private static final int ONE_HOUSEKEEPER = 1;
+    private HashMap<String, Housekeeper> housekeepersByName = new HashMap<>();
+    private JournalBuffer journalBuffer = new JournalBuffer();
+    private HousekeeperRoster roster = new HousekeeperRoster();
     private ArrayList<Housekeeper> housekeeperExceedValidAgeList = new ArrayList<>();
     private static final int ONE_YEAR = 1;
     private static final int MAX_AGE_ACCEPTED = 60;
@@ -32,6 +39,13 @@ public class HousekeeperList {
 
     public void addHousekeeper(Housekeeper newHousekeeper) {
         getHousekeeperList().add(newHousekeeper);
+        housekeepersByName.put(normalizeName(newHousekeeper.getName()), newHousekeeper);
+        roster.add(newHousekeeper);
+        journalBuffer.recordPut(newHousekeeper.toFileString());
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
     }
 
     /**
@@ -41,14 +55,17 @@ public class HousekeeperList {
      * @return false If name is not in records and true if name is in records.
      */
     public boolean hasNameAdded(String name) {
-        String convertNameToLowerCase = name.toLowerCase();
-        ArrayList<Housekeeper> housekeeperFound = (ArrayList<Housekeeper>) housekeeperList.stream()
-                .filter((t) -> t.getName().toLowerCase().equals(convertNameToLowerCase))
-                .collect(toList());
-        if (housekeeperFound.size() >= ONE_HOUSEKEEPER) {
-            return true;
-        }
-        return false;
+        return housekeepersByName.containsKey(normalizeName(name));
+    }
+
+    /**
+     * Finds the housekeeper recorded under a name, ignoring the case of the name.
+     *
+     * @param name The name of the housekeeper.
+     * @return the housekeeper with the name, or null if no housekeeper by this name is recorded.
+     */
+    public Housekeeper getHousekeeperByName(String name) {
+        return housekeepersByName.get(normalizeName(name));
     }
 
     public int getTotalHousekeeper() {
@@ -57,6 +74,12 @@ public class HousekeeperList {
 
     public void setHousekeeperList(ArrayList<Housekeeper> housekeeperList) {
         this.housekeeperList = housekeeperList;
+        housekeepersByName.clear();
+        roster.clear();
+        for (Housekeeper housekeeper : housekeeperList) {
+            housekeepersByName.put(normalizeName(housekeeper.getName()), housekeeper);
+            roster.add(housekeeper);
+        }
     }
 
     public ArrayList<Housekeeper> getHousekeeperList() {
@@ -70,13 +93,17 @@ public class HousekeeperList {
      * @return List of found housekeeper.
      */
     public ArrayList<Housekeeper> getAvailableHousekeeperByDay(int day) {
-        ArrayList<Housekeeper> foundList = new ArrayList<>();
-        for (Housekeeper housekeeper : housekeeperList) {
-            if (housekeeper.isAvailableOn(day)) {
-                foundList.add(housekeeper);
-            }
-        }
-        return foundList;
+        return roster.findAvailableOnAll(Housekeeper.toDayBit(day));
+    }
+
+    /**
+     * Finds the housekeepers available on every one of the days given, in the order they were recorded.
+     *
+     * @param days The days of interest as a bitmask, where bit 0 stands for Monday and bit 6 for Sunday.
+     * @return List of found housekeeper.
+     */
+    public ArrayList<Housekeeper> getAvailableHousekeeperOnAllDays(int days) {
+        return roster.findAvailableOnAll(days);
     }
 
     /**
@@ -86,19 +113,12 @@ public class HousekeeperList {
      * @param availability Housekeeper's availability to be added in records.
      */
     public void addAvailabilityInList(String name, String availability) throws UserDoesNotExistException {
-        boolean isExist = false;
-        String nameConvertLowerCase = name.toLowerCase();
-        for (int i = 0; i < housekeeperList.size(); i++) {
-            Housekeeper housekeeperToCompare = housekeeperList.get(i);
-            String housekeeperToCompareName = housekeeperToCompare.getName().toLowerCase();
-            if (housekeeperToCompareName.equals(nameConvertLowerCase)) {
-                isExist = true;
-                housekeeperToCompare.setAvailability(availability);
-            }
-        }
-        if (!isExist) {
+        Housekeeper housekeeper = getHousekeeperByName(name);
+        if (housekeeper == null) {
             throw new UserDoesNotExistException();
         }
+        housekeeper.setAvailability(availability);
+        journalBuffer.recordPut(housekeeper.toFileString());
     }
 
     /**
@@ -107,31 +127,26 @@ public class HousekeeperList {
     public void resetAvailability() {
         for (Housekeeper housekeeper : housekeeperList) {
             housekeeper.setNullAvailability();
+            journalBuffer.recordPut(housekeeper.toFileString());
         }
     }
 
+    private void removeHousekeeper(Housekeeper housekeeperToRemove) {
+        getHousekeeperList().remove(housekeeperToRemove);
+        forgetHousekeeper(housekeeperToRemove);
+    }
+
     /**
-     * Finds the housekeeper's index in the list.
-     *
-     * @param name Housekeeper to be removed.
-     * @return Index of the housekeeper to be removed in the list.
+     * Removes a housekeeper that is no longer in the list from the name index and the roster, and records the removal.
      */
-    private int getHousekeeperRemove(String name) {
-        int index = 0;
-        int i = 0;
-        String nameLowerCase = name.trim().toLowerCase();
-        for (Housekeeper housekeeper : housekeeperList) {
-            String nameForCompare = housekeeper.getName().toLowerCase();
-            if (nameForCompare.equals(nameLowerCase)) {
-                index = i;
-            }
-            i += 1;
-        }
-        return index;
+    private void forgetHousekeeper(Housekeeper removedHousekeeper) {
+        housekeepersByName.remove(normalizeName(removedHousekeeper.getName()), removedHousekeeper);
+        roster.remove(removedHousekeeper);
+        journalBuffer.recordDelete(removedHousekeeper.toFileString());
     }
 
-    private void removeHousekeeper(int housekeeperToRemoveIndex) {
-        getHousekeeperList().remove(housekeeperToRemoveIndex);
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase();
     }
 
     /**
@@ -145,6 +160,7 @@ public class HousekeeperList {
                 housekeeperExceedValidAgeList.add(housekeeper);
             } else {
                 housekeeper.setAge(increasedAge);
+                journalBuffer.recordPut(housekeeper.toFileString());
             }
         }
     }
@@ -153,11 +169,26 @@ public class HousekeeperList {
         return housekeeperExceedValidAgeList;
     }
 
+    /**
+     * Removes every housekeeper found over the age limit by the last age increase, in a single pass through the list
+     * which moves the remaining housekeepers forward in place.
+     */
     public void deleteOverAgeHousekeeper() {
-        for (Housekeeper housekeeper : housekeeperExceedValidAgeList) {
-            int indexToRemove = getHousekeeperRemove(housekeeper.getName());
-            removeHousekeeper(indexToRemove);
+        if (housekeeperExceedValidAgeList.isEmpty()) {
+            return;
+        }
+        Set<Housekeeper> overAgeHousekeepers = Collections.newSetFromMap(new IdentityHashMap<>());
+        overAgeHousekeepers.addAll(housekeeperExceedValidAgeList);
+        int numberKept = 0;
+        for (int i = 0; i < housekeeperList.size(); i++) {
+            Housekeeper housekeeper = housekeeperList.get(i);
+            if (overAgeHousekeepers.contains(housekeeper)) {
+                forgetHousekeeper(housekeeper);
+            } else {
+                housekeeperList.set(numberKept++, housekeeper);
+            }
         }
+        housekeeperList.subList(numberKept, housekeeperList.size()).clear();
     }
 
     /**
@@ -184,10 +215,9 @@ public class HousekeeperList {
      * @throws HotelLiteManagerException If housekeeper to be delete does not exist in the list.
      */
     public void removeHousekeeperInList(String name) throws HotelLiteManagerException {
-        boolean isRecorded = hasNameAdded(name);
-        if (isRecorded) {
-            int housekeeperToRemoveIndex = getHousekeeperRemove(name);
-            removeHousekeeper(housekeeperToRemoveIndex);
+        Housekeeper housekeeperToRemove = getHousekeeperByName(name);
+        if (housekeeperToRemove != null) {
+            removeHousekeeper(housekeeperToRemove);
         } else {
             logger.log(Level.WARNING, "Housekeeper to be deleted was not in the list.");
             throw new UserDoesNotExistException();
@@ -196,5 +226,8 @@ public class HousekeeperList {
 
     public void clearHousekeeperList() {
         housekeeperList.clear();
+        housekeepersByName.clear();
+        roster.clear();
+        journalBuffer.recordClear();
     }
 }
@@ -0,0 +1,115 @@
+package seedu.duke.housekeeperlists;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+
+/**
+ * Keeps, for each day of the week, the set of housekeepers available on that day, so the housekeepers available on a
+ * day are found without checking the availability of every housekeeper.
+ *
+ * <p>Each housekeeper is given an id in the order they are added, and each day keeps the ids of the housekeepers
+ * available on it in a bit set. The housekeepers available on several days are found by intersecting the bit sets of
+ * those days, and are returned in the order they were added.
+ */
+class HousekeeperRoster {
+    private final ArrayList<Housekeeper> housekeepersById = new ArrayList<>();
+    private final IdentityHashMap<Housekeeper, Integer> ids = new IdentityHashMap<>();
+    private final BitSet[] availableByDay = new BitSet[Housekeeper.NUMBER_OF_DAYS];
+
+    HousekeeperRoster() {
+        for (int i = 0; i < availableByDay.length; i++) {
+            availableByDay[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Adds a housekeeper to the roster, who from then on tells the roster whenever their availability changes.
+     *
+     * @param housekeeper The housekeeper to add.
+     */
+    void add(Housekeeper housekeeper) {
+        int id = housekeepersById.size();
+        housekeepersById.add(housekeeper);
+        ids.put(housekeeper, id);
+        housekeeper.setRoster(this);
+        setAvailableDays(id, housekeeper.getAvailableDays(), true);
+    }
+
+    /**
+     * Removes a housekeeper from the roster. The id of the housekeeper is not given to anyone else.
+     *
+     * @param housekeeper The housekeeper to remove.
+     */
+    void remove(Housekeeper housekeeper) {
+        Integer id = ids.remove(housekeeper);
+        if (id == null) {
+            return;
+        }
+        housekeepersById.set(id, null);
+        setAvailableDays(id, housekeeper.getAvailableDays(), false);
+        housekeeper.setRoster(null);
+    }
+
+    /**
+     * Moves a housekeeper between the sets of the days they are available on after their availability changes.
+     *
+     * @param housekeeper           The housekeeper whose availability changed.
+     * @param previousAvailableDays The availability bitmask of the housekeeper before the change.
+     */
+    void updateAvailability(Housekeeper housekeeper, int previousAvailableDays) {
+        Integer id = ids.get(housekeeper);
+        if (id == null) {
+            return;
+        }
+        setAvailableDays(id, previousAvailableDays, false);
+        setAvailableDays(id, housekeeper.getAvailableDays(), true);
+    }
+
+    void clear() {
+        for (Housekeeper housekeeper : ids.keySet()) {
+            housekeeper.setRoster(null);
+        }
+        housekeepersById.clear();
+        ids.clear();
+        for (BitSet availableOnDay : availableByDay) {
+            availableOnDay.clear();
+        }
+    }
+
+    /**
+     * Finds the housekeepers available on every day of a bitmask, in the order they were added.
+     *
+     * @param days The days of interest as a bitmask, where bit 0 stands for Monday and bit 6 for Sunday.
+     * @return the housekeepers available on all the days, which is empty if no day is given.
+     */
+    ArrayList<Housekeeper> findAvailableOnAll(int days) {
+        BitSet found = null;
+        for (int i = 0; i < availableByDay.length; i++) {
+            if ((days & (1 << i)) == 0) {
+                continue;
+            }
+            if (found == null) {
+                found = (BitSet) availableByDay[i].clone();
+            } else {
+                found.and(availableByDay[i]);
+            }
+        }
+        ArrayList<Housekeeper> foundList = new ArrayList<>();
+        if (found == null) {
+            return foundList;
+        }
+        for (int id = found.nextSetBit(0); id >= 0; id = found.nextSetBit(id + 1)) {
+            foundList.add(housekeepersById.get(id));
+        }
+        return foundList;
+    }
+
+    private void setAvailableDays(int id, int days, boolean isAvailable) {
+        for (int i = 0; i < availableByDay.length; i++) {
+            if ((days & (1 << i)) != 0) {
+                availableByDay[i].set(id, isAvailable);
+            }
+        }
+    }
+}
@@ -1,35 +1,136 @@
 package seedu.duke.housekeeperperformancelists;
 
+import java.util.Arrays;
+
 /**
- * Records the name and performance rating of a Housekeeper. Performance rating is an integer from 1-5, inclusive.
+ * Records the name and performance ratings of a Housekeeper. Performance rating is an integer from 1-5, inclusive.
+ *
+ * <p>Every rating is kept in an append-only history together with the time it was given, in milliseconds since the
+ * epoch. The number of ratings, their mean, the lowest and highest ratings and an exponentially weighted recent score
+ * are updated as each rating is added, so reading them never goes through the history.
  */
 public class HousekeeperPerformance {
+    /** How much the latest rating counts towards the recent score, against every rating before it. */
+    static final double RECENT_SCORE_WEIGHT = 0.3;
+    private static final int INITIAL_CAPACITY = 4;
     private String name;
-    private int rating;
+    private byte[] ratings = new byte[INITIAL_CAPACITY];
+    private long[] ratedAt = new long[INITIAL_CAPACITY];
+    private int ratingCount = 0;
+    private long ratingSum = 0;
+    private int minRating;
+    private int maxRating;
+    private double recentScore;
 
-    public HousekeeperPerformance(String name, int rating) {
+    public HousekeeperPerformance(String name) {
         this.name = name;
-        this.rating = rating;
+    }
+
+    /**
+     * Creates the performance of a housekeeper with a single rating given now.
+     *
+     * @param name   The name of the housekeeper.
+     * @param rating The rating of the housekeeper.
+     */
+    public HousekeeperPerformance(String name, int rating) {
+        this(name);
+        addRating(rating, System.currentTimeMillis());
+    }
+
+    /**
+     * Appends a rating to the history of the housekeeper. The times of the ratings only ever increase, so a rating
+     * given at or before the time of the previous rating is recorded one millisecond after it.
+     *
+     * @param rating     The rating of the housekeeper.
+     * @param ratingTime The time the rating was given, in milliseconds since the epoch.
+     */
+    public void addRating(int rating, long ratingTime) {
+        if (ratingCount == ratings.length) {
+            ratings = Arrays.copyOf(ratings, ratingCount * 2);
+            ratedAt = Arrays.copyOf(ratedAt, ratingCount * 2);
+        }
+        if (ratingCount > 0 && ratingTime <= ratedAt[ratingCount - 1]) {
+            ratingTime = ratedAt[ratingCount - 1] + 1;
+        }
+        ratings[ratingCount] = (byte) rating;
+        ratedAt[ratingCount] = ratingTime;
+        if (ratingCount == 0) {
+            minRating = rating;
+            maxRating = rating;
+            recentScore = rating;
+        } else {
+            minRating = Math.min(minRating, rating);
+            maxRating = Math.max(maxRating, rating);
+            recentScore = RECENT_SCORE_WEIGHT * rating + (1 - RECENT_SCORE_WEIGHT) * recentScore;
+        }
+        ratingSum += rating;
+        ratingCount++;
     }
 
     public String getName() {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
+    /**
+     * Returns the latest rating of the housekeeper.
+     *
+     * @return the latest rating, or 0 if the housekeeper has not been rated.
+     */
+    public int getRating() {
+        return ratingCount == 0 ? 0 : ratings[ratingCount - 1];
     }
 
-    public int getRating() {
-        return rating;
+    public int getRatingCount() {
+        return ratingCount;
+    }
+
+    public double getMeanRating() {
+        return ratingCount == 0 ? 0 : (double) ratingSum / ratingCount;
+    }
+
+    public int getMinRating() {
+        return minRating;
+    }
+
+    public int getMaxRating() {
+        return maxRating;
+    }
+
+    public double getRecentScore() {
+        return recentScore;
+    }
+
+    public int getRatingAt(int index) {
+        return ratings[index];
+    }
+
+    public long getRatedAt(int index) {
+        return ratedAt[index];
+    }
+
+    /**
+     * Returns a summary of the ratings of the housekeeper in a user-readable format.
+     *
+     * @return the mean, count, lowest, highest and recent score of the ratings.
+     */
+    public String getSummary() {
+        return String.format("%.2f (%d rating(s), min %d, max %d, recent %.2f)", getMeanRating(), ratingCount,
+                minRating, maxRating, recentScore);
     }
 
-    public void setRating(int rating) {
-        this.rating = rating;
+    /**
+     * Returns a rating within the history of the housekeeper in the format it is stored within the file
+     * ListFolder/performance_list.txt.
+     *
+     * @param index The position of the rating within the history, starting from 0 for the earliest.
+     * @return the name of the housekeeper, the rating and the time it was given.
+     */
+    public String toFileString(int index) {
+        return getName() + '|' + ratings[index] + '|' + ratedAt[index];
     }
 
     @Override
     public String toString() {
-        return "[ " + getName() + " ]: " + getRating();
+        return "[ " + getName() + " ]: " + getSummary();
     }
 }
@@ -1,37 +1,81 @@
 package seedu.duke.housekeeperperformancelists;
 
+import seedu.duke.storage.JournalBuffer;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 
 /**
- * Represents a data structure containing all housekeeper performance ratings.
+ * Represents a data structure containing the performance ratings of every housekeeper. The performances are kept in a
+ * leaderboard ordered from the highest mean rating to the lowest, and by name between equal mean ratings, so the list
+ * never has to be sorted again as ratings are added.
  */
 
 public class HousekeeperPerformanceList {
-    private ArrayList<HousekeeperPerformance> housekeeperPerformanceList;
+    private PerformanceLeaderboard leaderboard = new PerformanceLeaderboard();
+    private HashMap<String, HousekeeperPerformance> performancesByName = new HashMap<>();
+    private JournalBuffer journalBuffer = new JournalBuffer();
 
-    public HousekeeperPerformanceList() {
-        ArrayList<HousekeeperPerformance> housekeeperPerformanceList = new ArrayList<>();
-        setHousekeeperPerformanceList(housekeeperPerformanceList);
+    /**
+     * Adds the ratings of a performance to the list. If the housekeeper already has recorded ratings, the new ratings
+     * are appended to their history. Otherwise, the performance is added as it is.
+     *
+     * @param newHousekeeperPerformance The performance whose ratings should be added.
+     */
+    public void addHousekeeperPerformance(HousekeeperPerformance newHousekeeperPerformance) {
+        HousekeeperPerformance recordedPerformance = performancesByName.get(newHousekeeperPerformance.getName());
+        if (recordedPerformance == null) {
+            performancesByName.put(newHousekeeperPerformance.getName(), newHousekeeperPerformance);
+            leaderboard.add(newHousekeeperPerformance);
+            for (int i = 0; i < newHousekeeperPerformance.getRatingCount(); i++) {
+                journalBuffer.recordPut(newHousekeeperPerformance.toFileString(i));
+            }
+            return;
+        }
+        for (int i = 0; i < newHousekeeperPerformance.getRatingCount(); i++) {
+            addRating(newHousekeeperPerformance.getName(), newHousekeeperPerformance.getRatingAt(i),
+                    newHousekeeperPerformance.getRatedAt(i));
+        }
     }
 
-    public void addHousekeeperPerformance(HousekeeperPerformance newHousekeeperPerformance) {
-        getHousekeeperPerformanceList().add(newHousekeeperPerformance);
-        sortHousekeeperPerformances();
+    /**
+     * Appends a rating to the history of a housekeeper, who is moved to their new place in the leaderboard.
+     *
+     * @param housekeeperName The name of the housekeeper.
+     * @param rating          The rating of the housekeeper.
+     * @param ratingTime      The time the rating was given, in milliseconds since the epoch.
+     * @return the performance of the housekeeper, including the new rating.
+     */
+    public HousekeeperPerformance addRating(String housekeeperName, int rating, long ratingTime) {
+        HousekeeperPerformance performance = performancesByName.get(housekeeperName);
+        if (performance == null) {
+            performance = new HousekeeperPerformance(housekeeperName);
+            performancesByName.put(housekeeperName, performance);
+        } else {
+            leaderboard.remove(performance);
+        }
+        performance.addRating(rating, ratingTime);
+        leaderboard.add(performance);
+        journalBuffer.recordPut(performance.toFileString(performance.getRatingCount() - 1));
+        return performance;
     }
 
-    public ArrayList<HousekeeperPerformance> getHousekeeperPerformanceList() {
-        return housekeeperPerformanceList;
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
     }
 
-    public void setHousekeeperPerformanceList(ArrayList<HousekeeperPerformance> housekeeperPerformanceList) {
-        this.housekeeperPerformanceList = housekeeperPerformanceList;
+    /**
+     * Returns the performance of every housekeeper, from the highest mean rating to the lowest.
+     *
+     * @return a new list of the performances.
+     */
+    public ArrayList<HousekeeperPerformance> getHousekeeperPerformanceList() {
+        return new ArrayList<>(leaderboard.getAll());
     }
 
     public int getSize() {
-        return housekeeperPerformanceList.size();
+        return leaderboard.size();
     }
 
     /**
@@ -41,9 +85,29 @@ public class HousekeeperPerformanceList {
      * @return The index returned by the .
      */
     public HousekeeperPerformance getPerformance(int index) {
-        ArrayList<HousekeeperPerformance> performanceList = getHousekeeperPerformanceList();
-        HousekeeperPerformance performance = performanceList.get(index);
-        return performance;
+        return leaderboard.get(index);
+    }
+
+    /**
+     * Returns the performances with the highest mean ratings, without going through the rest of the list.
+     *
+     * @param numberOfPerformances The number of performances to return.
+     * @return the highest rated performances, from the highest mean rating to the lowest.
+     */
+    public List<HousekeeperPerformance> getTopPerformances(int numberOfPerformances) {
+        return leaderboard.getTop(numberOfPerformances);
+    }
+
+    /**
+     * Returns the rank of a housekeeper among the recorded performance ratings.
+     *
+     * @param housekeeperName The name of the housekeeper.
+     * @return the rank of the housekeeper, starting from 1 for the highest rated, or 0 if the housekeeper has no
+     *         recorded performance rating.
+     */
+    public int getRank(String housekeeperName) {
+        HousekeeperPerformance performance = performancesByName.get(housekeeperName);
+        return performance == null ? 0 : leaderboard.rankOf(performance);
     }
 
     /**
@@ -52,17 +116,12 @@ public class HousekeeperPerformanceList {
      * @return true if the Housekeeper already has a recorded performance rating, false otherwise.
      */
     public boolean isHousekeeperInPerformanceList(String housekeeperName) {
-        for (HousekeeperPerformance housekeeperPerformance : housekeeperPerformanceList) {
-            if (housekeeperName.equals(housekeeperPerformance.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return performancesByName.containsKey(housekeeperName);
     }
 
     /**
-     * Pretty-prints the list of HousekeeperPerformance objects. Displays the name and rating associated with
-     * each HousekeeperPerformance object.
+     * Pretty-prints the list of HousekeeperPerformance objects. Displays the name associated with each
+     * HousekeeperPerformance object and a summary of its ratings, read from the running totals of the ratings.
      */
     public void viewPerformances() {
         if (getSize() == 0) {
@@ -70,28 +129,18 @@ public class HousekeeperPerformanceList {
         } else {
             System.out.println("======== Housekeeper Performance List ========");
             int number = 1;
-            for (HousekeeperPerformance housekeeperPerformance : housekeeperPerformanceList) {
+            for (HousekeeperPerformance housekeeperPerformance : leaderboard.getAll()) {
                 System.out.println(Integer.toString(number) + ". [ " + housekeeperPerformance.getName().toUpperCase()
-                        + " ]: " + housekeeperPerformance.getRating());
+                        + " ]: " + housekeeperPerformance.getSummary());
                 number += 1;
             }
             System.out.println("============= End of the list =============");
         }
     }
 
-    /**
-     * Sorts the HousekeeperPerformance objects based on rating in descending order.
-     */
-    public void sortHousekeeperPerformances() {
-        Collections.sort(housekeeperPerformanceList, new Comparator<HousekeeperPerformance>() {
-            @Override
-            public int compare(HousekeeperPerformance a, HousekeeperPerformance b) {
-                return a.getRating() > b.getRating() ? -1 : (a.getRating() > b.getRating() ? 1 : 0);
-            }
-        });
-    }
-
     public void clearHousekeeperPerformanceList() {
-        housekeeperPerformanceList.clear();
+        leaderboard.clear();
+        performancesByName.clear();
+        journalBuffer.recordClear();
     }
 }
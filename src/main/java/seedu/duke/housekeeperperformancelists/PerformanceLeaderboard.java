@@ -0,0 +1,207 @@
+package seedu.duke.housekeeperperformancelists;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Keeps housekeeper performances ordered from the highest mean rating to the lowest, and by name between equal mean
+ * ratings.
+ *
+ * <p>The performances are kept in a skip list where each link also records how many performances it skips over, so
+ * adding or removing a performance, finding the performance at a position and finding the position of a performance
+ * all take O(log n) time on average, and the top k performances are found in O(log n + k) time.
+ */
+class PerformanceLeaderboard {
+    static final Comparator<HousekeeperPerformance> RANKING = Comparator
+            .comparingDouble(HousekeeperPerformance::getMeanRating).reversed()
+            .thenComparing(HousekeeperPerformance::getName);
+    private static final int MAX_LEVEL = 32;
+    private static final int LEVEL_UP_CHANCE = 4;
+    private final Node head = new Node(null, MAX_LEVEL);
+    private final Random random = new Random();
+    private int level = 1;
+    private int size = 0;
+
+    private static class Node {
+        private final HousekeeperPerformance performance;
+        private final Node[] next;
+        private final int[] span;
+
+        Node(HousekeeperPerformance performance, int level) {
+            this.performance = performance;
+            next = new Node[level];
+            span = new int[level];
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a performance to the leaderboard. The performance must not be in the leaderboard already, and must not be
+     * rated again until it is removed, as that would move it out of order.
+     *
+     * @param performance The performance to add.
+     */
+    void add(HousekeeperPerformance performance) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && RANKING.compare(node.next[i].performance, performance) < 0) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+        Node newNode = new Node(performance, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            newNode.next[i] = update[i].next[i];
+            update[i].next[i] = newNode;
+            newNode.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Removes a performance from the leaderboard.
+     *
+     * @param performance The performance to remove.
+     * @return true if the performance was in the leaderboard, false otherwise.
+     */
+    boolean remove(HousekeeperPerformance performance) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && RANKING.compare(node.next[i].performance, performance) < 0) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        Node removedNode = node.next[0];
+        if (removedNode == null || removedNode.performance != performance) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == removedNode) {
+                update[i].span[i] += removedNode.span[i] - 1;
+                update[i].next[i] = removedNode.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the performance at a position in the leaderboard.
+     *
+     * @param index The position of the performance, starting from 0 for the highest rated.
+     * @return the performance at the position.
+     * @throws IndexOutOfBoundsException if there is no performance at the position.
+     */
+    HousekeeperPerformance get(int index) {
+        Node node = findNodeAt(index);
+        if (node == null) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return node.performance;
+    }
+
+    /**
+     * Returns the rank of a performance in the leaderboard.
+     *
+     * @param performance The performance to rank.
+     * @return the rank of the performance, starting from 1 for the highest rated, or 0 if it is not in the leaderboard.
+     */
+    int rankOf(HousekeeperPerformance performance) {
+        int rank = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && RANKING.compare(node.next[i].performance, performance) <= 0) {
+                rank += node.span[i];
+                node = node.next[i];
+            }
+            if (node.performance == performance) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the highest rated performances, from the highest rating to the lowest.
+     *
+     * @param numberOfPerformances The number of performances to return.
+     * @return the highest rated performances, which are all the performances if there are fewer than asked for.
+     */
+    List<HousekeeperPerformance> getTop(int numberOfPerformances) {
+        ArrayList<HousekeeperPerformance> topPerformances = new ArrayList<>();
+        for (Node node = head.next[0]; node != null && topPerformances.size() < numberOfPerformances;
+                node = node.next[0]) {
+            topPerformances.add(node.performance);
+        }
+        return topPerformances;
+    }
+
+    List<HousekeeperPerformance> getAll() {
+        return getTop(size);
+    }
+
+    void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    private Node findNodeAt(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        int target = index + 1;
+        int traversed = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && traversed + node.span[i] <= target) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+            if (traversed == target) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private int randomLevel() {
+        int newLevel = 1;
+        while (newLevel < MAX_LEVEL && random.nextInt(LEVEL_UP_CHANCE) == 0) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+}
@@ -61,18 +61,31 @@ public class Item {
 
     /**
      * Checks if the itemName contains only alphabetical characters, digits, whitespaces or apostrophe in accordance to
-     * the restrictions mentioned in the user guide.
+     * the restrictions mentioned in the user guide. The characters are checked one at a time instead of with a regular
+     * expression, as this is called for every item loaded from the file ListFolder/ItemList.txt.
      *
      * @param itemName The itemName within the command inputted by the user.
      * @return true if the itemName did not violate any one of the restrictions mentioned above.false if the item name
      *     violates any one of the restrictions.
      */
     private boolean checkIfItemNameFormatValid(String itemName) {
-        boolean isItemNameFormatValid = false;
-        if (itemName.matches("^([a-z]|[A-Z]|[0-9]|\\s|')+$")) {
-            isItemNameFormatValid = true;
+        if (itemName.isEmpty()) {
+            return false;
         }
-        return isItemNameFormatValid;
+        for (int i = 0; i < itemName.length(); i++) {
+            if (!isValidItemNameCharacter(itemName.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isValidItemNameCharacter(char character) {
+        boolean isLetter = (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+        boolean isDigit = character >= '0' && character <= '9';
+        boolean isWhitespace = character == ' ' || character == '\t' || character == '\n' || character == '\u000B'
+                || character == '\f' || character == '\r';
+        return isLetter || isDigit || isWhitespace || character == '\'';
     }
 
     public String getUpdatedName() {
@@ -82,4 +95,8 @@ public class Item {
     public void setUpdatedName(String updatedName) {
         this.updatedName = updatedName;
     }
+
+    public String toFileString() {
+        return getName() + '|' + getPax();
+    }
 }
@@ -3,17 +3,32 @@ package seedu.duke.itemlists;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.ItemNotFoundException;
 import seedu.duke.exceptions.NewItemPaxSameAsCurrentPaxException;
+import seedu.duke.storage.JournalBuffer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Represents a list of the items within the inventory. An ItemList object contains the methods to add items to the
  * item list as well as update the paxs of the current items within the item List.
+ *
+ * <p>The items are kept in the order they were added, together with an index from item name to item so that an item
+ * can be found without scanning the list. An item that is deleted is only removed from the index straight away; it
+ * is dropped from the ordered list the next time the items are read by their position. Deleting an item therefore
+ * takes constant time, but the first read by position after any number of deletes takes time linear in the size of
+ * the list, so deletes are only constant time when amortised over the reads between them. The trigram index used to
+ * search the item names is built the first time the item list is searched, and the index of the items sorted by pax
+ * is built the first time the items with a low pax are viewed. Both are kept up to date from then on.
  */
 public class ItemList {
     ArrayList<Item> listOfItems;
+    private HashMap<String, Item> itemsByName;
+    private boolean hasDeletedItems = false;
+    private ItemNameIndex itemNameIndex;
+    private ItemStockIndex itemStockIndex;
+    private JournalBuffer journalBuffer = new JournalBuffer();
     private static Logger itemLogger = Logger.getLogger("itemLogger");
 
     public ItemList() {
@@ -21,20 +36,61 @@ public class ItemList {
         setListOfItems(listOfItems);
     }
 
+    /**
+     * Returns the items of the item list in the order they were added. If items have been deleted since the items
+     * were last read, they are first dropped from the list, which takes time linear in the size of the list.
+     *
+     * @return the items of the item list.
+     */
     public ArrayList<Item> getListOfItems() {
+        removeDeletedItems();
         return listOfItems;
     }
 
+    /**
+     * Replaces the items within the item list and rebuilds the index of the items by name. If two items have the same
+     * name, the later one is kept.
+     *
+     * @param listOfItems The items of the item list, in the order they were added.
+     */
     public void setListOfItems(ArrayList<Item> listOfItems) {
         this.listOfItems = listOfItems;
+        itemsByName = new HashMap<>(Math.max(listOfItems.size() * 4 / 3 + 1, 16));
+        for (Item item : listOfItems) {
+            itemsByName.put(item.getName(), item);
+        }
+        hasDeletedItems = itemsByName.size() != listOfItems.size();
+        itemNameIndex = null;
+        itemStockIndex = null;
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
     }
 
     public void addItemToList(Item item) {
+        Item replacedItem = itemsByName.put(item.getName(), item);
+        if (replacedItem != null) {
+            hasDeletedItems = true;
+        }
         listOfItems.add(item);
+        if (itemNameIndex != null) {
+            if (replacedItem != null) {
+                itemNameIndex.remove(replacedItem);
+            }
+            itemNameIndex.add(item);
+        }
+        if (itemStockIndex != null) {
+            if (replacedItem != null) {
+                itemStockIndex.remove(replacedItem);
+            }
+            itemStockIndex.add(item);
+        }
+        journalBuffer.recordPut(item.toFileString());
     }
 
     public int getSize() {
-        return listOfItems.size();
+        return itemsByName.size();
     }
 
     /**
@@ -46,26 +102,12 @@ public class ItemList {
      *      Otherwise, it returns false.
      */
     public boolean checkForItemDuplicates(String nameOfItemToAdd) {
-        boolean isItemAlreadyInTheList = false;
-        int numberOfItemsInItemList = listOfItems.size();
-        if (numberOfItemsInItemList == 0) {
-            return isItemAlreadyInTheList;
-        }
-        String itemName;
-        Item item;
-        for (int itemIndex = 0; itemIndex < numberOfItemsInItemList; itemIndex++) {
-            item = listOfItems.get(itemIndex);
-            itemName = item.getName();
-            if (itemName.equals(nameOfItemToAdd)) {
-                isItemAlreadyInTheList = true;
-                break;
-            }
-        }
-        return isItemAlreadyInTheList;
+        return itemsByName.containsKey(nameOfItemToAdd);
     }
 
     /**
-     * Returns a specific item within the item list based on the index passed in.
+     * Returns a specific item within the item list based on the index passed in. See {@link #getListOfItems()} for the
+     * cost of the first call after items have been deleted.
      *
      * @param index The index of the item within the list that would be returned.
      * @return The item specified by the index passed into the function.
@@ -90,27 +132,21 @@ public class ItemList {
         int paxOfItemToUpdate = item.getPax();
         assert (paxOfItemToUpdate >= 0) : "Assertion Failed! Item to update has a pax that is lesser than 0";
         assert (!nameOfItemToUpdate.isEmpty()) : "Assertion Failed! Item to update has an empty name.";
-        boolean isItemFound = false;
-        Item currentItem;
-        String currentItemName;
-        int currentItemPax;
-        ArrayList<Item> listOfItems = getListOfItems();
-        for (int itemIndex = 0; itemIndex < listOfItems.size(); itemIndex++) {
-            currentItem = listOfItems.get(itemIndex);
-            currentItemName = currentItem.getName();
-            currentItemPax = currentItem.getPax();
-            if (currentItemName.equals(nameOfItemToUpdate) && currentItemPax == paxOfItemToUpdate) {
-                throw new NewItemPaxSameAsCurrentPaxException();
-            } else if (currentItemName.equals(nameOfItemToUpdate)) {
-                currentItem.setPax(paxOfItemToUpdate);
-                isItemFound = true;
-            }
-        }
-        if (isItemFound == false) {
+        Item currentItem = itemsByName.get(nameOfItemToUpdate);
+        if (currentItem == null) {
             itemLogger.log(Level.WARNING, "The item whose pax is to be updated cannot be found within the Item "
                     + "List. Exception thrown.");
             throw new ItemNotFoundException();
         }
+        if (currentItem.getPax() == paxOfItemToUpdate) {
+            throw new NewItemPaxSameAsCurrentPaxException();
+        }
+        if (itemStockIndex != null) {
+            itemStockIndex.updatePax(currentItem, paxOfItemToUpdate);
+        } else {
+            currentItem.setPax(paxOfItemToUpdate);
+        }
+        journalBuffer.recordPut(currentItem.toFileString());
     }
 
     /**
@@ -124,23 +160,20 @@ public class ItemList {
     public void deleteItemInList(Item item) throws ItemNotFoundException {
         String nameOfItemToDelete = item.getName();
         assert (!nameOfItemToDelete.isEmpty()) : "Assertion Failed! Name of the item to delete is empty.";
-        boolean isItemFound = false;
-        Item currentItem;
-        String currentItemName;
-        ArrayList<Item> listOfItems = getListOfItems();
-        for (int itemIndex = 0; itemIndex < listOfItems.size(); itemIndex++) {
-            currentItem = listOfItems.get(itemIndex);
-            currentItemName = currentItem.getName();
-            if (currentItemName.equals(nameOfItemToDelete)) {
-                listOfItems.remove(itemIndex);
-                isItemFound = true;
-            }
-        }
-        if (isItemFound == false) {
+        Item currentItem = itemsByName.remove(nameOfItemToDelete);
+        if (currentItem == null) {
             itemLogger.log(Level.WARNING, "The item to delete cannot be found within the Item List. Exception "
                     + "thrown.");
             throw new ItemNotFoundException();
         }
+        hasDeletedItems = true;
+        if (itemNameIndex != null) {
+            itemNameIndex.remove(currentItem);
+        }
+        if (itemStockIndex != null) {
+            itemStockIndex.remove(currentItem);
+        }
+        journalBuffer.recordDelete(currentItem.toFileString());
     }
 
     /**
@@ -151,24 +184,41 @@ public class ItemList {
      * @throws ItemNotFoundException if the item that the user wants to update does not exist in the item list.
      */
     public void updateItemNameInList(String currentItemName, String newItemName) throws ItemNotFoundException {
-        boolean isItemFound = false;
-        ArrayList<Item> listOfItems = getListOfItems();
-        Item item;
-        String itemName;
-        for (int itemIndex = 0; itemIndex < listOfItems.size(); itemIndex++) {
-            item = listOfItems.get(itemIndex);
-            itemName = item.getName();
-            if (itemName.equals(currentItemName)) {
-                item.setName(newItemName);
-                isItemFound = true;
-                break;
-            }
-        }
-        if (isItemFound == false) {
+        Item item = itemsByName.get(currentItemName);
+        if (item == null) {
             itemLogger.log(Level.WARNING, "The item whose name we want to update cannot be found within the "
                     + "Item List. Exception thrown.");
             throw new ItemNotFoundException();
         }
+        String previousRecord = item.toFileString();
+        itemsByName.remove(currentItemName);
+        item.setName(newItemName);
+        Item replacedItem = itemsByName.put(newItemName, item);
+        if (replacedItem != null && replacedItem != item) {
+            hasDeletedItems = true;
+        }
+        if (itemNameIndex != null) {
+            if (replacedItem != null && replacedItem != item) {
+                itemNameIndex.remove(replacedItem);
+            }
+            itemNameIndex.rename(item, currentItemName);
+        }
+        if (itemStockIndex != null && replacedItem != null && replacedItem != item) {
+            itemStockIndex.remove(replacedItem);
+        }
+        journalBuffer.recordRename(previousRecord, item.toFileString());
+    }
+
+    /**
+     * Drops the items that have been deleted or replaced from the ordered list of items in a single pass over the
+     * list. An item is still within the item list if the index maps its name to that same item.
+     */
+    private void removeDeletedItems() {
+        if (!hasDeletedItems) {
+            return;
+        }
+        listOfItems.removeIf(item -> itemsByName.get(item.getName()) != item);
+        hasDeletedItems = false;
     }
 
     /**
@@ -178,36 +228,65 @@ public class ItemList {
      * @return An item list containing all the items whose names contain the keyword.
      */
     public ItemList findItemsInList(String keyword) {
+        return findItemsInList(keyword, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a page of the items in the item list whose name contains the keyword given by the user, in the order
+     * they were added to the item list.
+     *
+     * @param keyword         The keyword used to search the item list.
+     * @param numberToSkip    The number of matching items before the first item of the page.
+     * @param maximumToReturn The maximum number of items within the page.
+     * @return An item list containing the matching items within the page.
+     */
+    public ItemList findItemsInList(String keyword, int numberToSkip, int maximumToReturn) {
         ItemList listOfMatchingItems = new ItemList();
-        ArrayList<Item> listOfItems = getListOfItems();
-        Item item;
-        String itemName;
-        for (int itemIndex = 0; itemIndex < listOfItems.size(); itemIndex++) {
-            item = listOfItems.get(itemIndex);
-            itemName = item.getName();
-            if (itemName.contains(keyword)) {
-                listOfMatchingItems.addItemToList(item);
-            }
-        }
+        ArrayList<Item> matchingItems = new ArrayList<>(getItemNameIndex().search(keyword, numberToSkip,
+                maximumToReturn));
+        listOfMatchingItems.setListOfItems(matchingItems);
         return listOfMatchingItems;
     }
 
+    /**
+     * Returns the number of items in the item list whose name contains the keyword given by the user.
+     *
+     * @param keyword The keyword used to search the item list.
+     * @return the number of items whose names contain the keyword.
+     */
+    public int countItemsInList(String keyword) {
+        return getItemNameIndex().countMatches(keyword);
+    }
+
+    private ItemNameIndex getItemNameIndex() {
+        if (itemNameIndex == null) {
+            itemNameIndex = new ItemNameIndex(getListOfItems());
+        }
+        return itemNameIndex;
+    }
+
     /**
      * Returns all the items in the item list whose pax is zero.
      *
      * @return An item list containing all the items whose pax is zero.
      */
     public ItemList findItemsWithZeroPaxInList() {
-        ItemList listOfMatchingItems = new ItemList();
-        Item item;
-        int itemPax;
-        for (int itemIndex = 0; itemIndex < listOfItems.size(); itemIndex++) {
-            item = listOfItems.get(itemIndex);
-            itemPax = item.getPax();
-            if (itemPax == 0) {
-                listOfMatchingItems.addItemToList(item);
-            }
+        return findItemsWithPaxAtMost(0);
+    }
+
+    /**
+     * Returns all the items in the item list whose pax is at most the given pax, from the lowest pax to the highest
+     * pax. Items with the same pax are in the order they were added to the item list.
+     *
+     * @param maximumPax The highest pax of the items to return.
+     * @return An item list containing all the items whose pax is at most the given pax.
+     */
+    public ItemList findItemsWithPaxAtMost(int maximumPax) {
+        if (itemStockIndex == null) {
+            itemStockIndex = new ItemStockIndex(getListOfItems());
         }
+        ItemList listOfMatchingItems = new ItemList();
+        listOfMatchingItems.setListOfItems(new ArrayList<>(itemStockIndex.findItemsWithPaxAtMost(maximumPax)));
         return listOfMatchingItems;
     }
 }
@@ -0,0 +1,230 @@
+package seedu.duke.itemlists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Represents a trigram index over the names of the items within an item list, used to find the items whose name
+ * contains a keyword without checking the name of every item.
+ *
+ * <p>Every item is given an id in the order it was added, and every sequence of three characters within its name maps
+ * to the sorted ids of the items whose name contains it. A keyword of at least three characters can then only be found
+ * within the names of the items that appear in the posting list of every trigram of the keyword. Those candidates are
+ * checked against the keyword, as having every trigram does not guarantee that the trigrams are next to each other.
+ * Keywords shorter than three characters are matched against every item. The ids of removed items are only reclaimed
+ * once they make up more than half of the ids given out, when the remaining items are given new ids in the same order,
+ * so the ids given out never exceed twice the number of items.
+ *
+ * <p>The number of items matching a keyword is kept until the index next changes, so paging through the results of a
+ * search only counts the matches once.
+ */
+class ItemNameIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_CACHED_MATCH_COUNTS = 64;
+
+    private final HashMap<Long, PostingList> postingLists = new HashMap<>();
+    private final ArrayList<Item> itemsById = new ArrayList<>();
+    private final IdentityHashMap<Item, Integer> idsByItem = new IdentityHashMap<>();
+    private final HashMap<String, Integer> matchCountsByKeyword = new HashMap<>();
+    private int numberOfRemovedIds = 0;
+
+    /**
+     * Represents the ids of the items whose name contains a trigram, in ascending order.
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        private void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            int position = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -(position + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private void remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+
+        private boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+
+    ItemNameIndex(List<Item> items) {
+        for (Item item : items) {
+            add(item);
+        }
+    }
+
+    void add(Item item) {
+        int id = itemsById.size();
+        itemsById.add(item);
+        idsByItem.put(item, id);
+        addTrigrams(item.getName(), id);
+        matchCountsByKeyword.clear();
+    }
+
+    void remove(Item item) {
+        Integer id = idsByItem.remove(item);
+        if (id == null) {
+            return;
+        }
+        itemsById.set(id, null);
+        removeTrigrams(item.getName(), id);
+        matchCountsByKeyword.clear();
+        numberOfRemovedIds++;
+        if (numberOfRemovedIds > itemsById.size() / 2) {
+            reclaimRemovedIds();
+        }
+    }
+
+    /**
+     * Gives the remaining items new ids in the order of their current ids, dropping the ids of the removed items.
+     */
+    private void reclaimRemovedIds() {
+        ArrayList<Item> remainingItems = new ArrayList<>(itemsById.size() - numberOfRemovedIds);
+        for (Item item : itemsById) {
+            if (item != null) {
+                remainingItems.add(item);
+            }
+        }
+        itemsById.clear();
+        idsByItem.clear();
+        postingLists.clear();
+        numberOfRemovedIds = 0;
+        for (Item item : remainingItems) {
+            add(item);
+        }
+    }
+
+    /**
+     * Moves an item that has been renamed to the trigrams of its new name. The item keeps its id, so it keeps its
+     * position among the search results.
+     *
+     * @param item         The item that has been renamed.
+     * @param previousName The name of the item before it was renamed.
+     */
+    void rename(Item item, String previousName) {
+        Integer id = idsByItem.get(item);
+        if (id == null) {
+            return;
+        }
+        removeTrigrams(previousName, id);
+        addTrigrams(item.getName(), id);
+        matchCountsByKeyword.clear();
+    }
+
+    /**
+     * Returns the items whose name contains the keyword, in the order they were added to the item list. The
+     * candidates are checked lazily, so only as many candidates are checked as are needed to fill the page.
+     *
+     * @param keyword         The keyword to search for.
+     * @param numberToSkip    The number of matching items to skip before the first item returned.
+     * @param maximumToReturn The maximum number of items to return.
+     * @return the matching items after the skipped ones, up to the given maximum.
+     */
+    List<Item> search(String keyword, int numberToSkip, int maximumToReturn) {
+        return findMatchingItems(keyword).skip(numberToSkip).limit(maximumToReturn).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of items whose name contains the keyword. The matches are only counted the first time a
+     * keyword is searched for after the index has changed.
+     *
+     * @param keyword The keyword to search for.
+     * @return the number of matching items.
+     */
+    int countMatches(String keyword) {
+        Integer matchCount = matchCountsByKeyword.get(keyword);
+        if (matchCount == null) {
+            matchCount = (int) findMatchingItems(keyword).count();
+            if (matchCountsByKeyword.size() >= MAX_CACHED_MATCH_COUNTS) {
+                matchCountsByKeyword.clear();
+            }
+            matchCountsByKeyword.put(keyword, matchCount);
+        }
+        return matchCount;
+    }
+
+    private Stream<Item> findMatchingItems(String keyword) {
+        return findCandidateIds(keyword).mapToObj(itemsById::get).filter(item -> item.getName().contains(keyword));
+    }
+
+    /**
+     * Returns the ids of the items whose name contains every trigram of the keyword, in ascending order, by walking
+     * the shortest posting list of the keyword and looking each id up within the other posting lists.
+     */
+    private IntStream findCandidateIds(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return IntStream.range(0, itemsById.size()).filter(id -> itemsById.get(id) != null);
+        }
+        ArrayList<PostingList> keywordPostingLists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            PostingList postingList = postingLists.get(toTrigram(keyword, i));
+            if (postingList == null) {
+                return IntStream.empty();
+            }
+            keywordPostingLists.add(postingList);
+        }
+        keywordPostingLists.sort(Comparator.comparingInt(postingList -> postingList.size));
+        PostingList shortestPostingList = keywordPostingLists.get(0);
+        return Arrays.stream(shortestPostingList.ids, 0, shortestPostingList.size)
+                .filter(id -> isInEveryPostingList(id, keywordPostingLists));
+    }
+
+    private boolean isInEveryPostingList(int id, ArrayList<PostingList> keywordPostingLists) {
+        for (int i = 1; i < keywordPostingLists.size(); i++) {
+            if (!keywordPostingLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addTrigrams(String name, int id) {
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            postingLists.computeIfAbsent(toTrigram(name, i), trigram -> new PostingList()).add(id);
+        }
+    }
+
+    private void removeTrigrams(String name, int id) {
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            Long trigram = toTrigram(name, i);
+            PostingList postingList = postingLists.get(trigram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.size == 0) {
+                postingLists.remove(trigram);
+            }
+        }
+    }
+
+    private static long toTrigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
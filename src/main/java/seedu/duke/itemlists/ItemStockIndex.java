@@ -0,0 +1,79 @@
+package seedu.duke.itemlists;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Represents an index of the items within an item list sorted by their pax, used to find the items that are out of
+ * stock or running low without checking the pax of every item.
+ *
+ * <p>Items with the same pax are kept in the order they were added to the item list. As the pax of an item decides its
+ * position within the index, the pax of an indexed item must only be changed through {@link #updatePax(Item, int)}.
+ */
+class ItemStockIndex {
+    private final IdentityHashMap<Item, Long> sequenceNumbers = new IdentityHashMap<>();
+    private final TreeSet<Item> itemsByPax = new TreeSet<>(Comparator.comparingInt(Item::getPax)
+            .thenComparingLong(this::getSequenceNumber));
+    private long nextSequenceNumber = 0;
+
+    ItemStockIndex(List<Item> items) {
+        for (Item item : items) {
+            add(item);
+        }
+    }
+
+    void add(Item item) {
+        sequenceNumbers.put(item, nextSequenceNumber++);
+        itemsByPax.add(item);
+    }
+
+    void remove(Item item) {
+        if (sequenceNumbers.containsKey(item)) {
+            itemsByPax.remove(item);
+            sequenceNumbers.remove(item);
+        }
+    }
+
+    /**
+     * Changes the pax of an item and moves it to its new position within the index. The item keeps its position among
+     * the items with the same pax.
+     *
+     * @param item The item whose pax is updated.
+     * @param pax  The new pax of the item.
+     */
+    void updatePax(Item item, int pax) {
+        boolean isIndexed = sequenceNumbers.containsKey(item);
+        if (isIndexed) {
+            itemsByPax.remove(item);
+        }
+        item.setPax(pax);
+        if (isIndexed) {
+            itemsByPax.add(item);
+        }
+    }
+
+    /**
+     * Returns the items whose pax is at most the given pax, from the lowest pax to the highest pax. This takes time
+     * proportional to the number of items returned rather than the number of items within the item list.
+     *
+     * @param maximumPax The highest pax of the items to return.
+     * @return the items whose pax is at most the given pax.
+     */
+    List<Item> findItemsWithPaxAtMost(int maximumPax) {
+        ArrayList<Item> matchingItems = new ArrayList<>();
+        for (Item item : itemsByPax) {
+            if (item.getPax() > maximumPax) {
+                break;
+            }
+            matchingItems.add(item);
+        }
+        return matchingItems;
+    }
+
+    private long getSequenceNumber(Item item) {
+        return sequenceNumbers.get(item);
+    }
+}
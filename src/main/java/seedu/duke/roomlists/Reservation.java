@@ -0,0 +1,40 @@
+package seedu.duke.roomlists;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a booking of a room for the nights from the start date up to, but not including, the end date. The end
+ * date is the day the guest checks out, so a reservation ending on a date does not clash with one starting on it.
+ */
+public class Reservation {
+    private int roomId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public Reservation(int roomId, LocalDate startDate, LocalDate endDate) {
+        this.roomId = roomId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public String toString() {
+        return "Room " + roomId + " from " + startDate + " to " + endDate;
+    }
+
+    public String toFileString() {
+        return roomId + " | " + startDate + " | " + endDate;
+    }
+}
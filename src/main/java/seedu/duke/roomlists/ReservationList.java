@@ -0,0 +1,130 @@
+package seedu.duke.roomlists;
+
+import seedu.duke.exceptions.ReservationClashException;
+import seedu.duke.exceptions.ReservationNotFoundException;
+import seedu.duke.storage.JournalBuffer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents the reservations of every room within the hotel, grouped by room so that checking whether a room is free
+ * over a date range takes time logarithmic in the number of reservations of that room.
+ */
+public class ReservationList {
+    private static Logger reservationLogger = Logger.getLogger("reservationLogger");
+    private HashMap<Integer, RoomReservations> reservationsByRoom = new HashMap<>();
+    private JournalBuffer journalBuffer = new JournalBuffer();
+    private int size = 0;
+
+    public ReservationList(ArrayList<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            if (!getRoomReservations(reservation.getRoomId()).add(reservation)) {
+                reservationLogger.log(Level.WARNING, "Skipping stored reservation that clashes with an earlier one: "
+                        + reservation + ".");
+                continue;
+            }
+            size++;
+        }
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Checks if a room is free for every night from the start date up to, but not including, the end date.
+     *
+     * @param roomId    The room id of the room.
+     * @param startDate The first night to check.
+     * @param endDate   The day after the last night to check.
+     * @return true if no reservation of the room covers any of those nights. Otherwise, false.
+     */
+    public boolean isAvailable(int roomId, LocalDate startDate, LocalDate endDate) {
+        RoomReservations roomReservations = reservationsByRoom.get(roomId);
+        return roomReservations == null || roomReservations.isAvailable(startDate, endDate);
+    }
+
+    /**
+     * Returns the rooms among the given rooms that are free for every night from the start date up to, but not
+     * including, the end date. Pass the rooms of a room type to search a single room type.
+     *
+     * @param rooms     The rooms to search.
+     * @param startDate The first night of the stay.
+     * @param endDate   The day the stay ends.
+     * @return the free rooms, in the order they were given.
+     */
+    public List<Room> findAvailableRooms(List<Room> rooms, LocalDate startDate, LocalDate endDate) {
+        ArrayList<Room> availableRooms = new ArrayList<>();
+        for (Room room : rooms) {
+            if (isAvailable(room.getRoomId(), startDate, endDate)) {
+                availableRooms.add(room);
+            }
+        }
+        return availableRooms;
+    }
+
+    /**
+     * Reserves a room for every night from the start date up to, but not including, the end date.
+     *
+     * @param roomId    The room id of the room to reserve.
+     * @param startDate The first night of the reservation.
+     * @param endDate   The day the reservation ends.
+     * @return the new reservation.
+     * @throws ReservationClashException if the room is already reserved for any of those nights.
+     */
+    public Reservation reserve(int roomId, LocalDate startDate, LocalDate endDate) throws ReservationClashException {
+        Reservation reservation = new Reservation(roomId, startDate, endDate);
+        if (!getRoomReservations(roomId).add(reservation)) {
+            throw new ReservationClashException();
+        }
+        size++;
+        journalBuffer.recordPut(reservation.toFileString());
+        return reservation;
+    }
+
+    /**
+     * Cancels the reservation of a room starting on the given date.
+     *
+     * @param roomId    The room id of the reserved room.
+     * @param startDate The start date of the reservation.
+     * @return the cancelled reservation.
+     * @throws ReservationNotFoundException if no reservation of the room starts on that date.
+     */
+    public Reservation cancel(int roomId, LocalDate startDate) throws ReservationNotFoundException {
+        RoomReservations roomReservations = reservationsByRoom.get(roomId);
+        Reservation reservation = roomReservations == null ? null : roomReservations.remove(startDate);
+        if (reservation == null) {
+            throw new ReservationNotFoundException();
+        }
+        if (roomReservations.isEmpty()) {
+            reservationsByRoom.remove(roomId);
+        }
+        size--;
+        journalBuffer.recordDelete(reservation.toFileString());
+        return reservation;
+    }
+
+    /**
+     * Returns the reservations of a room, from the earliest to the latest.
+     *
+     * @param roomId The room id of the room.
+     * @return the reservations of the room.
+     */
+    public List<Reservation> getReservations(int roomId) {
+        RoomReservations roomReservations = reservationsByRoom.get(roomId);
+        return roomReservations == null ? new ArrayList<>() : roomReservations.getReservations();
+    }
+
+    private RoomReservations getRoomReservations(int roomId) {
+        return reservationsByRoom.computeIfAbsent(roomId, id -> new RoomReservations());
+    }
+}
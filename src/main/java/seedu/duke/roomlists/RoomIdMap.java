@@ -0,0 +1,85 @@
+package seedu.duke.roomlists;
+
+import java.util.Arrays;
+
+/**
+ * Represents a map from room id to the position of the room within the room list, which stores both as primitive
+ * ints using open addressing with linear probing. This avoids creating an Integer object for every room id, both when
+ * the map is built and when a room is looked up.
+ */
+class RoomIdMap {
+    static final int NOT_FOUND = -1;
+
+    private int[] roomIdSlots;
+    private int[] positionSlots;
+    private int size = 0;
+
+    RoomIdMap(int expectedNumberOfRooms) {
+        int capacity = Integer.highestOneBit(Math.max(expectedNumberOfRooms * 2, 8) - 1) << 1;
+        roomIdSlots = new int[capacity];
+        positionSlots = new int[capacity];
+        Arrays.fill(positionSlots, NOT_FOUND);
+    }
+
+    /**
+     * Maps a room id to the position of its room, unless the room id is already mapped.
+     *
+     * @param roomId   The room id of the room.
+     * @param position The position of the room within the room list.
+     * @return true if the room id was mapped. Otherwise, false.
+     */
+    boolean putIfAbsent(int roomId, int position) {
+        if ((size + 1) * 2 > positionSlots.length) {
+            resize();
+        }
+        int slot = findSlot(roomId);
+        if (positionSlots[slot] != NOT_FOUND) {
+            return false;
+        }
+        roomIdSlots[slot] = roomId;
+        positionSlots[slot] = position;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the position of the room with the given room id within the room list.
+     *
+     * @param roomId The room id of the room.
+     * @return the position of the room, or NOT_FOUND if there is no such room.
+     */
+    int getPosition(int roomId) {
+        return positionSlots[findSlot(roomId)];
+    }
+
+    private int findSlot(int roomId) {
+        int mask = positionSlots.length - 1;
+        int slot = mix(roomId) & mask;
+        while (positionSlots[slot] != NOT_FOUND && roomIdSlots[slot] != roomId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldRoomIdSlots = roomIdSlots;
+        int[] oldPositionSlots = positionSlots;
+        roomIdSlots = new int[oldPositionSlots.length * 2];
+        positionSlots = new int[oldPositionSlots.length * 2];
+        Arrays.fill(positionSlots, NOT_FOUND);
+        size = 0;
+        for (int slot = 0; slot < oldPositionSlots.length; slot++) {
+            if (oldPositionSlots[slot] != NOT_FOUND) {
+                putIfAbsent(oldRoomIdSlots[slot], oldPositionSlots[slot]);
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of the room id, as room ids that differ by their level would otherwise fall into nearby slots.
+     */
+    private static int mix(int roomId) {
+        int hash = roomId * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
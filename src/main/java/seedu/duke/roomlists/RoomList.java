@@ -1,24 +1,205 @@
 package seedu.duke.roomlists;
 
 import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.storage.JournalBuffer;
 import seedu.duke.storage.RoomFileManager;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 
 /**
- * Represents a data structure containing multiple Satisfaction objects.
- * The constructor will initialize all rooms with status vacant
+ * Represents a data structure containing multiple Room objects.
+ * The rooms are indexed by their room id, their level and their room type when the room list is created, so that
+ * rooms can be found without going through the whole room list. The indexes keep the rooms in the same order as the
+ * room list. The vacancy of the rooms is tracked by a RoomVacancyIndex, which is updated whenever a room within the
+ * room list is checked in or out.
  */
 public class RoomList {
     private ArrayList<Room> roomList;
+    private RoomIdMap roomsById;
+    private HashMap<Integer, List<Room>> roomsByLevel = new HashMap<>();
+    private EnumMap<RoomType, List<Room>> roomsByType = new EnumMap<>(RoomType.class);
+    private RoomVacancyIndex roomVacancyIndex = new RoomVacancyIndex();
+    private JournalBuffer journalBuffer = new JournalBuffer();
 
     public RoomList(ArrayList<Room> roomArrayList) {  // dummy data for initialization
         roomList = roomArrayList;
+        roomsById = new RoomIdMap(roomArrayList.size());
+        for (int position = 0; position < roomArrayList.size(); position++) {
+            Room room = roomArrayList.get(position);
+            if (!roomsById.putIfAbsent(room.getRoomId(), position)) {
+                continue;
+            }
+            roomVacancyIndex.add(position, room);
+            roomsByLevel.computeIfAbsent(room.getLevel(), level -> new ArrayList<>()).add(room);
+            if (room.getType() != null) {
+                roomsByType.computeIfAbsent(room.getType(), type -> new ArrayList<>()).add(room);
+            }
+        }
     }
 
     public ArrayList<Room> getRoomList() {
         return roomList;
     }
 
+    /**
+     * Returns the room with the given room id. If the room list contains more than one room with the same room id,
+     * the first of them is returned.
+     *
+     * @param roomId The room id of the room.
+     * @return the room with the given room id, or null if there is no such room.
+     */
+    public Room getRoomById(int roomId) {
+        int position = roomsById.getPosition(roomId);
+        return position == RoomIdMap.NOT_FOUND ? null : roomList.get(position);
+    }
+
+    /**
+     * Checks if there is a room with the given room id.
+     *
+     * @param roomId The room id to check.
+     * @return true if there is a room with the given room id. Otherwise, false.
+     */
+    public boolean hasRoom(int roomId) {
+        return getRoomById(roomId) != null;
+    }
+
+    /**
+     * Returns all the rooms on the given level, in the order they are within the room list.
+     *
+     * @param level The level of the rooms.
+     * @return the rooms on the given level, which is empty if there are no rooms on that level.
+     */
+    public List<Room> getRoomsByLevel(int level) {
+        return Collections.unmodifiableList(roomsByLevel.getOrDefault(level, Collections.emptyList()));
+    }
+
+    /**
+     * Returns all the rooms of the given room type, in the order they are within the room list.
+     *
+     * @param type The room type of the rooms.
+     * @return the rooms of the given room type, which is empty if there are no rooms of that type.
+     */
+    public List<Room> getRoomsByType(RoomType type) {
+        return Collections.unmodifiableList(roomsByType.getOrDefault(type, Collections.emptyList()));
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
+    }
+
+    /**
+     * Checks in the given room, changing its status to occupied.
+     *
+     * @param room The room within the room list to check in.
+     */
+    public void checkInRoom(Room room) {
+        room.checkIn();
+        updateVacancy(room);
+        journalBuffer.recordPut(room.toFileString());
+    }
+
+    /**
+     * Checks out the given room, changing its status to vacant.
+     *
+     * @param room The room within the room list to check out.
+     */
+    public void checkOutRoom(Room room) {
+        room.checkOut();
+        updateVacancy(room);
+        journalBuffer.recordPut(room.toFileString());
+    }
+
+    private void updateVacancy(Room room) {
+        int position = roomsById.getPosition(room.getRoomId());
+        if (position != RoomIdMap.NOT_FOUND && roomList.get(position) == room) {
+            roomVacancyIndex.setVacancy(position, room, room.getIsVacant());
+        }
+    }
+
+    /**
+     * Returns the number of vacant rooms within the room list.
+     *
+     * @return the number of vacant rooms.
+     */
+    public int countVacantRooms() {
+        return roomVacancyIndex.countVacantRooms();
+    }
+
+    /**
+     * Returns the number of vacant rooms of the given room type.
+     *
+     * @param type The room type of the rooms to count.
+     * @return the number of vacant rooms of the given room type.
+     */
+    public int countVacantRooms(RoomType type) {
+        return roomVacancyIndex.countVacantRooms(type);
+    }
+
+    /**
+     * Returns the number of vacant rooms on the given level.
+     *
+     * @param level The level of the rooms to count.
+     * @return the number of vacant rooms on the given level.
+     */
+    public int countVacantRoomsOnLevel(int level) {
+        return roomVacancyIndex.countVacantRoomsOnLevel(level);
+    }
+
+    /**
+     * Returns the number of vacant rooms of the given room type on the given level.
+     *
+     * @param level The level of the rooms to count.
+     * @param type  The room type of the rooms to count.
+     * @return the number of vacant rooms of the given room type on the given level.
+     */
+    public int countVacantRoomsOnLevel(int level, RoomType type) {
+        return roomVacancyIndex.countVacantRoomsOnLevel(level, type);
+    }
+
+    /**
+     * Returns the vacant room of the given room type which comes first within the room list.
+     *
+     * @param type The room type of the room.
+     * @return the first vacant room of the given room type, or null if every room of that type is occupied.
+     */
+    public Room findFirstVacantRoom(RoomType type) {
+        int position = roomVacancyIndex.findFirstVacantRoom(type);
+        return position < 0 ? null : roomList.get(position);
+    }
+
+    /**
+     * Returns the occupied rooms within the room list, in the order of the room list. Only the positions that are not
+     * set within the vacancy bit set are visited.
+     *
+     * @return the occupied rooms.
+     */
+    public List<Room> getOccupiedRooms() {
+        ArrayList<Room> occupiedRooms = new ArrayList<>();
+        int position = roomVacancyIndex.findNextOccupiedRoom(0);
+        while (position < roomList.size()) {
+            Room room = roomList.get(position);
+            if (!room.getIsVacant() && roomsById.getPosition(room.getRoomId()) == position) {
+                occupiedRooms.add(room);
+            }
+            position = roomVacancyIndex.findNextOccupiedRoom(position + 1);
+        }
+        return occupiedRooms;
+    }
+
+    /**
+     * Returns the levels that have at least one room, from the lowest level to the highest level.
+     *
+     * @return the levels of the rooms within the room list.
+     */
+    public List<Integer> getLevels() {
+        ArrayList<Integer> levels = new ArrayList<>(roomsByLevel.keySet());
+        Collections.sort(levels);
+        return levels;
+    }
+
 }
@@ -0,0 +1,63 @@
+package seedu.duke.roomlists;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents the reservations of a single room, kept as a set of non-overlapping date ranges sorted by their start
+ * date.
+ *
+ * <p>As the date ranges never overlap, sorting them by their start date also sorts them by their end date. The only
+ * reservation that can clash with a new date range is then the one starting latest before the new range ends, so
+ * checking whether the room is free takes a single lookup within the tree map.
+ */
+class RoomReservations {
+    private final TreeMap<LocalDate, Reservation> reservationsByStartDate = new TreeMap<>();
+
+    /**
+     * Checks if the room is free for every night from the start date up to, but not including, the end date.
+     *
+     * @param startDate The first night to check.
+     * @param endDate   The day after the last night to check.
+     * @return true if no reservation of the room covers any of those nights. Otherwise, false.
+     */
+    boolean isAvailable(LocalDate startDate, LocalDate endDate) {
+        Map.Entry<LocalDate, Reservation> latestStartingBefore = reservationsByStartDate.lowerEntry(endDate);
+        return latestStartingBefore == null || !latestStartingBefore.getValue().getEndDate().isAfter(startDate);
+    }
+
+    /**
+     * Adds a reservation of the room, unless it clashes with an existing reservation.
+     *
+     * @param reservation The reservation to add.
+     * @return true if the reservation was added. Otherwise, false.
+     */
+    boolean add(Reservation reservation) {
+        if (!isAvailable(reservation.getStartDate(), reservation.getEndDate())) {
+            return false;
+        }
+        reservationsByStartDate.put(reservation.getStartDate(), reservation);
+        return true;
+    }
+
+    /**
+     * Removes the reservation of the room starting on the given date.
+     *
+     * @param startDate The start date of the reservation.
+     * @return the removed reservation, or null if no reservation of the room starts on that date.
+     */
+    Reservation remove(LocalDate startDate) {
+        return reservationsByStartDate.remove(startDate);
+    }
+
+    boolean isEmpty() {
+        return reservationsByStartDate.isEmpty();
+    }
+
+    List<Reservation> getReservations() {
+        return new ArrayList<>(reservationsByStartDate.values());
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.duke.roomlists;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+
+/**
+ * Represents the vacancy of every room within a room list, kept as bit sets indexed by the position of each room within
+ * the room list, together with running counts of the vacant rooms.
+ *
+ * <p>Bit i of the vacancy set is set when the room at position i is vacant. Each room type has its own vacancy set, so
+ * the first vacant room of a type is found with a single nextSetBit. The number of vacant rooms of every room type on
+ * every level is updated whenever a room is checked in or out, so vacancy counts never go through the rooms.
+ */
+class RoomVacancyIndex {
+    private static final int NUMBER_OF_ROOM_TYPES = RoomType.values().length;
+
+    private final BitSet vacantRooms = new BitSet();
+    private final EnumMap<RoomType, BitSet> vacantRoomsByType = new EnumMap<>(RoomType.class);
+    private final int[] vacantCountByType = new int[NUMBER_OF_ROOM_TYPES];
+    private final HashMap<Integer, int[]> vacantCountByLevelAndType = new HashMap<>();
+    private int vacantCount = 0;
+
+    RoomVacancyIndex() {
+        for (RoomType type : RoomType.values()) {
+            vacantRoomsByType.put(type, new BitSet());
+        }
+    }
+
+    /**
+     * Adds a room at the given position to the index, recording whether it is currently vacant.
+     *
+     * @param position The position of the room within the room list.
+     * @param room     The room to add.
+     */
+    void add(int position, Room room) {
+        vacantCountByLevelAndType.computeIfAbsent(room.getLevel(), level -> new int[NUMBER_OF_ROOM_TYPES]);
+        if (room.getIsVacant()) {
+            setVacancy(position, room, true);
+        }
+    }
+
+    /**
+     * Records that the room at the given position has become vacant or occupied.
+     *
+     * @param position The position of the room within the room list.
+     * @param room     The room whose vacancy has changed.
+     * @param isVacant Whether the room is now vacant.
+     */
+    void setVacancy(int position, Room room, boolean isVacant) {
+        if (vacantRooms.get(position) == isVacant || room.getType() == null) {
+            return;
+        }
+        vacantRooms.set(position, isVacant);
+        vacantRoomsByType.get(room.getType()).set(position, isVacant);
+        int change = isVacant ? 1 : -1;
+        vacantCount += change;
+        vacantCountByType[room.getType().ordinal()] += change;
+        vacantCountByLevelAndType.get(room.getLevel())[room.getType().ordinal()] += change;
+    }
+
+    int countVacantRooms() {
+        return vacantCount;
+    }
+
+    int countVacantRooms(RoomType type) {
+        return vacantCountByType[type.ordinal()];
+    }
+
+    int countVacantRoomsOnLevel(int level) {
+        int[] vacantCountOnLevel = vacantCountByLevelAndType.get(level);
+        if (vacantCountOnLevel == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int vacantCountOfType : vacantCountOnLevel) {
+            count += vacantCountOfType;
+        }
+        return count;
+    }
+
+    int countVacantRoomsOnLevel(int level, RoomType type) {
+        int[] vacantCountOnLevel = vacantCountByLevelAndType.get(level);
+        return vacantCountOnLevel == null ? 0 : vacantCountOnLevel[type.ordinal()];
+    }
+
+    /**
+     * Returns the position of the first vacant room of the given room type within the room list.
+     *
+     * @param type The room type of the room.
+     * @return the position of the room, or -1 if every room of that type is occupied.
+     */
+    int findFirstVacantRoom(RoomType type) {
+        return vacantRoomsByType.get(type).nextSetBit(0);
+    }
+
+    /**
+     * Returns the position of the first room at or after the given position within the room list that is not
+     * recorded as vacant.
+     *
+     * @param fromPosition The position to start searching from.
+     * @return the position of the room, which may be past the end of the room list.
+     */
+    int findNextOccupiedRoom(int fromPosition) {
+        return vacantRooms.nextClearBit(fromPosition);
+    }
+}
@@ -31,5 +31,7 @@ public class Satisfaction {
         this.satisfactionValue = satisfactionValue;
     }
 
+    public String toFileString() {
+        return getCustomerName() + '|' + getSatisfactionValue();
+    }
 }
-
@@ -1,17 +1,26 @@
 package seedu.duke.satisfactionlists;
 
+import seedu.duke.storage.JournalBuffer;
 
 import java.util.ArrayList;
-
-
+import java.util.Arrays;
+import java.util.HashSet;
 
 /**
  * Represents a data structure containing multiple Satisfaction objects.
- * Uses an ArrayList to store the Satisfaction objects.
+ * Uses an ArrayList to store the Satisfaction objects. The sum of the satisfaction values, the number of satisfactions
+ * with each value and the names of the customers are kept up to date as satisfactions are added, so the average, the
+ * distribution and the check for a repeated customer never go through the whole list.
  */
 
 public class SatisfactionList {
+    public static final int MIN_SATISFACTION_VALUE = 1;
+    public static final int MAX_SATISFACTION_VALUE = 5;
     private ArrayList<Satisfaction> satisfactionList;
+    private HashSet<String> customerNames = new HashSet<>();
+    private long satisfactionSum = 0;
+    private int[] satisfactionCounts = new int[MAX_SATISFACTION_VALUE - MIN_SATISFACTION_VALUE + 1];
+    private JournalBuffer journalBuffer = new JournalBuffer();
 
     public SatisfactionList() {
         ArrayList<Satisfaction> satisfactionList = new ArrayList<>();
@@ -20,6 +29,12 @@ public class SatisfactionList {
 
     public void addSatisfaction(Satisfaction newSatisfaction) {
         getSatisfactionList().add(newSatisfaction);
+        countSatisfaction(newSatisfaction);
+        journalBuffer.recordPut(newSatisfaction.toFileString());
+    }
+
+    public JournalBuffer getJournalBuffer() {
+        return journalBuffer;
     }
 
     public ArrayList<Satisfaction> getSatisfactionList() {
@@ -28,6 +43,10 @@ public class SatisfactionList {
 
     public void setSatisfactionList(ArrayList<Satisfaction> satisfactionList) {
         this.satisfactionList = satisfactionList;
+        resetCounts();
+        for (Satisfaction satisfaction : satisfactionList) {
+            countSatisfaction(satisfaction);
+        }
     }
 
     public int getSize() {
@@ -75,27 +94,33 @@ public class SatisfactionList {
      * @return A boolean value (true if the customer already has corresponding Satisfaction object, false otherwise).
      */
     public boolean isCustomerInSatisfactionList(String customerName) {
-        for (Satisfaction satisfaction : satisfactionList) {
-            if (customerName.equals(satisfaction.getCustomerName())) {
-                return true;
-            }
-        }
-        return false;
+        return customerNames.contains(customerName);
     }
 
     /**
      * Helper for AverageSatisfactionCommand class.
      * Calculates the average customer satisfaction rating of
-     * the Satisfaction objects in this satisfactionList.
-     * @return The average customer satisfaction rating.
+     * the Satisfaction objects in this satisfactionList from the running sum of their values.
+     * @return The average customer satisfaction rating, or NaN if there are no satisfactions.
      */
     public double calculateAverageSatisfaction() {
-        int satisfactionSum = 0;
-        for (Satisfaction satisfaction : satisfactionList) {
-            satisfactionSum += satisfaction.getSatisfactionValue();
+        if (getSize() == 0) {
+            return Double.NaN;
         }
-        double satisfactionAverage = (double) satisfactionSum / (double) getSize();
-        return satisfactionAverage;
+        return (double) satisfactionSum / getSize();
+    }
+
+    /**
+     * Returns the number of satisfactions with the given value.
+     *
+     * @param satisfactionValue The satisfaction value, from 1 to 5.
+     * @return the number of satisfactions with the value, or 0 if the value is not between 1 and 5.
+     */
+    public int countSatisfactionsWithValue(int satisfactionValue) {
+        if (satisfactionValue < MIN_SATISFACTION_VALUE || satisfactionValue > MAX_SATISFACTION_VALUE) {
+            return 0;
+        }
+        return satisfactionCounts[satisfactionValue - MIN_SATISFACTION_VALUE];
     }
 
     /**
@@ -103,6 +128,23 @@ public class SatisfactionList {
      */
     public void clearSatisfactionList() {
         satisfactionList.clear();
+        resetCounts();
+        journalBuffer.recordClear();
+    }
+
+    private void countSatisfaction(Satisfaction satisfaction) {
+        int satisfactionValue = satisfaction.getSatisfactionValue();
+        customerNames.add(satisfaction.getCustomerName());
+        satisfactionSum += satisfactionValue;
+        if (satisfactionValue >= MIN_SATISFACTION_VALUE && satisfactionValue <= MAX_SATISFACTION_VALUE) {
+            satisfactionCounts[satisfactionValue - MIN_SATISFACTION_VALUE]++;
+        }
+    }
+
+    private void resetCounts() {
+        customerNames.clear();
+        satisfactionSum = 0;
+        Arrays.fill(satisfactionCounts, 0);
     }
 
 
@@ -2,42 +2,44 @@ package seedu.duke.storage;
 
 import seedu.duke.exceptions.HotelLiteManagerException;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.Map;
-import java.util.Scanner;
 
 public class AssignmentListFileManager extends FileManager {
     private static final String FILE_PATH = "ListFolder/assignment_list.txt";
 
     public void load(HashMap<Integer, String> map) throws IOException, HotelLiteManagerException {
-        Boolean isNewFile = !isFileExist(FILE_PATH);
-        File file = getFile(FILE_PATH);
+        Boolean isNewFile = !isFileExist(getSnapshotPath());
         if (isNewFile) {
+            getFile(getSnapshotPath());
             return;
         }
 
-        Scanner scan = new Scanner(file);
-        while (scan.hasNext()) {
-            String line = scan.nextLine();
-            String[] splitData = line.split(FILE_SEPARATOR);
-            int roomId = Integer.parseInt(splitData[0].trim());
-            String name = splitData[1].trim();
-            map.put(roomId, name);
+        RecordSource recordSource = openSnapshot();
+        try {
+            while (recordSource.nextRecord()) {
+                int roomId = recordSource.nextInt();
+                String name = recordSource.nextField();
+                map.put(roomId, name);
+            }
+        } finally {
+            recordSource.close();
         }
     }
 
 
-    public void save(HashMap<Integer, String> map) throws IOException, HotelLiteManagerException {
-        File file = getFile(FILE_PATH);
-        FileWriter fileWriter = new FileWriter(FILE_PATH);
-        for (Map.Entry<Integer, String> set :
-                map.entrySet()) {
-            fileWriter.write(set.getKey() + " | " + set.getValue()
-                    + System.lineSeparator());
-        }
-        fileWriter.close();
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.INT, FieldType.STRING};
+    }
+
+    @Override
+    public String getFieldSeparator() {
+        return " | ";
     }
 }
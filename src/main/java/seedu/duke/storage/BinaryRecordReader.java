@@ -0,0 +1,234 @@
+package seedu.duke.storage;
+
+import seedu.duke.roomlists.RoomType;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Reads the records of a binary snapshot written by BinaryRecordWriter. The snapshot is read into memory with a single
+ * read from its file channel, and each field is decoded straight from that buffer when it is read. The file is not
+ * memory-mapped, as a mapped file cannot be replaced on some platforms until the mapping is garbage collected.
+ */
+public class BinaryRecordReader implements RecordSource {
+    private final FieldType[] schema;
+    private final String fieldSeparator;
+    private byte[] snapshotBytes;
+    private int position = 0;
+    private int limit = 0;
+    private int recordCount = 0;
+    private int recordsStarted = 0;
+    private int fieldIndex;
+
+    /**
+     * Opens a binary snapshot and checks its header. An empty file is read as a snapshot without any records.
+     *
+     * @param filePath       The path of the binary snapshot.
+     * @param schema         The types of the fields the snapshot is expected to store within each record.
+     * @param fieldSeparator The separator placed between fields when a record is converted to text.
+     * @throws IOException if we are unable to read the snapshot, or its header does not match the expected schema.
+     */
+    public BinaryRecordReader(Path filePath, FieldType[] schema, String fieldSeparator) throws IOException {
+        this(filePath, schema, fieldSeparator, Files.size(filePath));
+    }
+
+    /**
+     * Opens a binary snapshot and checks its header, reading only the given number of bytes from the start of the
+     * snapshot so that its checksum is not read as part of its records.
+     *
+     * @param filePath       The path of the binary snapshot.
+     * @param schema         The types of the fields the snapshot is expected to store within each record.
+     * @param fieldSeparator The separator placed between fields when a record is converted to text.
+     * @param contentLength  The number of bytes at the start of the snapshot that hold its records.
+     * @throws IOException if we are unable to read the snapshot, or its header does not match the expected schema.
+     */
+    public BinaryRecordReader(Path filePath, FieldType[] schema, String fieldSeparator, long contentLength)
+            throws IOException {
+        this.schema = schema;
+        this.fieldSeparator = fieldSeparator;
+        fieldIndex = schema.length;
+        FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            long fileSize = Math.min(fileChannel.size(), contentLength);
+            if (fileSize == 0) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+            int bytesRead = 0;
+            while (buffer.hasRemaining() && bytesRead >= 0) {
+                bytesRead = fileChannel.read(buffer);
+            }
+            buffer.flip();
+            readHeader(buffer);
+            snapshotBytes = buffer.array();
+            position = buffer.position();
+            limit = buffer.limit();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary snapshot " + filePath + " has an incomplete header.");
+        } finally {
+            fileChannel.close();
+        }
+    }
+
+    private void readHeader(ByteBuffer buffer) throws IOException {
+        for (byte magicByte : BinaryRecordWriter.MAGIC) {
+            if (buffer.get() != magicByte) {
+                throw new IOException("File is not a binary snapshot.");
+            }
+        }
+        int version = buffer.get();
+        if (version < BinaryRecordWriter.OLDEST_SUPPORTED_VERSION || version > BinaryRecordWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + version + ".");
+        }
+        int fieldCount = buffer.get();
+        if (fieldCount != schema.length) {
+            throw new IOException("Binary snapshot does not match the expected record schema.");
+        }
+        for (FieldType fieldType : schema) {
+            if (buffer.get() != fieldType.ordinal()) {
+                throw new IOException("Binary snapshot does not match the expected record schema.");
+            }
+        }
+        recordCount = buffer.getInt();
+        // Every field takes up at least one byte, which bounds the record count of a snapshot that is not corrupted.
+        if (recordCount < 0 || (long) recordCount * schema.length > buffer.remaining()) {
+            throw new IOException("Binary snapshot has an invalid record count.");
+        }
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        while (fieldIndex < schema.length) {
+            skipField();
+        }
+        if (recordsStarted >= recordCount) {
+            return false;
+        }
+        recordsStarted++;
+        fieldIndex = 0;
+        return true;
+    }
+
+    @Override
+    public boolean hasNextField() {
+        return fieldIndex < schema.length;
+    }
+
+    @Override
+    public String nextField() throws IOException {
+        if (!hasNextField()) {
+            return "";
+        }
+        try {
+            FieldType fieldType = schema[fieldIndex++];
+            switch (fieldType) {
+            case INT:
+                return Integer.toString((int) zigzagDecode(readVarint()));
+            case ROOM_TYPE:
+                return RoomType.values()[(int) readVarint()].name();
+            case DATE:
+                return LocalDate.ofEpochDay(zigzagDecode(readVarint())).toString();
+            case LONG:
+                return Long.toString(zigzagDecode(readVarint()));
+            default:
+                return readString();
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Binary snapshot is truncated or corrupted.");
+        }
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        if (!hasNextField()) {
+            throw new NumberFormatException("Missing integer field.");
+        }
+        if (schema[fieldIndex] != FieldType.INT) {
+            return Integer.parseInt(nextField());
+        }
+        fieldIndex++;
+        try {
+            return (int) zigzagDecode(readVarint());
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Binary snapshot is truncated or corrupted.");
+        }
+    }
+
+    @Override
+    public String getRecord() throws IOException {
+        StringBuilder record = new StringBuilder();
+        while (hasNextField()) {
+            if (fieldIndex > 0) {
+                record.append(fieldSeparator);
+            }
+            record.append(nextField());
+        }
+        return record.toString();
+    }
+
+    @Override
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() {
+        snapshotBytes = null;
+    }
+
+    private void skipField() throws IOException {
+        try {
+            FieldType fieldType = schema[fieldIndex++];
+            long value = readVarint();
+            if (fieldType == FieldType.STRING) {
+                position = checkedEnd((int) value);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Binary snapshot is truncated or corrupted.");
+        }
+    }
+
+    private String readString() {
+        int length = (int) readVarint();
+        int start = position;
+        position = checkedEnd(length);
+        return new String(snapshotBytes, start, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the position just after the given number of bytes from the current position, checking that those bytes
+     * are within the snapshot.
+     */
+    private int checkedEnd(int length) {
+        if (length < 0 || length > limit - position) {
+            throw new IndexOutOfBoundsException("Field extends past the end of the snapshot.");
+        }
+        return position + length;
+    }
+
+    private long readVarint() {
+        long value = 0;
+        int shift = 0;
+        byte currentByte;
+        do {
+            if (position >= limit) {
+                throw new IndexOutOfBoundsException("Varint extends past the end of the snapshot.");
+            }
+            currentByte = snapshotBytes[position++];
+            value |= (long) (currentByte & 0x7F) << shift;
+            shift += 7;
+        } while ((currentByte & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigzagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.duke.storage;
+
+import seedu.duke.roomlists.RoomType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Writes list records into a binary snapshot. A binary snapshot starts with a header made up of the magic bytes
+ * "HLSB", the format version, the types of the fields within each record and the number of records. Each record then
+ * stores its fields one after another: strings as a varint byte length followed by their UTF-8 bytes, integers as
+ * zigzag encoded varints, room types as the varint of their ordinal and dates as the varint of their epoch day.
+ * From version 2 onwards, the records are followed by the CRC32 checksum written by SnapshotFile.
+ */
+public class BinaryRecordWriter {
+    public static final byte[] MAGIC = {'H', 'L', 'S', 'B'};
+    public static final int FORMAT_VERSION = 2;
+    public static final int OLDEST_SUPPORTED_VERSION = 1;
+
+    private final DataOutputStream outputStream;
+    private final FieldType[] schema;
+
+    /**
+     * Writes the header of a binary snapshot into the given stream.
+     *
+     * @param snapshotStream The stream the binary snapshot is written into.
+     * @param schema         The types of the fields within each record.
+     * @param recordCount    The number of records that will be written.
+     * @throws IOException if we are unable to write to the binary snapshot.
+     */
+    public BinaryRecordWriter(OutputStream snapshotStream, FieldType[] schema, int recordCount) throws IOException {
+        this.schema = schema;
+        outputStream = new DataOutputStream(snapshotStream);
+        outputStream.write(MAGIC);
+        outputStream.writeByte(FORMAT_VERSION);
+        outputStream.writeByte(schema.length);
+        for (FieldType fieldType : schema) {
+            outputStream.writeByte(fieldType.ordinal());
+        }
+        outputStream.writeInt(recordCount);
+    }
+
+    /**
+     * Converts a record from the text format of the list's file and writes it into the binary snapshot.
+     *
+     * @param record A record in the same format as it is stored within the list's text file.
+     * @throws IOException if the record does not match the schema, or we are unable to write to the binary snapshot.
+     */
+    public void writeRecord(String record) throws IOException {
+        int fieldStart = 0;
+        for (int i = 0; i < schema.length; i++) {
+            int fieldEnd = i == schema.length - 1 ? -1 : record.indexOf(FileManager.RECORD_SEPARATOR, fieldStart);
+            if (fieldEnd < 0) {
+                fieldEnd = record.length();
+            }
+            String field = fieldStart <= record.length() ? record.substring(fieldStart, fieldEnd).trim() : "";
+            writeField(schema[i], field, record);
+            fieldStart = fieldEnd + 1;
+        }
+    }
+
+    private void writeField(FieldType fieldType, String field, String record) throws IOException {
+        try {
+            switch (fieldType) {
+            case INT:
+                writeVarint(zigzagEncode(Integer.parseInt(field)));
+                break;
+            case ROOM_TYPE:
+                writeVarint(RoomType.valueOf(field).ordinal());
+                break;
+            case DATE:
+                writeVarint(zigzagEncode(LocalDate.parse(field).toEpochDay()));
+                break;
+            case LONG:
+                writeVarint(zigzagEncode(Long.parseLong(field)));
+                break;
+            default:
+                byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+                writeVarint(fieldBytes.length);
+                outputStream.write(fieldBytes);
+                break;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IOException("Record cannot be stored in the binary format: " + record);
+        }
+    }
+
+    private void writeVarint(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            outputStream.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        outputStream.writeByte((int) value);
+    }
+
+    private static long zigzagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Writes any buffered records into the underlying stream, without closing it.
+     *
+     * @throws IOException if we are unable to write to the binary snapshot.
+     */
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+}
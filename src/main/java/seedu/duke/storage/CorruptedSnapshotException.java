@@ -0,0 +1,26 @@
+package seedu.duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Thrown when a snapshot does not match its checksum, so its records cannot be trusted.
+ */
+public class CorruptedSnapshotException extends IOException {
+    private final Path snapshotPath;
+
+    public CorruptedSnapshotException(Path snapshotPath, String message) {
+        super(message);
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * Returns the path of the current generation of the snapshot, even if it is the previous generation that could
+     * not be verified.
+     *
+     * @return the path of the corrupted snapshot.
+     */
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+}
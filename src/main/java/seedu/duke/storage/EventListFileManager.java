@@ -2,38 +2,136 @@ package seedu.duke.storage;
 
 import seedu.duke.exceptions.HotelLiteManagerException;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import seedu.duke.eventlists.Event;
-import java.util.Scanner;
+import seedu.duke.eventlists.EventList;
+import seedu.duke.eventlists.RecurrenceRule;
 
 public class EventListFileManager extends FileManager {
     private static final String FILE_PATH = "ListFolder/event_file.txt";
+    private static final int ID_FIELD = 3;
+    private static final int DELETED_FIELD = 4;
+    private static final int NO_ID = 0;
 
-    public void load(ArrayList<Event> eventList) throws IOException, HotelLiteManagerException {
-        File file = getFile(FILE_PATH);
-        Scanner scan = new Scanner(file);
-        while (scan.hasNext()) {
-            String line = scan.nextLine();
-            String[] splitData = line.split(FILE_SEPARATOR);
-            String description = splitData[0].trim();
-            String atString = splitData[1].trim();
-            LocalDate at = LocalDate.parse(atString);
-            Event event = new Event(description, at);
-            eventList.add(event);
+    /**
+     * Loads the events stored within the file ListFolder/event_file.txt. A repeating event is stored once, with its
+     * repetition in the third field, which is empty for a one-off event. Tombstones of deleted events are skipped,
+     * but their ids are never given to new events.
+     *
+     * <p>Records stored before events could repeat or had ids are loaded as one-off events or given new ids. The file
+     * is then rewritten with the ids, so that later changes to those events are saved under the same ids.
+     *
+     * @return the event list containing the events stored within the file.
+     * @throws HotelLiteManagerException if the file cannot be created, or the repetition of an event is invalid.
+     */
+    public EventList load() throws IOException, HotelLiteManagerException {
+        ArrayList<Event> events = new ArrayList<>();
+        ArrayList<String[]> recordsWithoutId = new ArrayList<>();
+        int largestId = NO_ID;
+        RecordSource recordSource = openSnapshot();
+        try {
+            while (recordSource.nextRecord()) {
+                String description = recordSource.nextField();
+                LocalDate at = LocalDate.parse(recordSource.nextField());
+                String recurrenceField = recordSource.nextField();
+                String idField = recordSource.nextField();
+                boolean isDeleted = recordSource.nextField().equals(Event.DELETED);
+                if (idField.isEmpty()) {
+                    recordsWithoutId.add(new String[] {description, at.toString(), recurrenceField});
+                    continue;
+                }
+                int id = Integer.parseInt(idField);
+                largestId = Math.max(largestId, id);
+                if (!isDeleted) {
+                    events.add(new Event(id, description, at, parseRecurrence(recurrenceField)));
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Event id is not an integer.", e);
+        } finally {
+            recordSource.close();
         }
+        if (!recordsWithoutId.isEmpty()) {
+            for (String[] fields : recordsWithoutId) {
+                largestId++;
+                events.add(new Event(largestId, fields[0], LocalDate.parse(fields[1]), parseRecurrence(fields[2])));
+            }
+            ArrayList<String> records = new ArrayList<>();
+            for (Event event : events) {
+                records.add(event.toFileString());
+            }
+            writeSnapshot(records);
+        }
+        return new EventList(events, largestId + 1);
+    }
+
+    private static RecurrenceRule parseRecurrence(String recurrenceField) throws HotelLiteManagerException {
+        return recurrenceField.isEmpty() ? null : RecurrenceRule.parse(recurrenceField);
+    }
+
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.STRING, FieldType.DATE, FieldType.STRING, FieldType.STRING,
+            FieldType.STRING};
+    }
+
+    @Override
+    public String getFieldSeparator() {
+        return " | ";
     }
 
+    /**
+     * Events are identified by their id. Records stored before events had ids are identified by both their
+     * description and their date.
+     *
+     * @param record A record in the same format as it is stored within the file ListFolder/event_file.txt.
+     * @return the id of the event, or its description and date if it has no id.
+     */
+    @Override
+    public String getRecordKey(String record) {
+        String id = getField(record, ID_FIELD);
+        if (!id.isEmpty()) {
+            return id;
+        }
+        return getField(record, 0) + " @ " + getField(record, 1);
+    }
 
-    public void save(ArrayList<Event> eventList) throws IOException, HotelLiteManagerException {
-        File file = getFile(FILE_PATH);
-        FileWriter fileWriter = new FileWriter(FILE_PATH);
-        for (Event event : eventList) {
-            fileWriter.write(event.toFileString() + System.lineSeparator());
+    /**
+     * Clears the tombstones of deleted events out of the records, except for the tombstone with the largest id when
+     * no event left has a larger id. That tombstone is kept so the id is not given to a new event after the list is
+     * loaded again.
+     *
+     * @param records The records of the file after the journal has been replayed.
+     * @return the records to store within the file.
+     */
+    @Override
+    public Collection<String> compactRecords(Collection<String> records) {
+        String lastTombstone = null;
+        int largestId = NO_ID;
+        int largestTombstoneId = NO_ID;
+        ArrayList<String> compactedRecords = new ArrayList<>();
+        for (String record : records) {
+            String idField = getField(record, ID_FIELD);
+            int id = idField.isEmpty() ? NO_ID : Integer.parseInt(idField);
+            largestId = Math.max(largestId, id);
+            if (!getField(record, DELETED_FIELD).equals(Event.DELETED)) {
+                compactedRecords.add(record);
+            } else if (id > largestTombstoneId) {
+                largestTombstoneId = id;
+                lastTombstone = record;
+            }
+        }
+        if (lastTombstone != null && largestTombstoneId == largestId) {
+            compactedRecords.add(lastTombstone);
         }
-        fileWriter.close();
+        return compactedRecords;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package seedu.duke.storage;
+
+/**
+ * Represents the type of a field within a list record, which decides how the field is encoded within a binary
+ * snapshot.
+ */
+public enum FieldType {
+    /** Stored as a length-prefixed UTF-8 string. */
+    STRING,
+    /** Stored as a zigzag encoded varint. */
+    INT,
+    /** Stored as the varint ordinal of the RoomType. */
+    ROOM_TYPE,
+    /** Stored as the varint number of days since the epoch. */
+    DATE,
+    /** Stored as a zigzag encoded varint, for integers that may not fit within 32 bits. */
+    LONG
+}
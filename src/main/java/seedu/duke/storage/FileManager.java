@@ -1,14 +1,67 @@
 package seedu.duke.storage;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import seedu.duke.exceptions.CorruptedFileException;
 import seedu.duke.exceptions.FolderCreationFailException;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.FileCreationFailException;
 
 public abstract class FileManager {
     public static final String FILE_SEPARATOR = "\\|";
+    public static final String RECORD_SEPARATOR = "|";
+    private static Logger fileManagerLogger = Logger.getLogger("fileManagerLogger");
+
+    /**
+     * Returns the path of the file that this file manager stores its list in.
+     *
+     * @return the path of the file containing the list.
+     */
+    public abstract String getFilePath();
+
+    /**
+     * Returns the key that identifies a record within the list's file. Two records with the same key describe the
+     * same entry in the list, so a newer record replaces an older one when the journal is replayed.
+     * By default, the first field of the record is used as its key.
+     *
+     * @param record A record in the same format as it is stored within the list's file.
+     * @return the key of the record.
+     */
+    public String getRecordKey(String record) {
+        return getField(record, 0);
+    }
+
+    /**
+     * Returns the field at the given position within a record, with its leading and trailing whitespace removed.
+     *
+     * @param record     A record in the same format as it is stored within the list's file.
+     * @param fieldIndex The position of the field within the record, starting from 0.
+     * @return the field, or an empty string if the record has fewer fields.
+     */
+    protected static String getField(String record, int fieldIndex) {
+        int fieldStart = 0;
+        for (int i = 0; i < fieldIndex; i++) {
+            int separatorIndex = record.indexOf(RECORD_SEPARATOR, fieldStart);
+            if (separatorIndex < 0) {
+                return "";
+            }
+            fieldStart = separatorIndex + 1;
+        }
+        int fieldEnd = record.indexOf(RECORD_SEPARATOR, fieldStart);
+        if (fieldEnd < 0) {
+            fieldEnd = record.length();
+        }
+        return record.substring(fieldStart, fieldEnd).trim();
+    }
 
     /**
      * Returns a file object which allows the program to write to or read from the file which contains the
@@ -27,7 +80,8 @@ public abstract class FileManager {
         File directory = file.getParentFile();
         if (!directory.exists()) {
             isDirectoryCreated = directory.mkdirs();
-            if (!isDirectoryCreated) {
+            // The directory may have been created by another file manager loading its list at the same time.
+            if (!isDirectoryCreated && !directory.isDirectory()) {
                 throw new FolderCreationFailException();
             }
         }
@@ -51,4 +105,211 @@ public abstract class FileManager {
         File file = new File(filePath);
         return file.exists();
     }
+
+    /**
+     * Converts the mutations recorded within the journal buffer into the lines that are appended to the journal.
+     *
+     * @param journalBuffer The journal buffer of the list managed by this file manager.
+     * @return the journal lines representing the pending entries, in the order they were recorded.
+     */
+    public ArrayList<String> toJournalLines(JournalBuffer journalBuffer) {
+        ArrayList<String> journalLines = new ArrayList<>();
+        for (JournalEntry entry : journalBuffer.getPendingEntries()) {
+            journalLines.add(toJournalLine(entry));
+        }
+        return journalLines;
+    }
+
+    /**
+     * Converts a journal entry into the line that is appended to the journal. Each line starts with the path of the
+     * file the entry belongs to and the type of mutation, followed by the record or the key of the record affected.
+     *
+     * @param entry The journal entry to convert.
+     * @return the journal line representing the entry.
+     */
+    private String toJournalLine(JournalEntry entry) {
+        String operation = entry.getOperation();
+        String journalLine = getFilePath() + RECORD_SEPARATOR + operation + RECORD_SEPARATOR;
+        switch (operation) {
+        case JournalEntry.PUT:
+            return journalLine + entry.getRecord();
+        case JournalEntry.DELETE:
+            return journalLine + getRecordKey(entry.getPreviousRecord());
+        case JournalEntry.RENAME:
+            return journalLine + getRecordKey(entry.getPreviousRecord()) + RECORD_SEPARATOR + entry.getRecord();
+        default:
+            return journalLine;
+        }
+    }
+
+    /**
+     * Returns the records to store within the list's file when the journal is compacted into it. By default, every
+     * record is kept.
+     *
+     * @param records The records of the list's file after the journal has been replayed, in the order they are stored.
+     * @return the records to store within the list's file.
+     */
+    public Collection<String> compactRecords(Collection<String> records) {
+        return records;
+    }
+
+    /**
+     * Returns the types of the fields within each record of the list, which decide how the records are encoded within
+     * a binary snapshot.
+     *
+     * @return the types of the fields within each record, in the order they are stored in.
+     */
+    public abstract FieldType[] getRecordSchema();
+
+    /**
+     * Returns the record with every field of the record schema, so that it can be stored within a binary snapshot. By
+     * default, records are returned as they are.
+     *
+     * @param record A record in the same format as it is stored within the list's file.
+     * @return the record with every field of the record schema.
+     */
+    public String toSchemaRecord(String record) {
+        return record;
+    }
+
+    /**
+     * Returns the separator placed between the fields of a record within the list's text file.
+     *
+     * @return the field separator of the list's text file.
+     */
+    public String getFieldSeparator() {
+        return RECORD_SEPARATOR;
+    }
+
+    /**
+     * Returns the path of the list's snapshot in the snapshot format selected for this deployment.
+     *
+     * @return the path of the file the list is loaded from.
+     */
+    public String getSnapshotPath() {
+        return SnapshotFormat.getSelectedFormat().toSnapshotPath(getFilePath());
+    }
+
+    /**
+     * Opens the list's snapshot in the selected snapshot format, creating an empty snapshot if it does not exist.
+     *
+     * @return a record source positioned before the first record of the snapshot.
+     * @throws IOException               if the snapshot cannot be read.
+     * @throws HotelLiteManagerException if the snapshot does not exist and cannot be created, or if neither the
+     *                                   snapshot nor its previous generation can be verified.
+     */
+    protected RecordSource openSnapshot() throws IOException, HotelLiteManagerException {
+        File file = getFile(getSnapshotPath());
+        try {
+            return openRecordSource(file, SnapshotFormat.getSelectedFormat());
+        } catch (CorruptedSnapshotException e) {
+            fileManagerLogger.log(Level.SEVERE, e.getMessage());
+            throw new CorruptedFileException(file.getPath());
+        }
+    }
+
+    /**
+     * Opens the list's snapshot in the selected snapshot format, creating an empty snapshot if it does not exist.
+     *
+     * @param fileNotFoundError The exception to throw if the snapshot cannot be read.
+     * @return a record source positioned before the first record of the snapshot.
+     * @throws HotelLiteManagerException if the snapshot cannot be created or read, or if neither the snapshot nor its
+     *                                   previous generation can be verified.
+     */
+    protected RecordSource openSnapshot(HotelLiteManagerException fileNotFoundError)
+            throws HotelLiteManagerException {
+        try {
+            return openSnapshot();
+        } catch (IOException e) {
+            throw fileNotFoundError;
+        }
+    }
+
+    /**
+     * Opens the snapshot for reading after verifying its checksum, falling back to the previous generation of the
+     * snapshot if the current one does not match its checksum.
+     */
+    private RecordSource openRecordSource(File file, SnapshotFormat snapshotFormat) throws IOException {
+        SnapshotFile snapshotFile = new SnapshotFile(file.getPath(), snapshotFormat).selectReadableGeneration();
+        if (snapshotFormat == SnapshotFormat.BINARY) {
+            return new BinaryRecordReader(snapshotFile.getPath(), getRecordSchema(), getFieldSeparator(),
+                    snapshotFile.getContentLength());
+        }
+        return new RecordReader(snapshotFile.getPath(), snapshotFile.getContentLength());
+    }
+
+    /**
+     * Returns all the records currently stored within the list's snapshot in the selected snapshot format.
+     *
+     * @return the records stored within the list's snapshot, in the order they are stored in.
+     * @throws IOException if the list's snapshot cannot be read.
+     */
+    public ArrayList<String> readSnapshot() throws IOException {
+        return readSnapshot(SnapshotFormat.getSelectedFormat());
+    }
+
+    /**
+     * Returns all the records currently stored within the list's snapshot in the given format, converted to the
+     * text format of the list's file.
+     *
+     * @param snapshotFormat The format of the snapshot to read.
+     * @return the records stored within the list's snapshot, in the order they are stored in.
+     * @throws IOException if the list's snapshot cannot be read.
+     */
+    public ArrayList<String> readSnapshot(SnapshotFormat snapshotFormat) throws IOException {
+        ArrayList<String> records = new ArrayList<>();
+        File file = new File(snapshotFormat.toSnapshotPath(getFilePath()));
+        if (!file.exists()) {
+            return records;
+        }
+        RecordSource recordSource = openRecordSource(file, snapshotFormat);
+        try {
+            while (recordSource.nextRecord()) {
+                records.add(recordSource.getRecord());
+            }
+        } finally {
+            recordSource.close();
+        }
+        return records;
+    }
+
+    /**
+     * Rewrites the list's snapshot in the selected snapshot format so that it contains exactly the given records.
+     *
+     * @param records The records to store within the list's snapshot, in the text format of the list's file.
+     * @throws IOException if we are unable to write to the list's snapshot.
+     */
+    public void writeSnapshot(Collection<String> records) throws IOException {
+        writeSnapshot(records, SnapshotFormat.getSelectedFormat());
+    }
+
+    /**
+     * Rewrites the list's snapshot in the given format so that it contains exactly the given records. The snapshot is
+     * replaced atomically, so a crash while saving leaves either the old or the new snapshot in place.
+     *
+     * @param records        The records to store within the list's snapshot, in the text format of the list's file.
+     * @param snapshotFormat The format to write the snapshot in.
+     * @throws IOException if we are unable to write to the list's snapshot.
+     */
+    public void writeSnapshot(Collection<String> records, SnapshotFormat snapshotFormat) throws IOException {
+        SnapshotFile snapshotFile = new SnapshotFile(snapshotFormat.toSnapshotPath(getFilePath()), snapshotFormat);
+        if (snapshotFormat == SnapshotFormat.BINARY) {
+            snapshotFile.write(outputStream -> {
+                BinaryRecordWriter binaryRecordWriter = new BinaryRecordWriter(outputStream, getRecordSchema(),
+                        records.size());
+                for (String record : records) {
+                    binaryRecordWriter.writeRecord(toSchemaRecord(record));
+                }
+                binaryRecordWriter.flush();
+            });
+            return;
+        }
+        snapshotFile.write(outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            for (String record : records) {
+                writer.write(record + System.lineSeparator());
+            }
+            writer.flush();
+        });
+    }
 }
@@ -11,11 +11,7 @@ import seedu.duke.exceptions.OverAgeException;
 import seedu.duke.exceptions.UnderAgeException;
 import seedu.duke.exceptions.NameNotStringException;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
 
 public class HousekeeperFileManager extends FileManager {
     private static final String FILE_PATH = "ListFolder/housekeeper_file.txt";
@@ -30,31 +26,25 @@ public class HousekeeperFileManager extends FileManager {
      *                                   create it, if the file specified by the file path does not exist and we are
      *                                   unable to create it.
      */
-    public HousekeeperList load() throws HotelLiteManagerException {
+    public HousekeeperList load() throws IOException, HotelLiteManagerException {
         HousekeeperList housekeeperList = new HousekeeperList();
         Housekeeper housekeeper;
-        File file = getFile(FILE_PATH);
-        Scanner scan = null;
+        RecordSource recordSource = openSnapshot(new HousekeeperFileNotFoundException());
         try {
-            scan = new Scanner(file);
-        } catch (FileNotFoundException e) {
-            throw new HousekeeperFileNotFoundException();
-        }
-        while (scan.hasNext()) {
-            String line = scan.nextLine();
-            String[] splitData = line.split(FILE_SEPARATOR);
-            String housekeeperName = splitData[0];
-            String housekeeperAge = splitData[1];
-            String name;
-            name = getName(housekeeperName);
-            int ageNumber;
-            ageNumber = getAgeNumber(housekeeperAge);
-            housekeeper = new Housekeeper(name, ageNumber);
-            housekeeperList.addHousekeeper(housekeeper);
-            String housekeeperAvailability = splitData[2].trim();
-            if (!(housekeeperAvailability.equals("N/A"))) {
-                housekeeperList.addAvailabilityInList(name, housekeeperAvailability);
+            while (recordSource.nextRecord()) {
+                String name;
+                name = getName(recordSource.nextField());
+                int ageNumber;
+                ageNumber = getAgeNumber(recordSource);
+                housekeeper = new Housekeeper(name, ageNumber);
+                housekeeperList.addHousekeeper(housekeeper);
+                String housekeeperAvailability = recordSource.nextField();
+                if (!housekeeperAvailability.isEmpty() && !(housekeeperAvailability.equals("N/A"))) {
+                    housekeeperList.addAvailabilityInList(name, housekeeperAvailability);
+                }
             }
+        } finally {
+            recordSource.close();
         }
         return housekeeperList;
     }
@@ -66,18 +56,12 @@ public class HousekeeperFileManager extends FileManager {
      * @return A valid age number.
      * @throws HotelLiteManagerException If age given is not an integer or within age limit given.
      */
-    private int getAgeNumber(String housekeeperAge) throws HotelLiteManagerException {
+    private int getAgeNumber(RecordSource recordSource) throws IOException, HotelLiteManagerException {
         int ageNumber;
-        String age;
         try {
-            age = housekeeperAge.trim();
-            ageNumber = Integer.parseInt(age);
+            ageNumber = recordSource.nextInt();
         } catch (NumberFormatException e) {
             throw new InvalidAgeException();
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new InvalidAgeException();
-        } catch (ArrayIndexOutOfBoundsException e) {
-            throw new InvalidAgeException();
         }
         if (ageNumber < MIN_AGE_ACCEPTED) {
             throw new UnderAgeException();
@@ -90,7 +74,8 @@ public class HousekeeperFileManager extends FileManager {
 
     /**
      * This method verifies that the housekeeper's name given from the housekeeper_file.txt does not contain
-     * any symbols or digits.
+     * any symbols or digits. The characters are checked one at a time instead of with a regular expression, as this
+     * is called for every housekeeper loaded from the file.
      *
      * @param housekeeperName Housekeeper name given from the file.
      * @return A valid name.
@@ -106,36 +91,45 @@ public class HousekeeperFileManager extends FileManager {
         if (name.isEmpty()) {
             throw new InvalidHousekeeperProfileException();
         }
-        if (!name.matches("^([a-z]|\\s|[A-Z])+$")) {
-            throw new NameNotStringException();
+        for (int i = 0; i < name.length(); i++) {
+            if (!isValidNameCharacter(name.charAt(i))) {
+                throw new NameNotStringException();
+            }
         }
         return name;
     }
 
-    /**
-     * Deletes all the content currently stored within the file ListFolder/housekeeper_file.txt.
-     *
-     * @throws IOException if we are unable to write to the file ListFolder/housekeeper_file.txt.
-     */
-    private void clearFileContents() throws IOException {
-        FileWriter fw = new FileWriter(FILE_PATH);
-        fw.close();
+    private boolean isValidNameCharacter(char character) {
+        boolean isLetter = (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+        boolean isWhitespace = character == ' ' || character == '\t' || character == '\n' || character == '\u000B'
+                || character == '\f' || character == '\r';
+        return isLetter || isWhitespace;
+    }
+
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.STRING, FieldType.INT, FieldType.STRING};
+    }
+
+    @Override
+    public String getFieldSeparator() {
+        return " | ";
     }
 
     /**
-     * Update the contents stored within the file ListFolder/housekeeper_file.txt with the
-     * current content of the housekeeper list.
+     * Housekeeper names are not case-sensitive, so the key of a housekeeper record is its name in lower case.
      *
-     * @throws IOException if we are unable to write to the file ListFolder/housekeeper_file.txt.
+     * @param record A record in the same format as it is stored within the file ListFolder/housekeeper_file.txt.
+     * @return the name of the housekeeper in lower case.
      */
-    public void save(HousekeeperList housekeeperList) throws IOException {
-        clearFileContents();
-        FileWriter fileWriter = new FileWriter(FILE_PATH, true);
-        for (int i = 0; i < housekeeperList.getTotalHousekeeper(); i++) {
-            Housekeeper housekeeper = housekeeperList.getHousekeeper(i);
-            fileWriter.write(housekeeper.toFileString() + System.lineSeparator());
-        }
-        fileWriter.close();
+    @Override
+    public String getRecordKey(String record) {
+        return super.getRecordKey(record).toLowerCase();
     }
 
 }
@@ -1,70 +1,83 @@
 package seedu.duke.storage;
 
-import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
 import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.HousekeeperPerformanceFileNotFoundException;
 import seedu.duke.exceptions.InvalidHousekeeperPerformanceRatingException;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
 
 public class HousekeeperPerformanceFileManager extends FileManager {
     private static final String FILE_PATH = "ListFolder/performance_list.txt";
+    private static final long UNKNOWN_RATING_TIME = 0;
 
-    private void clearFileContents() throws IOException {
-        FileWriter fw = new FileWriter(FILE_PATH);
-        fw.close();
-    }
-
-    public HousekeeperPerformanceList load() throws HotelLiteManagerException {
+    /**
+     * Returns the Housekeeper Performance List which contains the ratings stored within the file
+     * ListFolder/performance_list.txt. Each record holds a single rating, and the ratings of each housekeeper are
+     * stored from the earliest to the latest. Records stored before ratings were time-stamped have no time, and are
+     * loaded as if they were given at the start of the epoch.
+     *
+     * @return the Housekeeper Performance List containing the ratings stored within the file.
+     * @throws HotelLiteManagerException if the file cannot be created, or a rating stored within it is not an integer.
+     */
+    public HousekeeperPerformanceList load() throws IOException, HotelLiteManagerException {
         HousekeeperPerformanceList housekeeperPerformanceList = new HousekeeperPerformanceList();
-        HousekeeperPerformance housekeeperPerformance;
-        File file = getFile(FILE_PATH);
-        Scanner scan = null;
+        RecordSource recordSource = openSnapshot(new HousekeeperPerformanceFileNotFoundException());
         try {
-            scan = new Scanner(file);
-        } catch (FileNotFoundException e) {
-            throw new HousekeeperPerformanceFileNotFoundException();
-        }
-
-        while (scan.hasNext()) {
-            String line = scan.nextLine();
-            String[] splitData = line.split(FILE_SEPARATOR);
-            String housekeeperName = splitData[0].trim();
-            String performanceString = splitData[1].trim();
-            int performanceRating;
-            try {
-                performanceRating = Integer.parseInt(performanceString);
-            } catch (NumberFormatException e) {
-                throw new InvalidHousekeeperPerformanceRatingException();
+            while (recordSource.nextRecord()) {
+                String housekeeperName = recordSource.nextField();
+                int performanceRating;
+                long ratingTime = UNKNOWN_RATING_TIME;
+                try {
+                    performanceRating = recordSource.nextInt();
+                    if (recordSource.hasNextField()) {
+                        String ratingTimeField = recordSource.nextField();
+                        ratingTime = ratingTimeField.isEmpty() ? UNKNOWN_RATING_TIME : Long.parseLong(ratingTimeField);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new InvalidHousekeeperPerformanceRatingException();
+                }
+                housekeeperPerformanceList.addRating(housekeeperName, performanceRating, ratingTime);
             }
-            housekeeperPerformance = new HousekeeperPerformance(housekeeperName, performanceRating);
-            housekeeperPerformanceList.addHousekeeperPerformance(housekeeperPerformance);
+        } finally {
+            recordSource.close();
         }
         return housekeeperPerformanceList;
     }
 
-    public void save(HousekeeperPerformanceList housekeeperPerformanceList) throws IOException {
-        clearFileContents();
-        FileWriter fw = new FileWriter(FILE_PATH, true);
-        int lastIndexOfArrayList = housekeeperPerformanceList.getSize() - 1;
-        String housekeeperName;
-        int rating;
-        HousekeeperPerformance housekeeperPerformance;
-        String performanceDetails = "";
-        for (int i = 0; i < housekeeperPerformanceList.getSize(); i++) {
-            housekeeperPerformance = housekeeperPerformanceList.getPerformance(i);
-            housekeeperName = housekeeperPerformance.getName();
-            rating = housekeeperPerformance.getRating();
-            performanceDetails = housekeeperName + '|' + rating;
-            if (i != lastIndexOfArrayList) {
-                performanceDetails = performanceDetails + System.lineSeparator();
-            }
-            fw.write(performanceDetails);
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.STRING, FieldType.INT, FieldType.LONG};
+    }
+
+    /**
+     * Records stored before ratings were time-stamped have no time, so they are given the time used when they are
+     * loaded.
+     *
+     * @param record A record in the same format as it is stored within the file ListFolder/performance_list.txt.
+     * @return the record with the time of the rating.
+     */
+    @Override
+    public String toSchemaRecord(String record) {
+        if (!getField(record, 2).isEmpty()) {
+            return record;
         }
-        fw.close();
+        return getField(record, 0) + RECORD_SEPARATOR + getField(record, 1) + RECORD_SEPARATOR + UNKNOWN_RATING_TIME;
+    }
+
+    /**
+     * A housekeeper can be rated many times, but never twice at the same time, so ratings are identified by the name
+     * of the housekeeper and the time of the rating.
+     *
+     * @param record A record in the same format as it is stored within the file ListFolder/performance_list.txt.
+     * @return the name of the housekeeper and the time of the rating.
+     */
+    @Override
+    public String getRecordKey(String record) {
+        return getField(record, 0) + " @ " + getField(record, 2);
     }
 }
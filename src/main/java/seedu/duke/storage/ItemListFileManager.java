@@ -7,11 +7,8 @@ import seedu.duke.itemlists.Item;
 import seedu.duke.exceptions.ItemFileNotFoundException;
 import seedu.duke.exceptions.InvalidItemPaxException;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Scanner;
+import java.util.ArrayList;
 
 public class ItemListFileManager extends FileManager {
     private static final String FILE_PATH = "ListFolder/ItemList.txt";
@@ -26,67 +23,37 @@ public class ItemListFileManager extends FileManager {
      *                                   ListFolder/ItemList.txt file is not an integer.
      */
 
-    public ItemList load() throws HotelLiteManagerException {
+    public ItemList load() throws IOException, HotelLiteManagerException {
         ItemList listOfItems = new ItemList();
         Item item;
-        File file = getFile(FILE_PATH);
-        Scanner scan = null;
+        RecordSource recordSource = openSnapshot(new ItemFileNotFoundException());
+        ArrayList<Item> items = new ArrayList<>(Math.max(recordSource.getRecordCount(), 0));
         try {
-            scan = new Scanner(file);
-        } catch (FileNotFoundException e) {
-            throw new ItemFileNotFoundException();
-        }
-
-        while (scan.hasNext()) {
-            String line = scan.nextLine();
-            String[] splitData = line.split(FILE_SEPARATOR);
-            String itemName = splitData[0].trim();
-            String itemPaxStringVersion = splitData[1].trim();
-            int itemPax;
-            try {
-                itemPax = Integer.parseInt(itemPaxStringVersion);
-            } catch (NumberFormatException e) {
-                throw new InvalidItemPaxException();
+            while (recordSource.nextRecord()) {
+                String itemName = recordSource.nextField();
+                int itemPax;
+                try {
+                    itemPax = recordSource.nextInt();
+                } catch (NumberFormatException e) {
+                    throw new InvalidItemPaxException();
+                }
+                item = new Item(itemName, itemPax);
+                items.add(item);
             }
-            item = new Item(itemName, itemPax);
-            listOfItems.addItemToList(item);
+        } finally {
+            recordSource.close();
         }
+        listOfItems.setListOfItems(items);
         return listOfItems;
     }
 
-    /**
-     * Deletes all the content currently stored within the file ListFolder/ItemList.txt
-     *
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
-     */
-    private void clearFileContents() throws IOException {
-        FileWriter fw = new FileWriter(FILE_PATH);
-        fw.close();
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
     }
 
-    /**
-     * Update the contents stored within the file ListFolder/ItemList.txt with the current content of the item list.
-     *
-     * @throws IOException if we are unable to write to the file ListFolder/ItemList.txt
-     */
-    public void save(ItemList listOfItems) throws IOException {
-        clearFileContents();
-        FileWriter fw = new FileWriter(FILE_PATH, true);
-        int lastIndexOfArrayList = listOfItems.getSize() - 1;
-        String itemName;
-        int itemPax;
-        Item item;
-        String itemDetails;
-        for (int i = 0; i < listOfItems.getSize(); i++) {
-            item = listOfItems.getItem(i);
-            itemName = item.getName();
-            itemPax = item.getPax();
-            itemDetails = itemName + '|' + itemPax;
-            if (i != lastIndexOfArrayList) {
-                itemDetails = itemDetails + System.lineSeparator();
-            }
-            fw.write(itemDetails);
-        }
-        fw.close();
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.STRING, FieldType.INT};
     }
 }
@@ -0,0 +1,90 @@
+package seedu.duke.storage;
+
+import java.util.ArrayList;
+
+/**
+ * Collects the mutations made to a list since it was last saved. Each list owns one JournalBuffer and records every
+ * change it makes into it, so that saving the list only has to append these entries to the journal instead of
+ * rewriting the whole file.
+ */
+public class JournalBuffer {
+    private ArrayList<JournalEntry> pendingEntries = new ArrayList<>();
+    private long modificationCount = 0;
+    private long savedModificationCount = 0;
+
+    /**
+     * Records that the given record was added to the list or that an existing record with the same key was updated.
+     *
+     * @param record The record, in the same format as it is stored within the list's file.
+     */
+    public void recordPut(String record) {
+        addEntry(new JournalEntry(JournalEntry.PUT, record, null));
+    }
+
+    /**
+     * Records that the given record was removed from the list.
+     *
+     * @param record The record that was removed, in the same format as it is stored within the list's file.
+     */
+    public void recordDelete(String record) {
+        addEntry(new JournalEntry(JournalEntry.DELETE, null, record));
+    }
+
+    /**
+     * Records that a record has been replaced by a record with a different key, keeping its position in the list.
+     *
+     * @param previousRecord The record before it was renamed.
+     * @param record         The record after it was renamed.
+     */
+    public void recordRename(String previousRecord, String record) {
+        addEntry(new JournalEntry(JournalEntry.RENAME, record, previousRecord));
+    }
+
+    /**
+     * Records that every record within the list was removed.
+     */
+    public void recordClear() {
+        addEntry(new JournalEntry(JournalEntry.CLEAR, null, null));
+    }
+
+    private void addEntry(JournalEntry entry) {
+        pendingEntries.add(entry);
+        modificationCount++;
+    }
+
+    public ArrayList<JournalEntry> getPendingEntries() {
+        return pendingEntries;
+    }
+
+    public boolean hasPendingEntries() {
+        return !pendingEntries.isEmpty();
+    }
+
+    /**
+     * Returns the number of mutations recorded since the list was created. The count is never reset, so it can be
+     * compared across commands to tell whether the list has changed.
+     *
+     * @return the number of mutations recorded into this buffer.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Checks if the list has been modified since it was last saved or loaded.
+     *
+     * @return true if mutations have been recorded since the last save. Otherwise, false.
+     */
+    public boolean isDirty() {
+        return modificationCount != savedModificationCount;
+    }
+
+    /**
+     * Discards all the pending entries. Used once the entries have been written to the journal, or after a list has
+     * been loaded from its file.
+     */
+    public void clear() {
+        pendingEntries.clear();
+        savedModificationCount = modificationCount;
+    }
+}
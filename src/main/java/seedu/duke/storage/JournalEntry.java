@@ -0,0 +1,35 @@
+package seedu.duke.storage;
+
+/**
+ * Represents a single mutation made to one of the lists, waiting to be appended to the journal.
+ * A JournalEntry object consists of the type of mutation, the file record the mutation produced and, for renames
+ * and deletions, the file record that the mutation replaced.
+ */
+public class JournalEntry {
+    public static final String PUT = "+";
+    public static final String DELETE = "-";
+    public static final String RENAME = "~";
+    public static final String CLEAR = "!";
+
+    private String operation;
+    private String record;
+    private String previousRecord;
+
+    public JournalEntry(String operation, String record, String previousRecord) {
+        this.operation = operation;
+        this.record = record;
+        this.previousRecord = previousRecord;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getRecord() {
+        return record;
+    }
+
+    public String getPreviousRecord() {
+        return previousRecord;
+    }
+}
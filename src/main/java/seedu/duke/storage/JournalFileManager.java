@@ -0,0 +1,242 @@
+package seedu.duke.storage;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Manages the append-only journal stored within the file ListFolder/journal.txt. Instead of rewriting a whole list
+ * file after every command, the mutations made by the command are appended to the journal. The journal is replayed on
+ * top of the list files when the program starts, and is compacted into the list files once it grows too large.
+ */
+public class JournalFileManager extends FileManager {
+    private static final String FILE_PATH = "ListFolder/journal.txt";
+    private static final long COMPACTION_THRESHOLD_IN_BYTES = 256 * 1024;
+    private static Logger journalLogger = Logger.getLogger("journalLogger");
+
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    /**
+     * The journal is always stored as text, so it has no binary record schema.
+     */
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[0];
+    }
+
+    /**
+     * Appends the journal lines to the end of the journal and forces them to the disk. The journal is compacted
+     * afterwards if it has grown beyond the compaction threshold.
+     *
+     * @param journalLines The journal lines to append.
+     * @return the number of bytes appended to the journal.
+     * @throws IOException if we are unable to write to the file ListFolder/journal.txt.
+     */
+    public long append(List<String> journalLines) throws IOException {
+        if (journalLines.isEmpty()) {
+            return 0;
+        }
+        byte[] journalBytes = encode(journalLines);
+        FileOutputStream journalStream = new FileOutputStream(FILE_PATH, true);
+        try {
+            journalStream.write(journalBytes);
+            journalStream.getFD().sync();
+        } finally {
+            journalStream.close();
+        }
+        if (isCompactionDue()) {
+            compact();
+        }
+        return journalBytes.length;
+    }
+
+    /**
+     * Returns the number of bytes the journal lines take up once appended to the journal.
+     *
+     * @param journalLines The journal lines to measure.
+     * @return the length of the journal lines in bytes.
+     */
+    public static long getEncodedLength(List<String> journalLines) {
+        return encode(journalLines).length;
+    }
+
+    private static byte[] encode(List<String> journalLines) {
+        StringBuilder journalContents = new StringBuilder();
+        for (String journalLine : journalLines) {
+            journalContents.append(journalLine).append(System.lineSeparator());
+        }
+        return journalContents.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks if the journal has grown large enough that it should be folded into the list files.
+     *
+     * @return true if the journal is larger than the compaction threshold. Otherwise, false.
+     */
+    public boolean isCompactionDue() {
+        File journalFile = new File(FILE_PATH);
+        return journalFile.length() > COMPACTION_THRESHOLD_IN_BYTES;
+    }
+
+    /**
+     * Replays every entry within the journal on top of the list files, rewrites the list files that were affected and
+     * empties the journal. This is the only point at which whole list files are rewritten.
+     *
+     * @throws IOException if we are unable to read from or write to the journal or any of the list files.
+     */
+    public void compact() throws IOException {
+        File journalFile = new File(FILE_PATH);
+        if (!journalFile.exists() || journalFile.length() == 0) {
+            return;
+        }
+        LinkedHashMap<FileManager, LinkedHashMap<String, String>> affectedLists = replayJournal(journalFile);
+        for (Map.Entry<FileManager, LinkedHashMap<String, String>> affectedList : affectedLists.entrySet()) {
+            FileManager fileManager = affectedList.getKey();
+            fileManager.writeSnapshot(fileManager.compactRecords(affectedList.getValue().values()));
+        }
+        clearJournal();
+        journalLogger.log(Level.INFO, "Journal compacted into " + affectedLists.size() + " list files.");
+    }
+
+    /**
+     * Applies every entry within the journal to the records of the list file it belongs to.
+     *
+     * @param journalFile The journal to replay.
+     * @return the records of every list file affected by the journal, keyed by their record keys.
+     * @throws IOException if the journal or any of the list files cannot be read.
+     */
+    private LinkedHashMap<FileManager, LinkedHashMap<String, String>> replayJournal(File journalFile)
+            throws IOException {
+        LinkedHashMap<String, FileManager> journaledFileManagers = getJournaledFileManagers();
+        LinkedHashMap<FileManager, LinkedHashMap<String, String>> affectedLists = new LinkedHashMap<>();
+        RecordReader recordReader = new RecordReader(journalFile.toPath());
+        try {
+            while (recordReader.nextRecord()) {
+                if (!recordReader.isRecordTerminated()) {
+                    journalLogger.log(Level.WARNING, "Skipping journal line that was only partly written.");
+                    continue;
+                }
+                String filePath = recordReader.nextField();
+                String operation = recordReader.nextField();
+                if (!recordReader.hasNextField()) {
+                    journalLogger.log(Level.WARNING, "Skipping incomplete journal line.");
+                    continue;
+                }
+                String payload = recordReader.remainingFields();
+                FileManager fileManager = journaledFileManagers.get(filePath);
+                if (fileManager == null) {
+                    journalLogger.log(Level.WARNING, "Skipping journal line for an unknown list file.");
+                    continue;
+                }
+                LinkedHashMap<String, String> records = affectedLists.get(fileManager);
+                if (records == null) {
+                    records = loadRecords(fileManager);
+                    affectedLists.put(fileManager, records);
+                }
+                LinkedHashMap<String, String> updatedRecords = applyJournalLine(fileManager, records, operation,
+                        payload);
+                affectedLists.put(fileManager, updatedRecords);
+            }
+        } finally {
+            recordReader.close();
+        }
+        return affectedLists;
+    }
+
+    private LinkedHashMap<String, String> loadRecords(FileManager fileManager) throws IOException {
+        LinkedHashMap<String, String> records = new LinkedHashMap<>();
+        for (String record : fileManager.readSnapshot()) {
+            records.put(fileManager.getRecordKey(record), record);
+        }
+        return records;
+    }
+
+    /**
+     * Applies a single journal entry to the records of a list file.
+     *
+     * @param fileManager The file manager of the list file the entry belongs to.
+     * @param records     The current records of the list file, keyed by their record keys.
+     * @param operation   The type of mutation recorded by the entry.
+     * @param payload     The record or record key affected by the mutation.
+     * @return the records of the list file after the entry has been applied.
+     */
+    private LinkedHashMap<String, String> applyJournalLine(FileManager fileManager, LinkedHashMap<String, String>
+            records, String operation, String payload) {
+        switch (operation) {
+        case JournalEntry.PUT:
+            records.put(fileManager.getRecordKey(payload), payload);
+            return records;
+        case JournalEntry.DELETE:
+            records.remove(payload);
+            return records;
+        case JournalEntry.RENAME:
+            return renameRecord(fileManager, records, payload);
+        case JournalEntry.CLEAR:
+            return new LinkedHashMap<>();
+        default:
+            journalLogger.log(Level.WARNING, "Skipping journal line with an unknown operation.");
+            return records;
+        }
+    }
+
+    /**
+     * Replaces the record with the old key by the renamed record while keeping its position within the list file.
+     * Replaying the same rename twice leaves the records unchanged.
+     */
+    private LinkedHashMap<String, String> renameRecord(FileManager fileManager, LinkedHashMap<String, String> records,
+                                                       String payload) {
+        int separatorIndex = payload.indexOf(RECORD_SEPARATOR);
+        if (separatorIndex < 0) {
+            return records;
+        }
+        String previousKey = payload.substring(0, separatorIndex);
+        String renamedRecord = payload.substring(separatorIndex + 1);
+        if (!records.containsKey(previousKey)) {
+            records.put(fileManager.getRecordKey(renamedRecord), renamedRecord);
+            return records;
+        }
+        LinkedHashMap<String, String> renamedRecords = new LinkedHashMap<>();
+        for (Map.Entry<String, String> record : records.entrySet()) {
+            if (record.getKey().equals(previousKey)) {
+                renamedRecords.put(fileManager.getRecordKey(renamedRecord), renamedRecord);
+            } else {
+                renamedRecords.put(record.getKey(), record.getValue());
+            }
+        }
+        return renamedRecords;
+    }
+
+    /**
+     * Returns the file managers of every list that is saved through the journal, keyed by the path of their file.
+     */
+    LinkedHashMap<String, FileManager> getJournaledFileManagers() {
+        FileManager[] fileManagers = {new AssignmentListFileManager(), new RoomFileManager(),
+            new ReservationListFileManager(), new EventListFileManager(), new ItemListFileManager(),
+            new HousekeeperFileManager(), new HousekeeperPerformanceFileManager(), new SatisfactionListFileManager()};
+        LinkedHashMap<String, FileManager> journaledFileManagers = new LinkedHashMap<>();
+        for (FileManager fileManager : fileManagers) {
+            journaledFileManagers.put(fileManager.getFilePath(), fileManager);
+        }
+        return journaledFileManagers;
+    }
+
+    /**
+     * Deletes all the entries currently stored within the file ListFolder/journal.txt.
+     *
+     * @throws IOException if we are unable to write to the file ListFolder/journal.txt.
+     */
+    private void clearJournal() throws IOException {
+        FileOutputStream journalStream = new FileOutputStream(FILE_PATH);
+        journalStream.getFD().sync();
+        journalStream.close();
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.duke.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Appends journal lines to the journal on a background thread so that commands do not have to wait for the disk.
+ * Lines submitted while the previous write is in progress, or within the max latency window after the first pending
+ * line, are written together in a single group commit with a single sync to the disk.
+ */
+public class JournalWriter implements Runnable {
+    public static final String MAX_LATENCY_PROPERTY = "hotellite.journal.maxLatencyMillis";
+    private static final long DEFAULT_MAX_LATENCY_IN_MILLIS = 50;
+    private static Logger journalWriterLogger = Logger.getLogger("journalWriterLogger");
+
+    private final JournalFileManager journalFileManager;
+    private final long maxLatencyInMillis;
+    private final Thread writerThread;
+    private ArrayList<String> pendingLines = new ArrayList<>();
+    private long submittedBatches = 0;
+    private long committedBatches = 0;
+    private boolean isFlushRequested = false;
+    private boolean isClosed = false;
+    private IOException writeFailure;
+
+    public JournalWriter() {
+        this(new JournalFileManager(), Long.getLong(MAX_LATENCY_PROPERTY, DEFAULT_MAX_LATENCY_IN_MILLIS));
+    }
+
+    public JournalWriter(JournalFileManager journalFileManager, long maxLatencyInMillis) {
+        this.journalFileManager = journalFileManager;
+        this.maxLatencyInMillis = Math.max(0, maxLatencyInMillis);
+        writerThread = new Thread(this, "journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues the journal lines to be appended to the journal. Returns without waiting for the lines to be written.
+     *
+     * @param journalLines The journal lines to append.
+     * @throws IOException if an earlier group commit failed, or the writer has already been closed.
+     */
+    public synchronized void submit(List<String> journalLines) throws IOException {
+        throwWriteFailure();
+        if (isClosed) {
+            throw new IOException("The journal writer has already been closed.");
+        }
+        if (journalLines.isEmpty()) {
+            return;
+        }
+        pendingLines.addAll(journalLines);
+        submittedBatches++;
+        notifyAll();
+    }
+
+    /**
+     * Waits until every journal line submitted so far has been written and synced to the disk.
+     *
+     * @throws IOException if any of the submitted lines could not be written.
+     */
+    public synchronized void flush() throws IOException {
+        long batchesToCommit = submittedBatches;
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (committedBatches < batchesToCommit && writeFailure == null) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be written.");
+        } finally {
+            isFlushRequested = false;
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Writes every pending journal line and stops the writer thread. Closing an already closed writer does nothing.
+     *
+     * @throws IOException if any of the submitted lines could not be written.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+        }
+        flush();
+        synchronized (this) {
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            ArrayList<String> batch;
+            long batchesInCommit;
+            synchronized (this) {
+                try {
+                    batch = waitForBatch();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (batch == null) {
+                    return;
+                }
+                batchesInCommit = submittedBatches;
+            }
+            commit(batch, batchesInCommit);
+        }
+    }
+
+    /**
+     * Waits until there are pending lines, then keeps collecting lines until the max latency window has passed or a
+     * flush has been requested. Must be called while holding the lock on this writer.
+     *
+     * @return the lines to write in the next group commit, or null if the writer has been closed.
+     */
+    private ArrayList<String> waitForBatch() throws InterruptedException {
+        while (pendingLines.isEmpty()) {
+            if (isClosed) {
+                return null;
+            }
+            wait();
+        }
+        long deadline = System.currentTimeMillis() + maxLatencyInMillis;
+        long remainingTime = maxLatencyInMillis;
+        while (remainingTime > 0 && !isFlushRequested && !isClosed) {
+            wait(remainingTime);
+            remainingTime = deadline - System.currentTimeMillis();
+        }
+        ArrayList<String> batch = pendingLines;
+        pendingLines = new ArrayList<>();
+        return batch;
+    }
+
+    private void commit(ArrayList<String> batch, long batchesInCommit) {
+        IOException failure = null;
+        try {
+            long bytesWritten = journalFileManager.append(batch);
+            journalWriterLogger.log(Level.INFO, "Group commit of " + batch.size() + " journal lines ("
+                    + bytesWritten + " bytes).");
+        } catch (IOException e) {
+            journalWriterLogger.log(Level.SEVERE, "Unable to write to the journal.", e);
+            failure = e;
+        }
+        synchronized (this) {
+            if (failure != null && writeFailure == null) {
+                writeFailure = failure;
+            }
+            committedBatches = batchesInCommit;
+            notifyAll();
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.duke.storage;
+
+import seedu.duke.ListContainer;
+import seedu.duke.ListType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves the lists within a ListContainer after each command. Only the lists the command declares it may modify are
+ * checked, and of those only the ones modified since they were last saved are written, so commands which only read
+ * from the lists do not touch the disk at all. The mutations are handed to a JournalWriter, which appends them to the
+ * journal in the background.
+ */
+public class PersistenceManager {
+    private static Logger persistenceLogger = Logger.getLogger("persistenceLogger");
+    private JournalWriter journalWriter;
+    private long totalBytesWritten = 0;
+
+    public PersistenceManager() {
+        this(new JournalWriter());
+    }
+
+    public PersistenceManager(JournalWriter journalWriter) {
+        this.journalWriter = journalWriter;
+    }
+
+    /**
+     * Queues the mutations of every modified list within the list container to be appended to the journal. The
+     * mutations are taken out of the lists' journal buffers before this method returns, so the lists can keep being
+     * modified while the journal is being written.
+     *
+     * @param listContainer The object containing the lists to save.
+     * @param commandName   The name of the command that was just executed, used when reporting what was written.
+     * @return the number of bytes queued for the journal. This is 0 if none of the lists have been modified.
+     * @throws IOException if an earlier write to the journal has failed.
+     */
+    public long saveChangedLists(ListContainer listContainer, String commandName) throws IOException {
+        return saveChangedLists(listContainer, EnumSet.allOf(ListType.class), commandName);
+    }
+
+    /**
+     * Queues the mutations of the given lists to be appended to the journal, skipping those which have not been
+     * modified. Only the journal buffers of the given lists are checked, so the lists a command declares it may
+     * modify are the only ones saved after it is executed.
+     *
+     * @param listContainer The object containing the lists to save.
+     * @param listTypes     The lists to save if they have been modified.
+     * @param commandName   The name of the command that was just executed, used when reporting what was written.
+     * @return the number of bytes queued for the journal. This is 0 if none of the lists have been modified.
+     * @throws IOException if an earlier write to the journal has failed.
+     */
+    public long saveChangedLists(ListContainer listContainer, Set<ListType> listTypes, String commandName)
+            throws IOException {
+        ArrayList<String> journalLines = new ArrayList<>();
+        ArrayList<String> changedFiles = new ArrayList<>();
+        ArrayList<JournalBuffer> changedBuffers = new ArrayList<>();
+        for (ListType listType : listTypes) {
+            JournalBuffer journalBuffer = listType.getJournalBuffer(listContainer);
+            if (!journalBuffer.isDirty()) {
+                continue;
+            }
+            FileManager fileManager = listType.createFileManager();
+            journalLines.addAll(fileManager.toJournalLines(journalBuffer));
+            changedFiles.add(fileManager.getFilePath());
+            changedBuffers.add(journalBuffer);
+        }
+        assert !hasUnsavedChanges(listContainer, listTypes) : commandName + " modified a list it did not declare";
+        if (changedFiles.isEmpty()) {
+            persistenceLogger.log(Level.FINE, commandName + " did not modify any list, nothing was written.");
+            return 0;
+        }
+
+        journalWriter.submit(journalLines);
+        long bytesWritten = JournalFileManager.getEncodedLength(journalLines);
+        for (JournalBuffer journalBuffer : changedBuffers) {
+            journalBuffer.clear();
+        }
+        totalBytesWritten += bytesWritten;
+        persistenceLogger.log(Level.INFO, commandName + " queued " + bytesWritten + " bytes for " + changedFiles
+                + " (" + totalBytesWritten + " bytes in total).");
+        return bytesWritten;
+    }
+
+    /**
+     * Waits until every mutation saved so far has been written and synced to the disk.
+     *
+     * @throws IOException if any of the mutations could not be written to the journal.
+     */
+    public void flush() throws IOException {
+        journalWriter.flush();
+    }
+
+    /**
+     * Writes every pending mutation to the journal and stops the background writer. Called when the program exits.
+     *
+     * @throws IOException if any of the mutations could not be written to the journal.
+     */
+    public void close() throws IOException {
+        journalWriter.close();
+    }
+
+    public long getTotalBytesWritten() {
+        return totalBytesWritten;
+    }
+
+    /**
+     * Returns whether any list other than the given ones has been modified without being saved.
+     */
+    private boolean hasUnsavedChanges(ListContainer listContainer, Set<ListType> savedListTypes) {
+        for (ListType listType : ListType.values()) {
+            if (!savedListTypes.contains(listType) && listType.getJournalBuffer(listContainer).isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
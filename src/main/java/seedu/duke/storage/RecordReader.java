@@ -0,0 +1,282 @@
+package seedu.duke.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the records of a list file one at a time. The file is streamed through a file channel into a reusable buffer,
+ * and the "|" separated fields of each record are read directly out of that buffer, without splitting the record with
+ * a regular expression. Integer fields are parsed from the buffer without creating a String first.
+ */
+public class RecordReader implements RecordSource {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final byte RECORD_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte FIELD_SEPARATOR = '|';
+    private static final byte SPACE = ' ';
+
+    private final FileChannel fileChannel;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int bufferLimit = 0;
+    private boolean isEndOfFile = false;
+    private int recordStart = 0;
+    private int recordEnd = 0;
+    private int nextRecordStart = 0;
+    private int fieldPosition = 0;
+    private boolean hasMoreFields = false;
+    private boolean isRecordTerminated = false;
+    private long unreadContentLength;
+
+    public RecordReader(Path filePath) throws IOException {
+        this(filePath, Long.MAX_VALUE);
+    }
+
+    /**
+     * Opens a file for reading, reading only the given number of bytes from the start of the file. This keeps the
+     * checksum at the end of a snapshot from being read as one of its records.
+     *
+     * @param filePath      The path of the file to read.
+     * @param contentLength The number of bytes at the start of the file that hold its records.
+     * @throws IOException if we are unable to open the file.
+     */
+    public RecordReader(Path filePath, long contentLength) throws IOException {
+        fileChannel = FileChannel.open(filePath, StandardOpenOption.READ);
+        unreadContentLength = contentLength;
+    }
+
+    /**
+     * Moves to the next record within the file, skipping blank lines.
+     *
+     * @return true if there is another record. Otherwise, false.
+     * @throws IOException if we are unable to read from the file.
+     */
+    @Override
+    public boolean nextRecord() throws IOException {
+        while (true) {
+            int separatorIndex = findRecordSeparator(nextRecordStart);
+            while (separatorIndex < 0 && !isEndOfFile) {
+                fillBuffer();
+                separatorIndex = findRecordSeparator(nextRecordStart);
+            }
+            if (separatorIndex < 0 && nextRecordStart >= bufferLimit) {
+                hasMoreFields = false;
+                return false;
+            }
+            recordStart = nextRecordStart;
+            isRecordTerminated = separatorIndex >= 0;
+            recordEnd = separatorIndex < 0 ? bufferLimit : separatorIndex;
+            nextRecordStart = separatorIndex < 0 ? bufferLimit : separatorIndex + 1;
+            if (recordEnd > recordStart && buffer[recordEnd - 1] == CARRIAGE_RETURN) {
+                recordEnd--;
+            }
+            if (!isBlank(recordStart, recordEnd)) {
+                fieldPosition = recordStart;
+                hasMoreFields = true;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks if the current record has any fields that have not been read yet.
+     *
+     * @return true if there is another field within the current record. Otherwise, false.
+     */
+    @Override
+    public boolean hasNextField() {
+        return hasMoreFields;
+    }
+
+    /**
+     * Returns the next field of the current record with its leading and trailing whitespace removed.
+     *
+     * @return the next field, or an empty string if every field of the record has already been read.
+     */
+    @Override
+    public String nextField() {
+        if (!hasMoreFields) {
+            return "";
+        }
+        int fieldEnd = findFieldEnd();
+        int start = skipLeadingSpaces(fieldPosition, fieldEnd);
+        String field = decode(start, skipTrailingSpaces(start, fieldEnd));
+        advancePast(fieldEnd);
+        return field;
+    }
+
+    /**
+     * Parses the next field of the current record as an integer, directly from the bytes of the record.
+     *
+     * @return the value of the next field.
+     * @throws NumberFormatException if the field is missing, empty, not an integer or too large for an int.
+     */
+    @Override
+    public int nextInt() {
+        if (!hasMoreFields) {
+            throw new NumberFormatException("Missing integer field.");
+        }
+        int fieldEnd = findFieldEnd();
+        int start = skipLeadingSpaces(fieldPosition, fieldEnd);
+        int end = skipTrailingSpaces(start, fieldEnd);
+        advancePast(fieldEnd);
+        return parseInt(start, end);
+    }
+
+    /**
+     * Returns every field of the current record that has not been read yet, including the separators between them,
+     * exactly as they are stored within the file.
+     *
+     * @return the unread part of the current record.
+     */
+    public String remainingFields() {
+        if (!hasMoreFields) {
+            return "";
+        }
+        String remainder = decode(fieldPosition, recordEnd);
+        hasMoreFields = false;
+        return remainder;
+    }
+
+    /**
+     * Returns the whole of the current record exactly as it is stored within the file.
+     *
+     * @return the current record.
+     */
+    @Override
+    public String getRecord() {
+        return decode(recordStart, recordEnd);
+    }
+
+    /**
+     * Checks if the current record is followed by a line separator. Only the last record of a file can be
+     * unterminated, which happens when the program stopped while the record was being appended.
+     *
+     * @return true if the current record ends with a line separator. Otherwise, false.
+     */
+    public boolean isRecordTerminated() {
+        return isRecordTerminated;
+    }
+
+    @Override
+    public int getRecordCount() {
+        return UNKNOWN_RECORD_COUNT;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+
+    private int findRecordSeparator(int from) {
+        for (int i = from; i < bufferLimit; i++) {
+            if (buffer[i] == RECORD_SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Discards the records that have already been read and reads more of the file into the buffer. The buffer is
+     * enlarged if a single record does not fit into it.
+     */
+    private void fillBuffer() throws IOException {
+        int unreadLength = bufferLimit - nextRecordStart;
+        if (nextRecordStart > 0) {
+            System.arraycopy(buffer, nextRecordStart, buffer, 0, unreadLength);
+            recordStart = 0;
+            recordEnd = 0;
+            fieldPosition = 0;
+            nextRecordStart = 0;
+            bufferLimit = unreadLength;
+        }
+        if (bufferLimit == buffer.length) {
+            byte[] largerBuffer = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, largerBuffer, 0, bufferLimit);
+            buffer = largerBuffer;
+        }
+        int readLength = (int) Math.min(buffer.length - bufferLimit, unreadContentLength);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferLimit, readLength);
+        int bytesRead = readLength == 0 ? -1 : fileChannel.read(byteBuffer);
+        if (bytesRead < 0) {
+            isEndOfFile = true;
+        } else {
+            bufferLimit += bytesRead;
+            unreadContentLength -= bytesRead;
+        }
+    }
+
+    private int findFieldEnd() {
+        for (int i = fieldPosition; i < recordEnd; i++) {
+            if (buffer[i] == FIELD_SEPARATOR) {
+                return i;
+            }
+        }
+        return recordEnd;
+    }
+
+    private void advancePast(int fieldEnd) {
+        if (fieldEnd >= recordEnd) {
+            fieldPosition = recordEnd;
+            hasMoreFields = false;
+        } else {
+            fieldPosition = fieldEnd + 1;
+        }
+    }
+
+    private boolean isBlank(int start, int end) {
+        return skipLeadingSpaces(start, end) == end;
+    }
+
+    private int skipLeadingSpaces(int start, int end) {
+        while (start < end && (buffer[start] & 0xff) <= SPACE) {
+            start++;
+        }
+        return start;
+    }
+
+    private int skipTrailingSpaces(int start, int end) {
+        while (end > start && (buffer[end - 1] & 0xff) <= SPACE) {
+            end--;
+        }
+        return end;
+    }
+
+    private String decode(int start, int end) {
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private int parseInt(int start, int end) {
+        if (start >= end) {
+            throw new NumberFormatException("Empty integer field.");
+        }
+        boolean isNegative = buffer[start] == '-';
+        int position = start;
+        if (isNegative || buffer[start] == '+') {
+            position++;
+        }
+        if (position >= end) {
+            throw new NumberFormatException("Integer field has no digits.");
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = buffer[position] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Integer field contains a non-digit character.");
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Integer field is too large.");
+            }
+        }
+        value = isNegative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Integer field is too large.");
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.duke.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the records of a list snapshot one at a time, regardless of whether the snapshot is stored as text or in the
+ * binary format. The fields of each record are read in the order they are stored in.
+ */
+public interface RecordSource extends Closeable {
+    int UNKNOWN_RECORD_COUNT = -1;
+
+    /**
+     * Moves to the next record within the snapshot.
+     *
+     * @return true if there is another record. Otherwise, false.
+     * @throws IOException if we are unable to read from the snapshot.
+     */
+    boolean nextRecord() throws IOException;
+
+    /**
+     * Checks if the current record has any fields that have not been read yet.
+     *
+     * @return true if there is another field within the current record. Otherwise, false.
+     */
+    boolean hasNextField();
+
+    /**
+     * Returns the next field of the current record as text, with its leading and trailing whitespace removed.
+     *
+     * @return the next field, or an empty string if every field of the record has already been read.
+     * @throws IOException if the snapshot is corrupted.
+     */
+    String nextField() throws IOException;
+
+    /**
+     * Returns the next field of the current record as an integer.
+     *
+     * @return the value of the next field.
+     * @throws NumberFormatException if the field is missing or is not an integer.
+     * @throws IOException           if the snapshot is corrupted.
+     */
+    int nextInt() throws IOException;
+
+    /**
+     * Returns the current record in the same text format as it is stored within the list's text file. Must be called
+     * before any field of the record has been read.
+     *
+     * @return the current record as text.
+     * @throws IOException if the snapshot is corrupted.
+     */
+    String getRecord() throws IOException;
+
+    /**
+     * Returns the number of records within the snapshot, if the snapshot records it.
+     *
+     * @return the number of records, or UNKNOWN_RECORD_COUNT if it is not known before reading the snapshot.
+     */
+    int getRecordCount();
+}
@@ -0,0 +1,56 @@
+package seedu.duke.storage;
+
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.roomlists.Reservation;
+import seedu.duke.roomlists.ReservationList;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+public class ReservationListFileManager extends FileManager {
+    private static final String FILE_PATH = "ListFolder/reservation_list.txt";
+
+    public ReservationList load() throws IOException, HotelLiteManagerException {
+        ArrayList<Reservation> reservations = new ArrayList<>();
+        RecordSource recordSource = openSnapshot();
+        try {
+            while (recordSource.nextRecord()) {
+                int roomId = recordSource.nextInt();
+                LocalDate startDate = LocalDate.parse(recordSource.nextField());
+                LocalDate endDate = LocalDate.parse(recordSource.nextField());
+                reservations.add(new Reservation(roomId, startDate, endDate));
+            }
+        } finally {
+            recordSource.close();
+        }
+        return new ReservationList(reservations);
+    }
+
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.INT, FieldType.DATE, FieldType.DATE};
+    }
+
+    @Override
+    public String getFieldSeparator() {
+        return " | ";
+    }
+
+    /**
+     * A room can only have one reservation starting on each date, so reservations are identified by their room id
+     * and start date.
+     *
+     * @param record A record in the same format as it is stored within the file ListFolder/reservation_list.txt.
+     * @return the room id and start date of the reservation.
+     */
+    @Override
+    public String getRecordKey(String record) {
+        return getField(record, 0) + " @ " + getField(record, 1);
+    }
+}
@@ -4,34 +4,31 @@ import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.roomlists.Room;
 import seedu.duke.roomlists.RoomType;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 public class RoomFileManager extends FileManager {
     private static final String FILE_PATH = "ListFolder/room_file.txt";
 
     public void load(ArrayList<Room> roomList) throws IOException, HotelLiteManagerException {
-        Boolean isNewFile = !isFileExist(FILE_PATH);
-        File file = getFile(FILE_PATH);
+        Boolean isNewFile = !isFileExist(getSnapshotPath());
         if (isNewFile) {
             createNewRoomList(roomList);
-            this.save(roomList);
+            writeSnapshot(toRecords(roomList));
             return;
         }
-        Scanner scan = new Scanner(file);
-        while (scan.hasNext()) {
-            String line = scan.nextLine();
-            String[] splitData = line.split(FILE_SEPARATOR);
-            String type = splitData[0].trim();
-            RoomType roomType = getRoomTypeStr(type);
-            int id = Integer.parseInt(splitData[1].trim());
-            int level = Integer.parseInt(splitData[2].trim());
-            String status = splitData[3].trim();
-            Room room = new Room(id, level, roomType, status);
-            roomList.add(room);
+        RecordSource recordSource = openSnapshot();
+        try {
+            while (recordSource.nextRecord()) {
+                RoomType roomType = getRoomTypeStr(recordSource.nextField());
+                int id = recordSource.nextInt();
+                int level = recordSource.nextInt();
+                String status = recordSource.nextField();
+                Room room = new Room(id, level, roomType, status);
+                roomList.add(room);
+            }
+        } finally {
+            recordSource.close();
         }
     }
 
@@ -80,13 +77,38 @@ public class RoomFileManager extends FileManager {
         }
     }
 
-    public void save(ArrayList<Room> roomArrayList) throws IOException, HotelLiteManagerException {
-        File file = getFile(FILE_PATH);
-        FileWriter fileWriter = new FileWriter(FILE_PATH);
-        for (Room room : roomArrayList) {
-            fileWriter.write(room.toFileString() + System.lineSeparator());
+    private ArrayList<String> toRecords(ArrayList<Room> roomList) {
+        ArrayList<String> records = new ArrayList<>();
+        for (Room room : roomList) {
+            records.add(room.toFileString());
         }
-        fileWriter.close();
+        return records;
+    }
+
+    @Override
+    public String getFilePath() {
+        return FILE_PATH;
+    }
+
+    @Override
+    public FieldType[] getRecordSchema() {
+        return new FieldType[] {FieldType.ROOM_TYPE, FieldType.INT, FieldType.INT, FieldType.STRING};
+    }
+
+    @Override
+    public String getFieldSeparator() {
+        return " | ";
+    }
+
+    /**
+     * Rooms are identified by their room id, which is the second field of a room record.
+     *
+     * @param record A record in the same format as it is stored within the file ListFolder/room_file.txt.
+     * @return the room id of the room.
+     */
+    @Override
+    public String getRecordKey(String record) {
+        return getField(record, 1);
     }
 
 }
@@ -0,0 +1,125 @@
+package seedu.duke.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Converts the list snapshots within ListFolder between the text and binary snapshot formats. Every field is kept
+ * as it is, so converting a snapshot to the other format and back gives the same records. The snapshot in the format
+ * converted from is removed once it has been converted.
+ *
+ * <p>Run as {@code java -cp tp.jar seedu.duke.storage.SnapshotConverter binary} (or {@code text}) while the program is
+ * not running, to convert every list into the given format.
+ */
+public class SnapshotConverter {
+    private static Logger converterLogger = Logger.getLogger("converterLogger");
+
+    /**
+     * Converts the snapshot of every list into the given format, from the snapshot stored in the other format. Lists
+     * without a snapshot in the other format are left as they are.
+     *
+     * @param targetFormat The format to convert the snapshots into.
+     * @return the number of records converted.
+     * @throws IOException if any of the snapshots cannot be read or written.
+     */
+    public int convertAll(SnapshotFormat targetFormat) throws IOException {
+        int recordsConverted = 0;
+        for (FileManager fileManager : new JournalFileManager().getJournaledFileManagers().values()) {
+            if (getSnapshot(fileManager, targetFormat.getOtherFormat()).exists()) {
+                recordsConverted += convert(fileManager, targetFormat);
+            }
+        }
+        return recordsConverted;
+    }
+
+    /**
+     * Makes the snapshot in the given format the only snapshot of every list, so a deployment can switch snapshot
+     * formats without losing its lists. See {@link #convertOtherFormatSnapshot(FileManager, SnapshotFormat)}.
+     *
+     * @param selectedFormat The snapshot format selected for this deployment.
+     * @throws IOException if any of the snapshots cannot be read, written or removed.
+     */
+    public void convertOtherFormatSnapshots(SnapshotFormat selectedFormat) throws IOException {
+        for (FileManager fileManager : new JournalFileManager().getJournaledFileManagers().values()) {
+            convertOtherFormatSnapshot(fileManager, selectedFormat);
+        }
+    }
+
+    /**
+     * Makes the snapshot in the given format the only snapshot of a list. If the list has a snapshot in the other
+     * format, it is converted into the given format when the given format has no snapshot or an older one, and is then
+     * removed. Only one format ever holds the lists, so a snapshot left behind in the format used before can never be
+     * loaded in place of a newer one.
+     *
+     * @param fileManager    The file manager of the list.
+     * @param selectedFormat The snapshot format selected for this deployment.
+     * @return true if the snapshot in the other format was converted.
+     * @throws IOException if any of the snapshots cannot be read, written or removed.
+     */
+    public boolean convertOtherFormatSnapshot(FileManager fileManager, SnapshotFormat selectedFormat)
+            throws IOException {
+        File selectedSnapshot = getSnapshot(fileManager, selectedFormat);
+        File otherSnapshot = getSnapshot(fileManager, selectedFormat.getOtherFormat());
+        if (!otherSnapshot.exists()) {
+            return false;
+        }
+        if (selectedSnapshot.exists() && selectedSnapshot.lastModified() >= otherSnapshot.lastModified()) {
+            converterLogger.log(Level.WARNING, "Removing " + otherSnapshot + " as it is older than "
+                    + selectedSnapshot + ".");
+            removeSnapshot(otherSnapshot);
+            return false;
+        }
+        int recordsConverted = convert(fileManager, selectedFormat);
+        converterLogger.log(Level.INFO, "Converted " + recordsConverted + " records of "
+                + fileManager.getFilePath() + " into the " + selectedFormat + " snapshot format.");
+        return true;
+    }
+
+    /**
+     * Rewrites the snapshot of a list in the given format from its snapshot in the other format, then removes the
+     * snapshot in the other format.
+     */
+    private int convert(FileManager fileManager, SnapshotFormat targetFormat) throws IOException {
+        ArrayList<String> records = fileManager.readSnapshot(targetFormat.getOtherFormat());
+        fileManager.writeSnapshot(records, targetFormat);
+        removeSnapshot(getSnapshot(fileManager, targetFormat.getOtherFormat()));
+        return records.size();
+    }
+
+    private File getSnapshot(FileManager fileManager, SnapshotFormat snapshotFormat) {
+        return new File(snapshotFormat.toSnapshotPath(fileManager.getFilePath()));
+    }
+
+    /**
+     * Removes a snapshot together with its previous generation and any temporary file left behind by a save.
+     */
+    private void removeSnapshot(File snapshot) throws IOException {
+        Files.deleteIfExists(new File(snapshot.getPath() + SnapshotFile.PREVIOUS_GENERATION_SUFFIX).toPath());
+        Files.deleteIfExists(new File(snapshot.getPath() + SnapshotFile.TEMPORARY_FILE_SUFFIX).toPath());
+        Files.deleteIfExists(snapshot.toPath());
+    }
+
+    /**
+     * Folds the journal into the current snapshots, then converts every list into the format given as the argument.
+     */
+    public static void main(String[] args) {
+        if (args.length != 1 || !(args[0].equalsIgnoreCase("text") || args[0].equalsIgnoreCase("binary"))) {
+            System.out.println("Usage: SnapshotConverter <text|binary>");
+            return;
+        }
+        SnapshotFormat targetFormat = args[0].equalsIgnoreCase("binary") ? SnapshotFormat.BINARY : SnapshotFormat.TEXT;
+        System.setProperty(SnapshotFormat.FORMAT_PROPERTY, targetFormat.getOtherFormat().name());
+        try {
+            new JournalFileManager().compact();
+            int recordsConverted = new SnapshotConverter().convertAll(targetFormat);
+            System.out.println("Converted " + recordsConverted + " records into the " + targetFormat
+                    + " snapshot format.");
+        } catch (IOException e) {
+            System.out.println("Unable to convert the snapshots: " + e.getMessage());
+        }
+    }
+}
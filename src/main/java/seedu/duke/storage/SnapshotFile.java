@@ -0,0 +1,297 @@
+package seedu.duke.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes and verifies a list snapshot so that a crash while saving never leaves a half-written list behind.
+ *
+ * <p>A snapshot is first written to a temporary file next to it, forced to the disk and then renamed over the current
+ * snapshot in a single atomic step. The previous snapshot is kept as a ".prev" file. Every snapshot ends with a CRC32
+ * checksum of its contents: a "#crc32=" line in a text snapshot, or four bytes in a binary snapshot. A snapshot whose
+ * checksum does not match is not loaded, and the previous snapshot is loaded in its place. Every snapshot written
+ * this way has a ".prev" file, so a snapshot without one was written before checksums were added, and is the only
+ * kind of snapshot loaded without being verified.
+ */
+public class SnapshotFile {
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    public static final String PREVIOUS_GENERATION_SUFFIX = ".prev";
+    public static final String TEXT_CHECKSUM_PREFIX = "#crc32=";
+    private static final int BINARY_CHECKSUM_LENGTH = 4;
+    private static final int BINARY_VERSION_OFFSET = 4;
+    private static final int MAX_TEXT_TRAILER_LENGTH = 32;
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+    private static Logger snapshotLogger = Logger.getLogger("snapshotLogger");
+
+    /**
+     * Writes the contents of a snapshot into the stream it is given. The stream must not be closed.
+     */
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private final Path path;
+    private final SnapshotFormat snapshotFormat;
+    private long contentLength;
+
+    public SnapshotFile(String path, SnapshotFormat snapshotFormat) {
+        this.path = new File(path).toPath();
+        this.snapshotFormat = snapshotFormat;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of bytes at the start of the snapshot that hold its records, excluding the checksum.
+     * This is only known once the snapshot has been verified.
+     *
+     * @return the length of the contents of the snapshot in bytes.
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Replaces the snapshot with the contents written by the content writer, followed by their checksum. The
+     * snapshot is either fully replaced or left as it was, even if the program stops partway through. The temporary
+     * file the contents are written to is removed if they cannot be written.
+     *
+     * @param contentWriter Writes the records of the snapshot.
+     * @throws IOException if we are unable to write the new snapshot.
+     */
+    public void write(ContentWriter contentWriter) throws IOException {
+        File directory = path.toAbsolutePath().getParent().toFile();
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+        Path temporaryPath = getSibling(TEMPORARY_FILE_SUFFIX);
+        FileOutputStream fileStream = new FileOutputStream(temporaryPath.toFile());
+        boolean isWritten = false;
+        try {
+            BufferedOutputStream bufferedStream = new BufferedOutputStream(fileStream);
+            CRC32 checksum = new CRC32();
+            CheckedOutputStream checkedStream = new CheckedOutputStream(bufferedStream, checksum);
+            contentWriter.write(checkedStream);
+            checkedStream.flush();
+            writeChecksum(bufferedStream, checksum.getValue());
+            bufferedStream.flush();
+            fileStream.getFD().sync();
+            isWritten = true;
+        } finally {
+            fileStream.close();
+            if (!isWritten) {
+                Files.deleteIfExists(temporaryPath);
+            }
+        }
+        keepPreviousGeneration(temporaryPath);
+        moveIntoPlace(temporaryPath);
+    }
+
+    private void writeChecksum(OutputStream outputStream, long checksum) throws IOException {
+        if (snapshotFormat == SnapshotFormat.BINARY) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                outputStream.write((int) (checksum >>> shift));
+            }
+            return;
+        }
+        String trailer = TEXT_CHECKSUM_PREFIX + String.format("%08x", checksum) + System.lineSeparator();
+        outputStream.write(trailer.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Keeps the current snapshot as the previous generation. A hard link is used where possible so that the current
+     * snapshot does not have to be copied, and the current snapshot stays in place until it is replaced. The first
+     * snapshot written is copied as its own previous generation instead, as there is no current snapshot to keep.
+     */
+    private void keepPreviousGeneration(Path temporaryPath) throws IOException {
+        Path previousPath = getSibling(PREVIOUS_GENERATION_SUFFIX);
+        if (!Files.exists(path)) {
+            Files.copy(temporaryPath, previousPath, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+        Files.deleteIfExists(previousPath);
+        try {
+            Files.createLink(previousPath, path);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(path, previousPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void moveIntoPlace(Path temporaryPath) throws IOException {
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            snapshotLogger.log(Level.WARNING, "Atomic rename is not supported, replacing " + path + " directly.");
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory();
+    }
+
+    /**
+     * Forces the rename of the snapshot to the disk. Directories cannot be opened on every platform, in which case the
+     * rename is left to be written by the operating system.
+     */
+    private void syncDirectory() {
+        Path directory = path.toAbsolutePath().getParent();
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException e) {
+            snapshotLogger.log(Level.FINE, "Unable to force the directory " + directory + " to the disk.");
+        }
+    }
+
+    /**
+     * Returns the generation of the snapshot that should be loaded: the current snapshot if its checksum matches,
+     * otherwise the previous generation if its checksum matches.
+     *
+     * @return the verified snapshot, with its content length set.
+     * @throws IOException if neither the current nor the previous generation of the snapshot can be verified.
+     */
+    public SnapshotFile selectReadableGeneration() throws IOException {
+        try {
+            verify();
+            return this;
+        } catch (IOException e) {
+            SnapshotFile previousGeneration = new SnapshotFile(getSibling(PREVIOUS_GENERATION_SUFFIX).toString(),
+                    snapshotFormat);
+            if (!Files.exists(previousGeneration.path)) {
+                throw e;
+            }
+            try {
+                previousGeneration.verify();
+            } catch (CorruptedSnapshotException previousGenerationError) {
+                throw new CorruptedSnapshotException(path, e.getMessage() + " "
+                        + previousGenerationError.getMessage());
+            }
+            snapshotLogger.log(Level.WARNING, e.getMessage() + " Loading the previous generation "
+                    + previousGeneration.path + " instead.");
+            return previousGeneration;
+        }
+    }
+
+    /**
+     * Checks the checksum at the end of the snapshot against its contents. A snapshot without a checksum is only
+     * accepted if it has no previous generation, as only a snapshot written before checksums were added has none.
+     *
+     * @throws CorruptedSnapshotException if the snapshot has lost its checksum or its checksum does not match its
+     *                                     contents.
+     * @throws IOException                 if the snapshot cannot be read.
+     */
+    public void verify() throws IOException {
+        long fileLength = Files.size(path);
+        long expectedChecksum;
+        if (snapshotFormat == SnapshotFormat.BINARY) {
+            if (fileLength <= BINARY_VERSION_OFFSET || readBinaryVersion() < 2) {
+                acceptWithoutChecksum(fileLength);
+                return;
+            }
+            if (fileLength < BINARY_CHECKSUM_LENGTH + BINARY_VERSION_OFFSET + 1) {
+                throw new CorruptedSnapshotException(path, "Snapshot " + path + " is truncated.");
+            }
+            contentLength = fileLength - BINARY_CHECKSUM_LENGTH;
+            expectedChecksum = readBinaryChecksum();
+        } else {
+            String trailer = readTextTrailer(fileLength);
+            if (trailer == null) {
+                acceptWithoutChecksum(fileLength);
+                return;
+            }
+            try {
+                expectedChecksum = Long.parseLong(trailer.substring(TEXT_CHECKSUM_PREFIX.length()).trim(), 16);
+            } catch (NumberFormatException e) {
+                throw new CorruptedSnapshotException(path, "Snapshot " + path + " has an unreadable checksum.");
+            }
+        }
+        if (computeChecksum(contentLength) != expectedChecksum) {
+            throw new CorruptedSnapshotException(path, "Snapshot " + path + " does not match its checksum.");
+        }
+    }
+
+    private void acceptWithoutChecksum(long fileLength) throws IOException {
+        if (Files.exists(getSibling(PREVIOUS_GENERATION_SUFFIX))) {
+            throw new CorruptedSnapshotException(path, "Snapshot " + path + " has lost its checksum.");
+        }
+        contentLength = fileLength;
+    }
+
+    private int readBinaryVersion() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            file.seek(BINARY_VERSION_OFFSET);
+            return file.read();
+        }
+    }
+
+    private long readBinaryChecksum() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            file.seek(contentLength);
+            return file.readInt() & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * Returns the checksum line at the end of a text snapshot and sets the content length to the position the line
+     * starts at, or returns null if the last line of the snapshot is not a checksum.
+     */
+    private String readTextTrailer(long fileLength) throws IOException {
+        int tailLength = (int) Math.min(fileLength, MAX_TEXT_TRAILER_LENGTH);
+        byte[] tail = new byte[tailLength];
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            file.seek(fileLength - tailLength);
+            file.readFully(tail);
+        }
+        int lineEnd = tailLength;
+        while (lineEnd > 0 && (tail[lineEnd - 1] == '\n' || tail[lineEnd - 1] == '\r')) {
+            lineEnd--;
+        }
+        int lineStart = lineEnd;
+        while (lineStart > 0 && tail[lineStart - 1] != '\n') {
+            lineStart--;
+        }
+        String lastLine = new String(tail, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+        boolean isWholeLine = lineStart > 0 || tailLength == fileLength;
+        if (!isWholeLine || !lastLine.startsWith(TEXT_CHECKSUM_PREFIX)) {
+            return null;
+        }
+        contentLength = fileLength - tailLength + lineStart;
+        return lastLine;
+    }
+
+    private long computeChecksum(long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        long remaining = length;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            while (remaining > 0) {
+                int bytesRead = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (bytesRead < 0) {
+                    break;
+                }
+                checksum.update(buffer, 0, bytesRead);
+                remaining -= bytesRead;
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private Path getSibling(String suffix) {
+        return path.resolveSibling(path.getFileName() + suffix);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.duke.storage;
+
+/**
+ * Represents the format that the list files within ListFolder are stored in. The format is selected per deployment
+ * through the hotellite.snapshot.format system property, and defaults to text.
+ */
+public enum SnapshotFormat {
+    TEXT(".txt"),
+    BINARY(".bin");
+
+    public static final String FORMAT_PROPERTY = "hotellite.snapshot.format";
+
+    private final String fileExtension;
+
+    SnapshotFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the path of the snapshot in this format, given the path of the list's text file.
+     *
+     * @param textFilePath The path of the list's text file.
+     * @return the path of the list's snapshot in this format.
+     */
+    public String toSnapshotPath(String textFilePath) {
+        if (this == TEXT) {
+            return textFilePath;
+        }
+        String pathWithoutExtension = textFilePath.endsWith(TEXT.fileExtension)
+                ? textFilePath.substring(0, textFilePath.length() - TEXT.fileExtension.length())
+                : textFilePath;
+        return pathWithoutExtension + fileExtension;
+    }
+
+    /**
+     * Returns the other snapshot format.
+     */
+    public SnapshotFormat getOtherFormat() {
+        return this == TEXT ? BINARY : TEXT;
+    }
+
+    /**
+     * Returns the snapshot format selected through the hotellite.snapshot.format system property.
+     *
+     * @return BINARY if the property is set to "binary". Otherwise, TEXT.
+     */
+    public static SnapshotFormat getSelectedFormat() {
+        String selectedFormat = System.getProperty(FORMAT_PROPERTY, "text");
+        return selectedFormat.trim().equalsIgnoreCase("binary") ? BINARY : TEXT;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.duke;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import seedu.duke.command.Command;
 import seedu.duke.command.housekeepercommands.AddHousekeeperPerformanceCommand;
@@ -12,7 +13,9 @@ import seedu.duke.exceptions.EmptyHousekeeperPerformanceRatingException;
 import seedu.duke.exceptions.InvalidHousekeeperPerformanceNameException;
 import seedu.duke.exceptions.InvalidCommandException;
 import seedu.duke.exceptions.DuplicateCommandException;
+import seedu.duke.housekeeperlists.Housekeeper;
 import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
 
 /**
  * Class to test "add performance" command for a housekeeper.
@@ -66,4 +69,22 @@ public class AddHousekeeperPerformanceCommandTest {
         assertThrows(DuplicateCommandException.class, ()
             -> new CommandParser().parse("add performance add performance Steve / 2"));
     }
+
+    @Test
+    public void execute_nameInDifferentCase_ratingsKeptUnderRecordedName() throws Exception {
+        ListContainer listContainer = new ListContainer();
+        listContainer.getHousekeeperList().addHousekeeperInList(new Housekeeper("Susan", 30));
+        CommandParser parser = new CommandParser();
+        parser.parse("add performance susan / 4").execute(listContainer, new Ui());
+        parser.parse("add performance SUSAN / 2").execute(listContainer, new Ui());
+        HousekeeperPerformanceList housekeeperPerformanceList = listContainer.getHousekeeperPerformanceList();
+        assertFalse(housekeeperPerformanceList.isHousekeeperInPerformanceList("susan"));
+        HousekeeperPerformance recordedPerformance = null;
+        for (HousekeeperPerformance performance : housekeeperPerformanceList.getHousekeeperPerformanceList()) {
+            if (performance.getName().equals("Susan")) {
+                recordedPerformance = performance;
+            }
+        }
+        assertEquals(2, recordedPerformance.getRatingCount());
+    }
 }
@@ -12,7 +12,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AgeIncreaseTest {
     private ListContainer listContainer;
@@ -48,6 +50,23 @@ public class AgeIncreaseTest {
         assertEquals("Man", exceedAgeLimit.get(INDEX_OF_MAN_EXCEEDING_AGE).getName());
     }
 
+    @Test
+    public void deleteOverAgeHousekeeper_manyHousekeepers_remainingKeptInOrderAndIndexed()
+            throws HotelLiteManagerException {
+        HousekeeperList housekeeperList = new HousekeeperList();
+        for (int i = 0; i < 20000; i++) {
+            housekeeperList.addHousekeeperInList(new Housekeeper("Housekeeper" + i, i % 2 == 0 ? 60 : 30));
+        }
+        housekeeperList.increaseAllAgeByOne();
+        housekeeperList.deleteOverAgeHousekeeper();
+        assertEquals(10000, housekeeperList.getTotalHousekeeper());
+        assertEquals("Housekeeper1", housekeeperList.getHousekeeper(0).getName());
+        assertEquals("Housekeeper19999", housekeeperList.getHousekeeper(9999).getName());
+        assertFalse(housekeeperList.hasNameAdded("housekeeper0"));
+        assertTrue(housekeeperList.hasNameAdded("HOUSEKEEPER1"));
+        assertEquals(31, housekeeperList.getHousekeeperByName("housekeeper3").getAge());
+    }
+
     @Test
     public void extraWordIncreaseAgeCommand_exceptionThrown() {
         assertThrows(InvalidNewYearException.class, () ->
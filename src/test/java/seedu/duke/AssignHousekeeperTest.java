@@ -3,13 +3,18 @@ package seedu.duke;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import seedu.duke.command.Command;
 import seedu.duke.command.assigncommand.AssignHousekeeperCommand;
 import seedu.duke.command.housekeepercommands.AddHousekeeperCommand;
 import seedu.duke.command.roomcommand.CheckInCommand;
+import seedu.duke.housekeeperlists.Housekeeper;
 import seedu.duke.roomlists.Room;
 import seedu.duke.roomlists.RoomList;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
 
 public class AssignHousekeeperTest {
 
@@ -38,4 +43,21 @@ public class AssignHousekeeperTest {
         assertEquals("301", assignHousekeeperCommand.getroomID());
         assertEquals("susan", assignHousekeeperCommand.getName());
     }
+
+    @Test
+    public void viewAssignments_nameInDifferentCase_roomsOfRecordedHousekeeperShown() throws Exception {
+        ListContainer listContainer = new ListContainer();
+        listContainer.getHousekeeperList().addHousekeeperInList(new Housekeeper("Susan", 30));
+        listContainer.getAssignmentMap().addAssignment("Susan", 301);
+        Command command = new CommandParser().parse("view assignments SUSAN");
+        PrintStream standardOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            command.execute(listContainer, new Ui());
+        } finally {
+            System.setOut(standardOut);
+        }
+        assertTrue(output.toString().startsWith("Susan is assigned to 1 room(s)."));
+    }
 }
@@ -0,0 +1,45 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AssignmentMapTest {
+
+    @Test
+    public void unassignAll_housekeeperWithManyRooms_onlyTheirRoomsUnassigned() {
+        HashMap<Integer, String> storedAssignments = new HashMap<>();
+        for (int roomId = 1; roomId <= 5000; roomId++) {
+            storedAssignments.put(roomId, roomId % 2 == 0 ? "sally" : "james");
+        }
+        AssignmentMap assignmentMap = new AssignmentMap(storedAssignments);
+        assertEquals(2500, assignmentMap.roomsOf("sally").size());
+        Set<Integer> unassignedRooms = assignmentMap.unassignAll("sally");
+        assertEquals(2500, unassignedRooms.size());
+        assertTrue(assignmentMap.roomsOf("sally").isEmpty());
+        assertEquals("NA", assignmentMap.getHouseKeeperNameByRoom(2));
+        assertEquals("james", assignmentMap.getHouseKeeperNameByRoom(3));
+        assertEquals(2500, assignmentMap.getAssignments().size());
+        assertEquals(2500, assignmentMap.getJournalBuffer().getPendingEntries().size());
+        assertTrue(assignmentMap.unassignAll("sally").isEmpty());
+    }
+
+    @Test
+    public void addAssignment_roomReassigned_roomMovedToNewHousekeeper() {
+        AssignmentMap assignmentMap = new AssignmentMap(new HashMap<>());
+        assignmentMap.addAssignment("sally", 301);
+        assignmentMap.addAssignment("sally", 101);
+        assignmentMap.addAssignment("james", 301);
+        assertEquals(1, assignmentMap.roomsOf("sally").size());
+        assertTrue(assignmentMap.roomsOf("sally").contains(101));
+        assertTrue(assignmentMap.roomsOf("james").contains(301));
+        assignmentMap.unassignAll("sally");
+        assertEquals("james", assignmentMap.getHouseKeeperNameByRoom(301));
+        assertFalse(assignmentMap.getAssignments().containsKey(101));
+    }
+}
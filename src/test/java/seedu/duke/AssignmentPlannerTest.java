@@ -0,0 +1,83 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.roomlists.Room;
+import seedu.duke.roomlists.RoomList;
+import seedu.duke.roomlists.RoomType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AssignmentPlannerTest {
+
+    private ArrayList<Room> createRooms(int numberOfLevels, int roomsPerLevel) {
+        ArrayList<Room> rooms = new ArrayList<>();
+        for (int level = numberOfLevels; level >= 1; level--) {
+            for (int roomNumber = 1; roomNumber <= roomsPerLevel; roomNumber++) {
+                rooms.add(new Room(level * 1000 + roomNumber, level, RoomType.Single));
+            }
+        }
+        return rooms;
+    }
+
+    private ArrayList<String> createHousekeeperNames(int numberOfHousekeepers) {
+        ArrayList<String> names = new ArrayList<>();
+        for (int i = 0; i < numberOfHousekeepers; i++) {
+            names.add("housekeeper" + i);
+        }
+        return names;
+    }
+
+    @Test
+    public void plan_unevenNumberOfRooms_highestRatedGivenLongerRunsOnAdjacentLevels() {
+        HashMap<String, Double> ratings = new HashMap<>();
+        ratings.put("housekeeper2", 5.0);
+        LinkedHashMap<String, List<Room>> plan = new AssignmentPlanner().plan(createRooms(3, 3),
+                createHousekeeperNames(4), ratings);
+        assertEquals(4, plan.size());
+        List<Room> roomsOfBestRated = plan.get("housekeeper2");
+        assertEquals(3, roomsOfBestRated.size());
+        assertEquals(1001, roomsOfBestRated.get(0).getRoomId());
+        assertEquals(1003, roomsOfBestRated.get(2).getRoomId());
+        assertEquals(2, plan.get("housekeeper0").size());
+        assertEquals(2001, plan.get("housekeeper0").get(0).getRoomId());
+        assertEquals(3003, plan.get("housekeeper3").get(1).getRoomId());
+    }
+
+    @Test
+    public void plan_tenThousandOccupiedRoomsAndFiveHundredHousekeepers_balancedOnAdjacentLevels() {
+        ArrayList<Room> rooms = createRooms(50, 200);
+        RoomList roomList = new RoomList(rooms);
+        for (Room room : rooms) {
+            roomList.checkInRoom(room);
+        }
+        LinkedHashMap<String, List<Room>> plan = new AssignmentPlanner().plan(roomList.getOccupiedRooms(),
+                createHousekeeperNames(500), new HashMap<>());
+        assertEquals(500, plan.size());
+        for (List<Room> plannedRooms : plan.values()) {
+            assertEquals(20, plannedRooms.size());
+            int levelsCovered = plannedRooms.get(plannedRooms.size() - 1).getLevel() - plannedRooms.get(0).getLevel();
+            assertTrue(levelsCovered <= 1);
+        }
+    }
+
+    @Test
+    public void getOccupiedRooms_someRoomsCheckedIn_onlyOccupiedRoomsReturned() {
+        ArrayList<Room> rooms = createRooms(2, 5);
+        RoomList roomList = new RoomList(rooms);
+        roomList.checkInRoom(roomList.getRoomById(1003));
+        roomList.checkInRoom(roomList.getRoomById(2001));
+        roomList.checkInRoom(roomList.getRoomById(2005));
+        roomList.checkOutRoom(roomList.getRoomById(2005));
+        List<Room> occupiedRooms = roomList.getOccupiedRooms();
+        assertEquals(2, occupiedRooms.size());
+        assertEquals(2001, occupiedRooms.get(0).getRoomId());
+        assertEquals(1003, occupiedRooms.get(1).getRoomId());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.storage.BinaryRecordReader;
+import seedu.duke.storage.BinaryRecordWriter;
+import seedu.duke.storage.FieldType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySnapshotTest {
+    private static final FieldType[] ROOM_SCHEMA = {FieldType.ROOM_TYPE, FieldType.INT, FieldType.INT,
+        FieldType.STRING};
+    private static final FieldType[] EVENT_SCHEMA = {FieldType.STRING, FieldType.DATE};
+
+    private Path writeSnapshot(FieldType[] schema, List<String> records) throws IOException {
+        Path file = Files.createTempFile("binary_snapshot", ".bin");
+        file.toFile().deleteOnExit();
+        OutputStream outputStream = Files.newOutputStream(file);
+        BinaryRecordWriter binaryRecordWriter = new BinaryRecordWriter(outputStream, schema, records.size());
+        for (String record : records) {
+            binaryRecordWriter.writeRecord(record);
+        }
+        binaryRecordWriter.flush();
+        outputStream.close();
+        return file;
+    }
+
+    @Test
+    public void getRecord_roomRecords_sameRecordsAsTextFile() throws IOException {
+        List<String> records = Arrays.asList("Single | 101 | 1 | Vacant", "Twin | 402 | 4 | Occupied");
+        Path file = writeSnapshot(ROOM_SCHEMA, records);
+        BinaryRecordReader binaryRecordReader = new BinaryRecordReader(file, ROOM_SCHEMA, " | ");
+        assertEquals(2, binaryRecordReader.getRecordCount());
+        List<String> readRecords = new ArrayList<>();
+        while (binaryRecordReader.nextRecord()) {
+            readRecords.add(binaryRecordReader.getRecord());
+        }
+        assertEquals(records, readRecords);
+    }
+
+    @Test
+    public void nextField_eventRecords_fieldsDecoded() throws IOException {
+        Path file = writeSnapshot(EVENT_SCHEMA, Arrays.asList("Wedding dinner | 2022-05-01", "Gala | 1969-12-31"));
+        BinaryRecordReader binaryRecordReader = new BinaryRecordReader(file, EVENT_SCHEMA, " | ");
+        assertTrue(binaryRecordReader.nextRecord());
+        assertTrue(binaryRecordReader.nextRecord());
+        assertEquals("Gala", binaryRecordReader.nextField());
+        assertEquals("1969-12-31", binaryRecordReader.nextField());
+        assertFalse(binaryRecordReader.hasNextField());
+        assertFalse(binaryRecordReader.nextRecord());
+    }
+
+    @Test
+    public void binaryRecordReader_differentSchema_exceptionThrown() throws IOException {
+        Path file = writeSnapshot(EVENT_SCHEMA, Arrays.asList("Gala | 2022-05-01"));
+        assertThrows(IOException.class, () -> new BinaryRecordReader(file, ROOM_SCHEMA, " | "));
+    }
+
+    @Test
+    public void writeRecord_invalidRoomType_exceptionThrown() throws IOException {
+        BinaryRecordWriter binaryRecordWriter = new BinaryRecordWriter(new ByteArrayOutputStream(), ROOM_SCHEMA, 1);
+        assertThrows(IOException.class, () -> binaryRecordWriter.writeRecord("Suite | 501 | 5 | Vacant"));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.Command;
+import seedu.duke.command.customercommands.ViewSatisfactionsCommand;
+import seedu.duke.command.eventcommands.ViewEventsBetweenDatesCommand;
+import seedu.duke.command.eventcommands.ViewEventsCommand;
+import seedu.duke.command.eventcommands.ViewUpcomingEventsCommand;
+import seedu.duke.command.housekeepercommands.ViewHousekeeperListCommand;
+import seedu.duke.exceptions.InvalidCommandException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandParserTest {
+    private static final String[] COMMAND_MIX = {
+        "check in 101", "check out 101", "check room 101", "check level 1", "check category single",
+        "check all room", "check vacancy summary", "reserve 301 / 2026-12-27 / 2026-12-29",
+        "find available single / 2026-12-27 / 2026-12-29", "cancel reservation 301 / 2026-12-27",
+        "add satisfaction jonathan / 5", "view satisfactions", "view average satisfaction",
+        "add item towel / 20", "update item pax towel / 15", "update item name towel / bath towel",
+        "search item towel", "delete item towel", "view all items", "view items with pax at most 5",
+        "add housekeeper susan / 30", "availability susan / 1,3", "get available on 1", "add performance susan / 4",
+        "view top performers 3", "assign susan / 301", "auto assign", "view assignments susan",
+        "add event fire drill / 2022-01-31", "add event inspection / 2022-02-01 / weekly for 4", "view events",
+        "view events from 2022-01-01 to 2022-03-01", "view events next 7 days", "delete event 1",
+        "view recorded housekeepers", "help"
+    };
+
+    @Test
+    public void parse_longerKeywordSharingWords_longestKeywordChosen() throws Exception {
+        CommandParser commandParser = new CommandParser();
+        assertTrue(commandParser.parse("view events") instanceof ViewEventsCommand);
+        assertTrue(commandParser.parse("View Events From 2022-01-01 to 2022-03-01")
+                instanceof ViewEventsBetweenDatesCommand);
+        assertTrue(commandParser.parse("view events next 7 days") instanceof ViewUpcomingEventsCommand);
+        assertTrue(commandParser.parse("view satisfactions  ") instanceof ViewSatisfactionsCommand);
+    }
+
+    @Test
+    public void parse_keywordNotEndingOnWholeWord_exceptionThrown() {
+        CommandParser commandParser = new CommandParser();
+        assertThrows(InvalidCommandException.class, () -> commandParser.parse("view satisfactionsx"));
+        assertThrows(InvalidCommandException.class, () -> commandParser.parse("view recorded housekeepersx"));
+        assertThrows(InvalidCommandException.class, () -> commandParser.parse("view  satisfactions"));
+        assertThrows(InvalidCommandException.class, () -> commandParser.parse("check all room now"));
+    }
+
+    @Test
+    public void parse_keywordInsideArguments_notMatched() throws Exception {
+        assertThrows(InvalidCommandException.class, () -> new CommandParser()
+                .parse("view items view recorded housekeepers"));
+        assertTrue(new CommandParser().parse("View Recorded Housekeepers") instanceof ViewHousekeeperListCommand);
+    }
+
+    @Test
+    public void register_sameKeywordTwice_exceptionThrown() {
+        CommandRegistry commands = new CommandRegistry();
+        commands.registerWithoutArguments("auto assign", ExitCommand::new);
+        assertThrows(IllegalArgumentException.class, () -> commands.register("auto assign", ViewEventsCommand::new));
+    }
+
+    @Test
+    public void parse_realisticCommandMix_everyCommandParsed() throws Exception {
+        CommandParser commandParser = new CommandParser();
+        for (String userInput : COMMAND_MIX) {
+            Command command = commandParser.parse(userInput);
+            assertNotNull(command);
+            assertFalse(command.isExit());
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class DeleteHousekeeperTest {
@@ -45,6 +46,17 @@ public class DeleteHousekeeperTest {
         assertEquals(2, housekeeperList.getTotalHousekeeper());
     }
 
+    @Test
+    public void deleteHousekeeper_nameInDifferentCase_assignedRoomsUnassigned() throws Exception {
+        AssignmentMap assignmentMap = listContainer.getAssignmentMap();
+        assignmentMap.addAssignment("Sally", 301);
+        Command command = new CommandParser().parse("delete housekeeper SALLY");
+        command.execute(listContainer, ui);
+        assertEquals(2, listContainer.getHousekeeperList().getTotalHousekeeper());
+        assertTrue(assignmentMap.roomsOf("Sally").isEmpty());
+        assertEquals("NA", assignmentMap.getHouseKeeperNameByRoom(301));
+    }
+
     @Test
     public void deleteHousekeeperNameDoesNotExist_exceptionThrown() throws HotelLiteManagerException {
         DeleteHousekeeperCommand deleteHousekeeperCommand =
@@ -0,0 +1,133 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.command.Command;
+import seedu.duke.command.customercommands.ViewSatisfactionsCommand;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.itemlists.Item;
+import seedu.duke.itemlists.ItemList;
+import seedu.duke.storage.JournalBuffer;
+import seedu.duke.storage.JournalFileManager;
+import seedu.duke.storage.JournalWriter;
+import seedu.duke.storage.PersistenceManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirtyTrackingTest {
+    private static final String[] COMMANDS_IN_ORDER = {
+        "add item declared towel / 3", "update item pax declared towel / 4", "delete item declared towel",
+        "add housekeeper declaredkeeper / 30", "availability declaredkeeper / 1,3",
+        "add performance declaredkeeper / 4", "view top performers 3", "assign declaredkeeper / 301",
+        "view assignments declaredkeeper",
+        "delete housekeeper declaredkeeper", "add satisfaction declared / 5", "view satisfactions", "check in 301",
+        "check all room", "check out 301", "reserve 302 / 2030-01-01 / 2030-01-02",
+        "find available single / 2030-01-01 / 2030-01-02", "cancel reservation 302 / 2030-01-01",
+        "add event declared drill / 2030-01-01", "view events next 3 days", "help"
+    };
+    private ListContainer listContainer;
+    private Ui ui;
+
+    @BeforeEach
+    public void setUp() throws HotelLiteManagerException, IOException {
+        listContainer = new ListContainer();
+        ui = new Ui();
+    }
+
+    @Test
+    public void listContainer_justLoaded_noListIsDirty() {
+        assertFalse(listContainer.getRoomList().getJournalBuffer().isDirty());
+        assertFalse(listContainer.getItemList().getJournalBuffer().isDirty());
+        assertFalse(listContainer.getHousekeeperList().getJournalBuffer().isDirty());
+        assertFalse(listContainer.getAssignmentMap().getJournalBuffer().isDirty());
+    }
+
+    @Test
+    public void checkAllRoomCommand_readOnlyCommand_roomListNotDirty() throws HotelLiteManagerException, IOException {
+        CommandParser commandParser = new CommandParser();
+        Command command = commandParser.parse("check all room");
+        command.execute(listContainer, ui);
+        assertFalse(listContainer.getRoomList().getJournalBuffer().isDirty());
+    }
+
+    @Test
+    public void addItemToList_newItem_onlyItemListDirty() throws HotelLiteManagerException {
+        ItemList itemList = listContainer.getItemList();
+        long modificationCountBeforeAdding = itemList.getJournalBuffer().getModificationCount();
+        itemList.addItemToList(new Item("Dirty Tracking Towel", 3));
+        assertTrue(itemList.getJournalBuffer().isDirty());
+        assertEquals(modificationCountBeforeAdding + 1, itemList.getJournalBuffer().getModificationCount());
+        assertFalse(listContainer.getRoomList().getJournalBuffer().isDirty());
+        itemList.getJournalBuffer().clear();
+        assertFalse(itemList.getJournalBuffer().isDirty());
+    }
+
+    @Test
+    public void execute_mixOfCommands_onlyDeclaredListsModified() throws HotelLiteManagerException, IOException {
+        CommandParser commandParser = new CommandParser();
+        for (String userInput : COMMANDS_IN_ORDER) {
+            Command command = commandParser.parse(userInput);
+            try {
+                command.execute(listContainer, ui);
+            } catch (HotelLiteManagerException e) {
+                // The lists a command modifies before failing must still have been declared.
+            }
+            for (ListType listType : ListType.values()) {
+                JournalBuffer journalBuffer = listType.getJournalBuffer(listContainer);
+                assertTrue(!journalBuffer.isDirty() || command.getModifiedLists().contains(listType),
+                        userInput + " modified " + listType);
+                journalBuffer.clear();
+            }
+        }
+    }
+
+    @Test
+    public void getModifiedLists_declaredOrUndeclaredCommands_listsReturned() throws HotelLiteManagerException {
+        Command undeclaredCommand = new Command() {
+            @Override
+            public void execute(ListContainer listContainer, Ui ui) {
+            }
+        };
+        assertEquals(EnumSet.allOf(ListType.class), undeclaredCommand.getModifiedLists());
+        assertFalse(undeclaredCommand.isReadOnly());
+        assertTrue(new ViewSatisfactionsCommand().isReadOnly());
+        Command checkInCommand = new CommandParser().parse("check in 301");
+        assertEquals(EnumSet.of(ListType.ROOMS), checkInCommand.getModifiedLists());
+        assertEquals(EnumSet.of(ListType.ROOMS, ListType.ASSIGNMENTS), checkInCommand.getReadLists());
+    }
+
+    @Test
+    public void saveChangedLists_someListsDeclared_onlyDeclaredListsJournaled()
+            throws HotelLiteManagerException, IOException {
+        List<String> journaledLines = new ArrayList<>();
+        JournalFileManager recordingJournalFileManager = new JournalFileManager() {
+            @Override
+            public long append(List<String> journalLines) {
+                synchronized (journaledLines) {
+                    journaledLines.addAll(journalLines);
+                }
+                return JournalFileManager.getEncodedLength(journalLines);
+            }
+        };
+        PersistenceManager persistenceManager = new PersistenceManager(new JournalWriter(recordingJournalFileManager,
+                0));
+        listContainer.getItemList().addItemToList(new Item("Declared Towel", 3));
+        assertThrows(AssertionError.class, () -> persistenceManager.saveChangedLists(listContainer,
+                EnumSet.of(ListType.ROOMS), "test"));
+        assertTrue(listContainer.getItemList().getJournalBuffer().isDirty());
+        assertTrue(persistenceManager.saveChangedLists(listContainer, EnumSet.of(ListType.ITEMS), "test") > 0);
+        assertEquals(0, persistenceManager.saveChangedLists(listContainer, EnumSet.of(ListType.ROOMS), "test"));
+        persistenceManager.close();
+        assertEquals(1, journaledLines.size());
+        assertFalse(listContainer.getItemList().getJournalBuffer().isDirty());
+    }
+}
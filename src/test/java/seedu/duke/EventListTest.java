@@ -0,0 +1,132 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.eventcommands.ViewEventsBetweenDatesCommand;
+import seedu.duke.command.eventcommands.ViewUpcomingEventsCommand;
+import seedu.duke.eventlists.Event;
+import seedu.duke.eventlists.EventList;
+import seedu.duke.eventlists.EventOccurrence;
+import seedu.duke.eventlists.RecurrenceRule;
+import seedu.duke.exceptions.EventDoesNotExist;
+import seedu.duke.exceptions.EventExistsException;
+import seedu.duke.exceptions.InvalidRecurrenceException;
+import seedu.duke.exceptions.InvalidViewEventsBetweenDatesException;
+import seedu.duke.exceptions.InvalidViewUpcomingEventsException;
+import seedu.duke.storage.EventListFileManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EventListTest {
+
+    @Test
+    public void add_eventsOutOfOrder_listedByDateAndRangesFound() throws Exception {
+        EventList eventList = new EventList(new ArrayList<>());
+        eventList.add("conference", "2022-12-20");
+        eventList.add("banquet", "2022-12-10");
+        eventList.add("wedding", "2022-12-20");
+        eventList.add("gala", "2023-01-05");
+        assertThrows(EventExistsException.class, () -> eventList.add("wedding", "2022-12-20"));
+
+        ArrayList<Event> events = eventList.getEventList();
+        assertEquals("banquet", events.get(0).getDescription());
+        assertEquals("conference", events.get(1).getDescription());
+        assertEquals("wedding", events.get(2).getDescription());
+        assertEquals("gala", events.get(3).getDescription());
+
+        assertEquals(3, eventList.getOccurrencesBetween(LocalDate.parse("2022-12-10"),
+                LocalDate.parse("2022-12-20")).count());
+        assertEquals(2, eventList.getOccurrencesWithinDays(LocalDate.parse("2022-12-20"), 16).count());
+        assertEquals(3, eventList.getOccurrencesWithinDays(LocalDate.parse("2022-12-20"), 17).count());
+
+        eventList.delete("2");
+        assertEquals(3, eventList.getSize());
+        assertEquals("wedding", eventList.getEventList().get(1).getDescription());
+        assertEquals(5, eventList.getJournalBuffer().getPendingEntries().size());
+    }
+
+    @Test
+    public void getOccurrencesBetween_repeatingEvents_occurrencesMergedInDateOrder() throws Exception {
+        EventList eventList = new EventList(new ArrayList<>());
+        eventList.add("pool maintenance", "2022-12-05", RecurrenceRule.parse("weekly until 2023-06-30"));
+        eventList.add("fire drill", "2022-01-31", RecurrenceRule.parse("monthly for 12 times"));
+        eventList.add("banquet", "2023-02-27");
+        assertThrows(InvalidRecurrenceException.class, () ->
+                eventList.add("audit", "2023-01-01", RecurrenceRule.parse("daily until 2022-12-31")));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("yearly for 2 times"));
+
+        List<String> occurrences = eventList.getOccurrencesBetween(LocalDate.parse("2023-02-20"),
+                LocalDate.parse("2023-03-06")).map(occurrence -> occurrence.getDate() + " "
+                + occurrence.getEvent().getDescription()).collect(Collectors.toList());
+        assertEquals(Arrays.asList("2023-02-20 pool maintenance", "2023-02-27 banquet",
+                "2023-02-27 pool maintenance", "2023-03-06 pool maintenance"), occurrences);
+        List<LocalDate> fireDrills = eventList.getOccurrencesBetween(LocalDate.parse("2022-02-01"),
+                LocalDate.parse("2030-01-01")).filter(occurrence -> occurrence.getEvent().getDescription()
+                .equals("fire drill")).map(EventOccurrence::getDate).collect(Collectors.toList());
+        assertEquals(11, fireDrills.size());
+        assertEquals(LocalDate.parse("2022-02-28"), fireDrills.get(0));
+        assertEquals(LocalDate.parse("2022-03-31"), fireDrills.get(1));
+        assertEquals(LocalDate.parse("2022-12-31"), fireDrills.get(10));
+
+        assertEquals(3, eventList.getSize());
+        assertEquals("fire drill | 2022-01-31 | monthly for 12 | 2 | ", eventList.getEventList().get(0).toFileString());
+        assertEquals(LocalDate.parse("2023-06-26"), eventList.getEventList().get(1).getLastDate());
+    }
+
+    @Test
+    public void delete_staleId_neverDeletesAnotherEvent() throws Exception {
+        ArrayList<Event> loadedEvents = new ArrayList<>();
+        loadedEvents.add(new Event(3, "banquet", LocalDate.parse("2022-12-10")));
+        EventList eventList = new EventList(loadedEvents, 6);
+        eventList.add("gala", "2022-12-01");
+        eventList.add("expo", "2022-12-20");
+        assertEquals(6, eventList.getEventList().get(0).getId());
+        assertEquals(7, eventList.getEvent(7).getId());
+
+        eventList.delete("3");
+        assertThrows(EventDoesNotExist.class, () -> eventList.delete("3"));
+        assertThrows(EventDoesNotExist.class, () -> eventList.delete("1"));
+        eventList.delete("7");
+        eventList.add("expo", "2022-12-20");
+        assertEquals(8, eventList.getEventList().get(1).getId());
+        assertEquals(2, eventList.getSize());
+        assertEquals("expo | 2022-12-20 |  | 7 | deleted",
+                eventList.getJournalBuffer().getPendingEntries().get(3).getRecord());
+    }
+
+    @Test
+    public void compactRecords_tombstones_onlyLatestTombstoneKept() {
+        List<String> records = Arrays.asList("gala | 2022-12-01 |  | 1 | deleted", "banquet | 2022-12-10 |  | 2 | ",
+                "expo | 2022-12-20 |  | 4 | deleted", "fair | 2022-12-22 |  | 3 | deleted");
+        assertEquals(Arrays.asList("banquet | 2022-12-10 |  | 2 | ", "expo | 2022-12-20 |  | 4 | deleted"),
+                new ArrayList<>(new EventListFileManager().compactRecords(records)));
+        assertEquals(Arrays.asList("banquet | 2022-12-10 |  | 2 | "),
+                new ArrayList<>(new EventListFileManager().compactRecords(records.subList(0, 2))));
+    }
+
+    @Test
+    public void commandParser_viewEventsFromAndNext_success() throws Exception {
+        ViewEventsBetweenDatesCommand betweenDatesCommand = (ViewEventsBetweenDatesCommand) new CommandParser()
+                .parse("view events from 2022-12-01 to 2022-12-31");
+        assertEquals(LocalDate.parse("2022-12-01"), betweenDatesCommand.getFrom());
+        assertEquals(LocalDate.parse("2022-12-31"), betweenDatesCommand.getTo());
+        ViewUpcomingEventsCommand upcomingEventsCommand = (ViewUpcomingEventsCommand) new CommandParser()
+                .parse("view events next 7 days");
+        assertEquals(7, upcomingEventsCommand.getNumberOfDays());
+
+        assertThrows(InvalidViewEventsBetweenDatesException.class, () ->
+                new CommandParser().parse("view events from 2022-12-31 to 2022-12-01"));
+        assertThrows(InvalidViewEventsBetweenDatesException.class, () ->
+                new CommandParser().parse("view events from 2022-12-31"));
+        assertThrows(InvalidViewUpcomingEventsException.class, () ->
+                new CommandParser().parse("view events next 0 days"));
+        assertThrows(InvalidViewUpcomingEventsException.class, () ->
+                new CommandParser().parse("view events next week"));
+    }
+}
@@ -16,7 +16,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GetAvailabilityTest {
     private ListContainer listContainer;
@@ -58,6 +60,32 @@ public class GetAvailabilityTest {
         assertEquals(1, getAvailableHousekeeperCommand.getSearchDay());
     }
 
+    @Test
+    public void getAvailableOnAllDays_severalDaysGiven_onlyHousekeepersAvailableOnEveryDayFound() throws Exception {
+        GetAvailableHousekeeperCommand command =
+                (GetAvailableHousekeeperCommand) new CommandParser().parse("get available on 3, 7,3");
+        assertEquals(3, command.getSearchDay());
+        assertEquals(2, command.getSearchDays().size());
+        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
+        int wednesdayAndSunday = Housekeeper.toDayBit(3) | Housekeeper.toDayBit(7);
+        ArrayList<Housekeeper> listOfHousekeeperAvailable =
+                housekeeperList.getAvailableHousekeeperOnAllDays(wednesdayAndSunday);
+        assertEquals(1, listOfHousekeeperAvailable.size());
+        assertEquals("James", listOfHousekeeperAvailable.get(0).getName());
+    }
+
+    @Test
+    public void getAvailability_afterResetAndDelete_housekeeperNoLongerFound() throws HotelLiteManagerException {
+        HousekeeperList housekeeperList = listContainer.getHousekeeperList();
+        housekeeperList.removeHousekeeperInList("man");
+        assertEquals(1, housekeeperList.getAvailableHousekeeperByDay(DAY_TWO_AVAILABILITY).size());
+        housekeeperList.resetAvailability();
+        assertFalse(housekeeperList.getHousekeeper(0).isAvailableOn(7));
+        assertTrue(housekeeperList.getAvailableHousekeeperByDay(7).isEmpty());
+        housekeeperList.getHousekeeper(1).setAvailability("7");
+        assertEquals("Sally", housekeeperList.getAvailableHousekeeperByDay(7).get(0).getName());
+    }
+
     @Test
     public void duplicateAvailableDayCommand_exceptionThrown() {
         assertThrows(DuplicateCommandException.class, () ->
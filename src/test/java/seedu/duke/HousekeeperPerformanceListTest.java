@@ -0,0 +1,90 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.housekeepercommands.ViewTopPerformersCommand;
+import seedu.duke.exceptions.InvalidViewTopPerformersException;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformance;
+import seedu.duke.housekeeperperformancelists.HousekeeperPerformanceList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HousekeeperPerformanceListTest {
+
+    @Test
+    public void addRating_manyRatingsForEachHousekeeper_orderedByMeanRatingThenName() {
+        HousekeeperPerformanceList housekeeperPerformanceList = new HousekeeperPerformanceList();
+        HashMap<String, int[]> expectedTotals = new HashMap<>();
+        Random random = new Random(2022);
+        for (int i = 0; i < 20000; i++) {
+            String name = "housekeeper" + random.nextInt(2000);
+            int rating = 1 + random.nextInt(5);
+            housekeeperPerformanceList.addRating(name, rating, i);
+            int[] totals = expectedTotals.computeIfAbsent(name, housekeeperName -> new int[2]);
+            totals[0] += rating;
+            totals[1]++;
+        }
+        ArrayList<String> expectedOrder = new ArrayList<>(expectedTotals.keySet());
+        expectedOrder.sort(Comparator.comparingDouble((String name) -> -(double) expectedTotals.get(name)[0]
+                / expectedTotals.get(name)[1]).thenComparing(name -> name));
+
+        assertEquals(expectedOrder.size(), housekeeperPerformanceList.getSize());
+        for (int i = 0; i < expectedOrder.size(); i++) {
+            String expectedName = expectedOrder.get(i);
+            HousekeeperPerformance performance = housekeeperPerformanceList.getPerformance(i);
+            assertEquals(expectedName, performance.getName());
+            assertEquals(expectedTotals.get(expectedName)[1], performance.getRatingCount());
+            assertEquals(i + 1, housekeeperPerformanceList.getRank(expectedName));
+        }
+    }
+
+    @Test
+    public void addRating_ratingHistory_runningAggregatesUpdated() {
+        HousekeeperPerformanceList housekeeperPerformanceList = new HousekeeperPerformanceList();
+        housekeeperPerformanceList.addRating("sally", 4, 1000);
+        housekeeperPerformanceList.addRating("sally", 2, 2000);
+        HousekeeperPerformance performance = housekeeperPerformanceList.addRating("sally", 5, 2000);
+        assertEquals(3, performance.getRatingCount());
+        assertEquals(11.0 / 3, performance.getMeanRating(), 1e-9);
+        assertEquals(2, performance.getMinRating());
+        assertEquals(5, performance.getMaxRating());
+        assertEquals(5, performance.getRating());
+        assertEquals(0.3 * 5 + 0.7 * (0.3 * 2 + 0.7 * 4), performance.getRecentScore(), 1e-9);
+        assertEquals(2001, performance.getRatedAt(2));
+        assertEquals("sally|5|2001", performance.toFileString(2));
+        assertEquals(3, housekeeperPerformanceList.getJournalBuffer().getPendingEntries().size());
+    }
+
+    @Test
+    public void getTopPerformances_fewerRatingsThanAskedFor_allRatingsReturned() {
+        HousekeeperPerformanceList housekeeperPerformanceList = new HousekeeperPerformanceList();
+        housekeeperPerformanceList.addHousekeeperPerformance(new HousekeeperPerformance("sally", 3));
+        housekeeperPerformanceList.addHousekeeperPerformance(new HousekeeperPerformance("james", 5));
+        housekeeperPerformanceList.addHousekeeperPerformance(new HousekeeperPerformance("man", 3));
+        housekeeperPerformanceList.addHousekeeperPerformance(new HousekeeperPerformance("sally", 2));
+        List<HousekeeperPerformance> topPerformances = housekeeperPerformanceList.getTopPerformances(2);
+        assertEquals("james", topPerformances.get(0).getName());
+        assertEquals("man", topPerformances.get(1).getName());
+        assertEquals(2, housekeeperPerformanceList.getRank("man"));
+        assertEquals(3, housekeeperPerformanceList.getRank("sally"));
+        assertEquals(3, housekeeperPerformanceList.getTopPerformances(10).size());
+        assertEquals(0, housekeeperPerformanceList.getRank("bob"));
+    }
+
+    @Test
+    public void commandParser_viewTopPerformers_success() throws Exception {
+        ViewTopPerformersCommand command = (ViewTopPerformersCommand) new CommandParser()
+                .parse("view top performers 3");
+        assertEquals(3, command.getNumberOfPerformers());
+        assertThrows(InvalidViewTopPerformersException.class, () ->
+                new CommandParser().parse("view top performers 0"));
+        assertThrows(InvalidViewTopPerformersException.class, () ->
+                new CommandParser().parse("view top performers x"));
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.ItemNotFoundException;
+import seedu.duke.itemlists.Item;
+import seedu.duke.itemlists.ItemList;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ItemListTest {
+    private ItemList itemList;
+
+    @BeforeEach
+    public void pretestingSetUp() throws HotelLiteManagerException {
+        itemList = new ItemList();
+        itemList.addItemToList(new Item("towel", 5));
+        itemList.addItemToList(new Item("soap", 3));
+        itemList.addItemToList(new Item("comb", 1));
+    }
+
+    @Test
+    public void deleteItemInList_consecutiveItems_remainingItemsKeepTheirOrder() throws HotelLiteManagerException {
+        itemList.deleteItemInList(new Item("towel"));
+        itemList.deleteItemInList(new Item("soap"));
+        assertEquals(1, itemList.getSize());
+        assertEquals("comb", itemList.getItem(0).getName());
+        assertFalse(itemList.checkForItemDuplicates("towel"));
+        assertThrows(ItemNotFoundException.class, () -> itemList.deleteItemInList(new Item("towel")));
+    }
+
+    @Test
+    public void updateItemNameInList_renamedItem_foundByNewNameAtSamePosition() throws HotelLiteManagerException {
+        itemList.updateItemNameInList("soap", "shampoo");
+        assertTrue(itemList.checkForItemDuplicates("shampoo"));
+        assertFalse(itemList.checkForItemDuplicates("soap"));
+        assertEquals("shampoo", itemList.getItem(1).getName());
+        itemList.updateItemPaxInList(new Item("shampoo", 8));
+        assertEquals(8, itemList.getItem(1).getPax());
+    }
+
+    @Test
+    public void addItemToList_deletedItemAddedAgain_onlyNewItemKept() throws HotelLiteManagerException {
+        itemList.deleteItemInList(new Item("towel"));
+        itemList.addItemToList(new Item("towel", 9));
+        assertEquals(3, itemList.getSize());
+        assertEquals("towel", itemList.getItem(2).getName());
+        assertEquals(9, itemList.getItem(2).getPax());
+    }
+
+    @Test
+    public void setListOfItems_largeList_everyItemIndexed() throws HotelLiteManagerException {
+        ArrayList<Item> items = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            items.add(new Item("item" + i, i));
+        }
+        itemList.setListOfItems(items);
+        assertEquals(50000, itemList.getSize());
+        assertTrue(itemList.checkForItemDuplicates("item49999"));
+    }
+
+    @Test
+    public void findItemsInList_afterRenameAndDelete_indexKeptUpToDate() throws HotelLiteManagerException {
+        assertEquals(1, itemList.findItemsInList("owe").getSize());
+        itemList.updateItemNameInList("soap", "bath towel");
+        itemList.deleteItemInList(new Item("towel"));
+        ItemList matchingItems = itemList.findItemsInList("towel");
+        assertEquals(1, matchingItems.getSize());
+        assertEquals("bath towel", matchingItems.getItem(0).getName());
+        assertEquals(0, itemList.findItemsInList("soap").getSize());
+    }
+
+    @Test
+    public void findItemsInList_keywordTrigramsNotAdjacent_notFound() throws HotelLiteManagerException {
+        itemList.addItemToList(new Item("abcd bcde", 1));
+        assertEquals(0, itemList.findItemsInList("abcde").getSize());
+        assertEquals(1, itemList.findItemsInList("bcd").getSize());
+        assertEquals(3, itemList.findItemsInList("o").getSize());
+    }
+
+    @Test
+    public void findItemsInList_pageOfMatches_itemsInOrderAdded() throws HotelLiteManagerException {
+        for (int i = 0; i < 45; i++) {
+            itemList.addItemToList(new Item("paper " + i, i));
+        }
+        assertEquals(45, itemList.countItemsInList("paper"));
+        ItemList page = itemList.findItemsInList("paper", 40, 20);
+        assertEquals(5, page.getSize());
+        assertEquals("paper 40", page.getItem(0).getName());
+    }
+
+    @Test
+    public void countItemsInList_itemsChangedAfterFirstCount_countKeptUpToDate() throws HotelLiteManagerException {
+        assertEquals(1, itemList.countItemsInList("towel"));
+        itemList.addItemToList(new Item("bath towel", 2));
+        assertEquals(2, itemList.countItemsInList("towel"));
+        itemList.updateItemNameInList("soap", "hand towel");
+        assertEquals(3, itemList.countItemsInList("towel"));
+        itemList.deleteItemInList(new Item("towel"));
+        assertEquals(2, itemList.countItemsInList("towel"));
+    }
+
+    @Test
+    public void findItemsInList_mostItemsDeleted_shortKeywordFindsRemainingItems() throws HotelLiteManagerException {
+        for (int i = 0; i < 100; i++) {
+            itemList.addItemToList(new Item("paper " + i, i));
+        }
+        assertEquals(100, itemList.countItemsInList("pa"));
+        for (int i = 0; i < 95; i++) {
+            itemList.deleteItemInList(new Item("paper " + i));
+        }
+        itemList.deleteItemInList(new Item("soap"));
+        assertEquals(5, itemList.countItemsInList("pa"));
+        ItemList matchingItems = itemList.findItemsInList("pa", 0, 20);
+        assertEquals(5, matchingItems.getSize());
+        assertEquals("paper 95", matchingItems.getItem(0).getName());
+        assertEquals("paper 99", matchingItems.getItem(4).getName());
+        assertEquals(1, itemList.findItemsInList("towel").getSize());
+        assertEquals(2, itemList.countItemsInList("o"));
+    }
+
+    @Test
+    public void findItemsWithPaxAtMost_paxUpdatedAfterFirstQuery_indexKeptUpToDate() throws HotelLiteManagerException {
+        assertEquals(0, itemList.findItemsWithZeroPaxInList().getSize());
+        itemList.updateItemPaxInList(new Item("towel", 0));
+        itemList.updateItemPaxInList(new Item("comb", 0));
+        ItemList itemsWithZeroPax = itemList.findItemsWithZeroPaxInList();
+        assertEquals(2, itemsWithZeroPax.getSize());
+        assertEquals("towel", itemsWithZeroPax.getItem(0).getName());
+        assertEquals("comb", itemsWithZeroPax.getItem(1).getName());
+        itemList.deleteItemInList(new Item("towel"));
+        itemList.addItemToList(new Item("sponge", 2));
+        ItemList itemsWithLowPax = itemList.findItemsWithPaxAtMost(2);
+        assertEquals(2, itemsWithLowPax.getSize());
+        assertEquals("comb", itemsWithLowPax.getItem(0).getName());
+        assertEquals("sponge", itemsWithLowPax.getItem(1).getName());
+    }
+}
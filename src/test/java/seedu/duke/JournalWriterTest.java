@@ -0,0 +1,52 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.storage.JournalFileManager;
+import seedu.duke.storage.JournalWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JournalWriterTest {
+    private static final long LONG_MAX_LATENCY_IN_MILLIS = 60 * 1000;
+
+    /**
+     * Records the group commits instead of writing them to the journal.
+     */
+    private static class RecordingJournalFileManager extends JournalFileManager {
+        private final List<List<String>> commits = new ArrayList<>();
+
+        @Override
+        public long append(List<String> journalLines) {
+            synchronized (commits) {
+                commits.add(new ArrayList<>(journalLines));
+            }
+            return JournalFileManager.getEncodedLength(journalLines);
+        }
+    }
+
+    @Test
+    public void flush_mutationsWithinLatencyWindow_writtenInOneGroupCommit() throws IOException {
+        RecordingJournalFileManager journalFileManager = new RecordingJournalFileManager();
+        JournalWriter journalWriter = new JournalWriter(journalFileManager, LONG_MAX_LATENCY_IN_MILLIS);
+        journalWriter.submit(Arrays.asList("ListFolder/ItemList.txt|+|towel|5"));
+        journalWriter.submit(Arrays.asList("ListFolder/ItemList.txt|+|soap|2"));
+        journalWriter.flush();
+        assertEquals(1, journalFileManager.commits.size());
+        assertEquals(2, journalFileManager.commits.get(0).size());
+        journalWriter.close();
+    }
+
+    @Test
+    public void submit_afterClose_exceptionThrown() throws IOException {
+        JournalWriter journalWriter = new JournalWriter(new RecordingJournalFileManager(), 0);
+        journalWriter.close();
+        assertThrows(IOException.class, () -> journalWriter.submit(Arrays.asList("ListFolder/ItemList.txt|!|")));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.storage.RecordReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecordReaderTest {
+
+    private RecordReader openRecordReader(String contents) throws IOException {
+        Path file = Files.createTempFile("record_reader", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        return new RecordReader(file);
+    }
+
+    @Test
+    public void nextRecord_blankLinesAndWindowsLineEndings_recordsReadInOrder() throws IOException {
+        RecordReader recordReader = openRecordReader("Toilet Paper | 15\r\n\n  \nSofa|30");
+        assertTrue(recordReader.nextRecord());
+        assertEquals("Toilet Paper", recordReader.nextField());
+        assertEquals(15, recordReader.nextInt());
+        assertFalse(recordReader.hasNextField());
+        assertTrue(recordReader.nextRecord());
+        assertEquals("Sofa|30", recordReader.getRecord());
+        assertEquals("Sofa", recordReader.nextField());
+        assertEquals(30, recordReader.nextInt());
+        assertFalse(recordReader.nextRecord());
+        recordReader.close();
+    }
+
+    @Test
+    public void nextField_blankFields_emptyStringsReturned() throws IOException {
+        RecordReader recordReader = openRecordReader("study | 2022-12-13 |  | 1 | \n");
+        assertTrue(recordReader.nextRecord());
+        assertEquals("study", recordReader.nextField());
+        assertEquals("2022-12-13", recordReader.nextField());
+        assertEquals("", recordReader.nextField());
+        assertEquals(1, recordReader.nextInt());
+        assertEquals("", recordReader.nextField());
+        assertFalse(recordReader.hasNextField());
+        recordReader.close();
+    }
+
+    @Test
+    public void nextInt_invalidOrMissingField_exceptionThrown() throws IOException {
+        RecordReader recordReader = openRecordReader("Sofa|3O\n");
+        assertTrue(recordReader.nextRecord());
+        recordReader.nextField();
+        assertThrows(NumberFormatException.class, () -> recordReader.nextInt());
+        assertThrows(NumberFormatException.class, () -> recordReader.nextInt());
+        recordReader.close();
+    }
+
+    @Test
+    public void remainingFields_journalLine_payloadKeptAsStored() throws IOException {
+        RecordReader recordReader = openRecordReader("ListFolder/assignment_list.txt|+|101 | Susan\n");
+        assertTrue(recordReader.nextRecord());
+        assertEquals("ListFolder/assignment_list.txt", recordReader.nextField());
+        assertEquals("+", recordReader.nextField());
+        assertEquals("101 | Susan", recordReader.remainingFields());
+        recordReader.close();
+    }
+
+    @Test
+    public void nextRecord_recordLargerThanBuffer_wholeRecordRead() throws IOException {
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            longName.append('a');
+        }
+        RecordReader recordReader = openRecordReader("Sofa|1\n" + longName + "|2\nBed|3\n");
+        assertTrue(recordReader.nextRecord());
+        assertTrue(recordReader.nextRecord());
+        assertEquals(longName.toString(), recordReader.nextField());
+        assertEquals(2, recordReader.nextInt());
+        assertTrue(recordReader.nextRecord());
+        assertEquals("Bed", recordReader.nextField());
+        recordReader.close();
+    }
+
+    @Test
+    public void isRecordTerminated_partlyWrittenLastRecord_false() throws IOException {
+        RecordReader recordReader = openRecordReader("Sofa|1\nBed|");
+        assertTrue(recordReader.nextRecord());
+        assertTrue(recordReader.isRecordTerminated());
+        assertTrue(recordReader.nextRecord());
+        assertFalse(recordReader.isRecordTerminated());
+        recordReader.close();
+    }
+}
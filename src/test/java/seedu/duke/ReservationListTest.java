@@ -0,0 +1,97 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.command.roomcommand.FindAvailableRoomCommand;
+import seedu.duke.command.roomcommand.ReserveRoomCommand;
+import seedu.duke.exceptions.HotelLiteManagerException;
+import seedu.duke.exceptions.InvalidDateException;
+import seedu.duke.exceptions.InvalidReservationException;
+import seedu.duke.exceptions.ReservationClashException;
+import seedu.duke.exceptions.ReservationNotFoundException;
+import seedu.duke.roomlists.Reservation;
+import seedu.duke.roomlists.ReservationList;
+import seedu.duke.roomlists.Room;
+import seedu.duke.roomlists.RoomType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReservationListTest {
+    private static final LocalDate CHRISTMAS = LocalDate.parse("2026-12-25");
+
+    @Test
+    public void reserve_adjacentAndOverlappingStays_onlyOverlappingStaysRejected()
+            throws HotelLiteManagerException {
+        ReservationList reservationList = new ReservationList(new ArrayList<>());
+        reservationList.reserve(301, CHRISTMAS, CHRISTMAS.plusDays(3));
+        reservationList.reserve(301, CHRISTMAS.minusDays(2), CHRISTMAS);
+        reservationList.reserve(301, CHRISTMAS.plusDays(3), CHRISTMAS.plusDays(4));
+        assertThrows(ReservationClashException.class,
+            () -> reservationList.reserve(301, CHRISTMAS.plusDays(2), CHRISTMAS.plusDays(5)));
+        assertThrows(ReservationClashException.class,
+            () -> reservationList.reserve(301, CHRISTMAS.minusDays(5), CHRISTMAS.plusDays(10)));
+        assertThrows(ReservationClashException.class,
+            () -> reservationList.reserve(301, CHRISTMAS.plusDays(1), CHRISTMAS.plusDays(2)));
+        reservationList.reserve(302, CHRISTMAS, CHRISTMAS.plusDays(3));
+        assertEquals(4, reservationList.getSize());
+        assertEquals(3, reservationList.getReservations(301).size());
+        assertEquals(CHRISTMAS.minusDays(2), reservationList.getReservations(301).get(0).getStartDate());
+    }
+
+    @Test
+    public void cancel_existingReservation_nightsFreedAgain() throws HotelLiteManagerException {
+        ReservationList reservationList = new ReservationList(new ArrayList<>());
+        reservationList.reserve(301, CHRISTMAS, CHRISTMAS.plusDays(3));
+        assertFalse(reservationList.isAvailable(301, CHRISTMAS.plusDays(2), CHRISTMAS.plusDays(7)));
+        Reservation cancelledReservation = reservationList.cancel(301, CHRISTMAS);
+        assertEquals(CHRISTMAS.plusDays(3), cancelledReservation.getEndDate());
+        assertTrue(reservationList.isAvailable(301, CHRISTMAS.plusDays(2), CHRISTMAS.plusDays(7)));
+        assertEquals(0, reservationList.getSize());
+        assertThrows(ReservationNotFoundException.class, () -> reservationList.cancel(301, CHRISTMAS));
+        assertEquals(2, reservationList.getJournalBuffer().getPendingEntries().size());
+    }
+
+    @Test
+    public void findAvailableRooms_roomsOfOneType_onlyFreeRoomsReturned() throws HotelLiteManagerException {
+        ArrayList<Reservation> storedReservations = new ArrayList<>();
+        storedReservations.add(new Reservation(302, CHRISTMAS.minusDays(5), CHRISTMAS.plusDays(1)));
+        storedReservations.add(new Reservation(302, CHRISTMAS, CHRISTMAS.plusDays(2)));
+        ReservationList reservationList = new ReservationList(storedReservations);
+        assertEquals(1, reservationList.getSize());
+        List<Room> kingRooms = new ArrayList<>();
+        kingRooms.add(new Room(302, 3, RoomType.King));
+        kingRooms.add(new Room(303, 3, RoomType.King));
+        List<Room> availableRooms = reservationList.findAvailableRooms(kingRooms, CHRISTMAS, CHRISTMAS.plusDays(1));
+        assertEquals(1, availableRooms.size());
+        assertEquals(303, availableRooms.get(0).getRoomId());
+        assertEquals(2, reservationList.findAvailableRooms(kingRooms, CHRISTMAS.plusDays(1),
+                CHRISTMAS.plusDays(2)).size());
+    }
+
+    @Test
+    public void parseReservationCommands_validAndInvalidInput_parsedOrRejected() throws HotelLiteManagerException {
+        CommandParser commandParser = new CommandParser();
+        ReserveRoomCommand reserveRoomCommand = (ReserveRoomCommand) commandParser.parse(
+                "reserve 301 / 2026-12-20 / 2026-12-27");
+        assertEquals(301, reserveRoomCommand.getRoomId());
+        assertEquals(LocalDate.parse("2026-12-27"), reserveRoomCommand.getEndDate());
+        FindAvailableRoomCommand findAllRoomsCommand = (FindAvailableRoomCommand) commandParser.parse(
+                "find available 2026-12-20 / 2026-12-27");
+        assertNull(findAllRoomsCommand.getType());
+        FindAvailableRoomCommand findKingRoomsCommand = (FindAvailableRoomCommand) commandParser.parse(
+                "find available King / 2026-12-20 / 2026-12-27");
+        assertEquals(RoomType.King, findKingRoomsCommand.getType());
+        assertThrows(InvalidReservationException.class,
+            () -> commandParser.parse("reserve 301 / 2026-12-27 / 2026-12-27"));
+        assertThrows(InvalidReservationException.class, () -> commandParser.parse("reserve 301 / 2026-12-27"));
+        assertThrows(InvalidDateException.class, () -> commandParser.parse("cancel reservation 301 / 27-12-2026"));
+    }
+}
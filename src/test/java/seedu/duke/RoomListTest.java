@@ -0,0 +1,92 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.roomlists.Room;
+import seedu.duke.roomlists.RoomList;
+import seedu.duke.roomlists.RoomType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RoomListTest {
+
+    private RoomList createResort(int numberOfLevels, int roomsPerLevel) {
+        ArrayList<Room> rooms = new ArrayList<>();
+        RoomType[] roomTypes = RoomType.values();
+        for (int level = 1; level <= numberOfLevels; level++) {
+            for (int roomNumber = 1; roomNumber <= roomsPerLevel; roomNumber++) {
+                rooms.add(new Room(level * 1000 + roomNumber, level, roomTypes[roomNumber % roomTypes.length]));
+            }
+        }
+        return new RoomList(rooms);
+    }
+
+    @Test
+    public void getRoomById_resortWithTwentyThousandRooms_everyRoomFound() {
+        RoomList roomList = createResort(20, 1000);
+        for (Room room : roomList.getRoomList()) {
+            assertEquals(room, roomList.getRoomById(room.getRoomId()));
+        }
+        assertNull(roomList.getRoomById(21001));
+        assertFalse(roomList.hasRoom(-1));
+        assertTrue(roomList.hasRoom(20999));
+    }
+
+    @Test
+    public void getRoomsByLevelAndType_resort_roomsInRoomListOrder() {
+        RoomList roomList = createResort(3, 12);
+        List<Room> roomsOnLevel = roomList.getRoomsByLevel(2);
+        assertEquals(12, roomsOnLevel.size());
+        assertEquals(2001, roomsOnLevel.get(0).getRoomId());
+        assertEquals(2012, roomsOnLevel.get(11).getRoomId());
+        assertTrue(roomList.getRoomsByLevel(4).isEmpty());
+        List<Room> queenRooms = roomList.getRoomsByType(RoomType.Queen);
+        assertEquals(6, queenRooms.size());
+        assertEquals(RoomType.Queen, queenRooms.get(0).getType());
+    }
+
+    @Test
+    public void getRoomById_duplicateRoomId_firstRoomReturned() {
+        ArrayList<Room> rooms = new ArrayList<>();
+        Room firstRoom = new Room(101, 1, RoomType.Single);
+        rooms.add(firstRoom);
+        rooms.add(new Room(101, 1, RoomType.Double));
+        RoomList roomList = new RoomList(rooms);
+        assertEquals(firstRoom, roomList.getRoomById(101));
+        assertEquals(1, roomList.getRoomsByLevel(1).size());
+    }
+
+    @Test
+    public void countVacantRooms_checkInAndCheckOut_countsUpdated() {
+        RoomList roomList = createResort(3, 12);
+        assertEquals(36, roomList.countVacantRooms());
+        Room room = roomList.getRoomById(2006);
+        roomList.checkInRoom(room);
+        roomList.checkInRoom(room);
+        assertEquals(35, roomList.countVacantRooms());
+        assertEquals(11, roomList.countVacantRoomsOnLevel(2));
+        assertEquals(5, roomList.countVacantRooms(room.getType()));
+        assertEquals(1, roomList.countVacantRoomsOnLevel(2, room.getType()));
+        assertEquals(0, roomList.countVacantRoomsOnLevel(4));
+        roomList.checkOutRoom(room);
+        assertEquals(36, roomList.countVacantRooms());
+        assertEquals(2, roomList.countVacantRoomsOnLevel(2, room.getType()));
+    }
+
+    @Test
+    public void findFirstVacantRoom_firstRoomsOccupied_nextVacantRoomReturned() {
+        RoomList roomList = createResort(2, 6);
+        List<Room> singleRooms = roomList.getRoomsByType(RoomType.Single);
+        assertEquals(singleRooms.get(0), roomList.findFirstVacantRoom(RoomType.Single));
+        roomList.checkInRoom(singleRooms.get(0));
+        assertEquals(singleRooms.get(1), roomList.findFirstVacantRoom(RoomType.Single));
+        roomList.checkInRoom(singleRooms.get(1));
+        assertNull(roomList.findFirstVacantRoom(RoomType.Single));
+    }
+}
@@ -7,6 +7,7 @@ import seedu.duke.command.itemcommands.SearchItemCommand;
 import seedu.duke.exceptions.DuplicateCommandException;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.EmptyKeywordException;
+import seedu.duke.exceptions.InvalidSearchPageException;
 
 import seedu.duke.itemlists.Item;
 import seedu.duke.itemlists.ItemList;
@@ -60,4 +61,16 @@ public class SearchItemCommandTest {
         assertThrows(DuplicateCommandException.class, () -> new SearchItemCommand(" search item"));
     }
 
+    @Test
+    public void searchItemCommand_keywordWithPage_pageNumberExtracted() throws HotelLiteManagerException {
+        SearchItemCommand searchItemCommand = new SearchItemCommand(" toilet / 2");
+        assertEquals("toilet", searchItemCommand.getKeyword());
+        assertEquals(2, searchItemCommand.getPageNumber());
+    }
+
+    @Test
+    public void searchItemCommand_invalidPage_exceptionThrown() {
+        assertThrows(InvalidSearchPageException.class, () -> new SearchItemCommand(" toilet / 0"));
+        assertThrows(InvalidSearchPageException.class, () -> new SearchItemCommand(" toilet / two"));
+    }
 }
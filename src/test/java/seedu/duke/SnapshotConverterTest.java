@@ -0,0 +1,88 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.storage.FileManager;
+import seedu.duke.storage.HousekeeperPerformanceFileManager;
+import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.storage.SnapshotConverter;
+import seedu.duke.storage.SnapshotFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotConverterTest {
+    private static final List<String> OLD_RECORDS = Arrays.asList("Towel|5");
+    private static final List<String> NEW_RECORDS = Arrays.asList("Towel|4", "Soap|2");
+
+    private String createTextFilePath(String fileName) throws IOException {
+        Path directory = Files.createTempDirectory("snapshot_converter");
+        directory.toFile().deleteOnExit();
+        return directory.resolve(fileName).toString();
+    }
+
+    private FileManager createFileManager() throws IOException {
+        String textFilePath = createTextFilePath("ItemList.txt");
+        return new ItemListFileManager() {
+            @Override
+            public String getFilePath() {
+                return textFilePath;
+            }
+        };
+    }
+
+    private File getSnapshot(FileManager fileManager, SnapshotFormat snapshotFormat) {
+        return new File(snapshotFormat.toSnapshotPath(fileManager.getFilePath()));
+    }
+
+    @Test
+    public void convertOtherFormatSnapshot_newerBinarySnapshot_convertedAndRemoved() throws IOException {
+        FileManager fileManager = createFileManager();
+        fileManager.writeSnapshot(OLD_RECORDS, SnapshotFormat.TEXT);
+        File textSnapshot = getSnapshot(fileManager, SnapshotFormat.TEXT);
+        textSnapshot.setLastModified(textSnapshot.lastModified() - 10000);
+        fileManager.writeSnapshot(NEW_RECORDS, SnapshotFormat.BINARY);
+
+        assertTrue(new SnapshotConverter().convertOtherFormatSnapshot(fileManager, SnapshotFormat.TEXT));
+        assertEquals(NEW_RECORDS, fileManager.readSnapshot(SnapshotFormat.TEXT));
+        assertFalse(getSnapshot(fileManager, SnapshotFormat.BINARY).exists());
+    }
+
+    @Test
+    public void convertOtherFormatSnapshot_olderTextSnapshot_removedWithoutConverting() throws IOException {
+        FileManager fileManager = createFileManager();
+        fileManager.writeSnapshot(OLD_RECORDS, SnapshotFormat.TEXT);
+        File textSnapshot = getSnapshot(fileManager, SnapshotFormat.TEXT);
+        textSnapshot.setLastModified(textSnapshot.lastModified() - 10000);
+        fileManager.writeSnapshot(NEW_RECORDS, SnapshotFormat.BINARY);
+
+        assertFalse(new SnapshotConverter().convertOtherFormatSnapshot(fileManager, SnapshotFormat.BINARY));
+        assertEquals(NEW_RECORDS, fileManager.readSnapshot(SnapshotFormat.BINARY));
+        assertFalse(textSnapshot.exists());
+    }
+
+    @Test
+    public void convertOtherFormatSnapshot_untimedPerformanceRecord_convertedWithUnknownTime() throws IOException {
+        String textFilePath = createTextFilePath("performance_list.txt");
+        FileManager fileManager = new HousekeeperPerformanceFileManager() {
+            @Override
+            public String getFilePath() {
+                return textFilePath;
+            }
+        };
+        fileManager.writeSnapshot(Arrays.asList("Alice|3", "Alice|5|1650000000000"), SnapshotFormat.TEXT);
+
+        assertTrue(new SnapshotConverter().convertOtherFormatSnapshot(fileManager, SnapshotFormat.BINARY));
+        assertEquals(Arrays.asList("Alice|3|0", "Alice|5|1650000000000"),
+                fileManager.readSnapshot(SnapshotFormat.BINARY));
+        assertFalse(new File(SnapshotFormat.BINARY.toSnapshotPath(textFilePath) + ".tmp").exists());
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.exceptions.CorruptedFileException;
+import seedu.duke.storage.ItemListFileManager;
+import seedu.duke.storage.RecordReader;
+import seedu.duke.storage.SnapshotFile;
+import seedu.duke.storage.SnapshotFormat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotFileTest {
+
+    private SnapshotFile createSnapshotFile(SnapshotFormat snapshotFormat) throws IOException {
+        Path directory = Files.createTempDirectory("snapshot_file");
+        directory.toFile().deleteOnExit();
+        String textFilePath = directory.resolve("ItemList.txt").toString();
+        return new SnapshotFile(snapshotFormat.toSnapshotPath(textFilePath), snapshotFormat);
+    }
+
+    private void writeText(SnapshotFile snapshotFile, String contents) throws IOException {
+        snapshotFile.write(outputStream -> outputStream.write(contents.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void corruptFirstByte(Path path) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            int firstByte = file.read();
+            file.seek(0);
+            file.write(firstByte ^ 0xFF);
+        }
+    }
+
+    @Test
+    public void write_textSnapshot_checksumSkippedWhenReading() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(SnapshotFormat.TEXT);
+        writeText(snapshotFile, "Sofa|1\n");
+        snapshotFile.verify();
+        assertFalse(Files.exists(snapshotFile.getPath().resolveSibling("ItemList.txt.tmp")));
+        RecordReader recordReader = new RecordReader(snapshotFile.getPath(), snapshotFile.getContentLength());
+        assertTrue(recordReader.nextRecord());
+        assertEquals("Sofa|1", recordReader.getRecord());
+        assertFalse(recordReader.nextRecord());
+        recordReader.close();
+    }
+
+    @Test
+    public void selectReadableGeneration_corruptedSnapshot_previousGenerationSelected() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(SnapshotFormat.TEXT);
+        writeText(snapshotFile, "Sofa|1\n");
+        writeText(snapshotFile, "Sofa|2\n");
+        corruptFirstByte(snapshotFile.getPath());
+        assertThrows(IOException.class, () -> snapshotFile.verify());
+        SnapshotFile readableGeneration = snapshotFile.selectReadableGeneration();
+        assertEquals("ItemList.txt.prev", readableGeneration.getPath().getFileName().toString());
+        RecordReader recordReader = new RecordReader(readableGeneration.getPath(),
+                readableGeneration.getContentLength());
+        assertTrue(recordReader.nextRecord());
+        assertEquals("Sofa|1", recordReader.getRecord());
+        recordReader.close();
+    }
+
+    @Test
+    public void verify_corruptedBinarySnapshotWithoutPreviousGeneration_exceptionThrown() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(SnapshotFormat.BINARY);
+        snapshotFile.write(outputStream -> outputStream.write(new byte[]{'H', 'L', 'S', 'B', 2, 0, 0, 0, 0, 0}));
+        snapshotFile.verify();
+        assertEquals(10, snapshotFile.getContentLength());
+        Files.delete(snapshotFile.getPath().resolveSibling("ItemList.bin.prev"));
+        corruptFirstByte(snapshotFile.getPath());
+        assertThrows(IOException.class, () -> snapshotFile.selectReadableGeneration());
+    }
+
+    @Test
+    public void verify_textSnapshotWithoutChecksum_wholeFileAccepted() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(SnapshotFormat.TEXT);
+        Files.write(snapshotFile.getPath(), "Sofa|1\nBed|2\n".getBytes(StandardCharsets.UTF_8));
+        snapshotFile.verify();
+        assertEquals(Files.size(snapshotFile.getPath()), snapshotFile.getContentLength());
+    }
+
+    @Test
+    public void verify_textSnapshotLosingChecksum_previousGenerationSelected() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(SnapshotFormat.TEXT);
+        writeText(snapshotFile, "Sofa|1\nBed|2\n");
+        Files.write(snapshotFile.getPath(), "Sofa|1\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> snapshotFile.verify());
+        SnapshotFile readableGeneration = snapshotFile.selectReadableGeneration();
+        assertEquals("ItemList.txt.prev", readableGeneration.getPath().getFileName().toString());
+        assertEquals(13, readableGeneration.getContentLength());
+    }
+
+    @Test
+    public void load_unreadableSnapshotAndPreviousGeneration_corruptedFileExceptionThrown() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(SnapshotFormat.TEXT);
+        String textFilePath = snapshotFile.getPath().toString();
+        ItemListFileManager itemListFileManager = new ItemListFileManager() {
+            @Override
+            public String getFilePath() {
+                return textFilePath;
+            }
+        };
+        itemListFileManager.writeSnapshot(Arrays.asList("Sofa|1"), SnapshotFormat.TEXT);
+        corruptFirstByte(snapshotFile.getPath());
+        corruptFirstByte(snapshotFile.getPath().resolveSibling("ItemList.txt.prev"));
+        assertThrows(CorruptedFileException.class, () -> itemListFileManager.load());
+    }
+}
@@ -4,15 +4,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.duke.command.customercommands.ViewSatisfactionsCommand;
 import seedu.duke.command.customercommands.ViewAverageSatisfactionCommand;
+import seedu.duke.command.customercommands.ViewSatisfactionDistributionCommand;
 import seedu.duke.exceptions.HotelLiteManagerException;
 import seedu.duke.exceptions.InvalidCommandException;
 import seedu.duke.satisfactionlists.Satisfaction;
 import seedu.duke.satisfactionlists.SatisfactionList;
 
 import java.io.IOException;
+import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ViewSatisfactionsTest {
     private ListContainer listContainer;
@@ -62,4 +66,34 @@ public class ViewSatisfactionsTest {
         assertThrows(InvalidCommandException.class, () ->
                 new CommandParser().parse("view satisfactions blah blah "));
     }
+
+    @Test
+    public void countSatisfactionsWithValue_satisfactionsAddedAndLoaded_countsKeptUpToDate() {
+        SatisfactionList satisfactionList = listContainer.getSatisfactionList();
+        satisfactionList.addSatisfaction(new Satisfaction("Bob", 5));
+        assertEquals(0, satisfactionList.countSatisfactionsWithValue(1));
+        assertEquals(1, satisfactionList.countSatisfactionsWithValue(3));
+        assertEquals(2, satisfactionList.countSatisfactionsWithValue(5));
+        assertEquals(4.25, satisfactionList.calculateAverageSatisfaction());
+        assertTrue(satisfactionList.isCustomerInSatisfactionList("Bob"));
+        assertFalse(satisfactionList.isCustomerInSatisfactionList("bob"));
+
+        ArrayList<Satisfaction> loadedSatisfactions = new ArrayList<>();
+        loadedSatisfactions.add(new Satisfaction("Tom", 1));
+        satisfactionList.setSatisfactionList(loadedSatisfactions);
+        assertEquals(0, satisfactionList.countSatisfactionsWithValue(5));
+        assertEquals(1, satisfactionList.countSatisfactionsWithValue(1));
+        assertFalse(satisfactionList.isCustomerInSatisfactionList("Bob"));
+        assertEquals(1.0, satisfactionList.calculateAverageSatisfaction());
+
+        satisfactionList.clearSatisfactionList();
+        assertTrue(Double.isNaN(satisfactionList.calculateAverageSatisfaction()));
+        assertEquals(0, satisfactionList.countSatisfactionsWithValue(1));
+    }
+
+    @Test
+    public void commandParser_viewSatisfactionDistribution_success() throws HotelLiteManagerException {
+        assertTrue(new CommandParser().parse("view satisfaction distribution")
+                instanceof ViewSatisfactionDistributionCommand);
+    }
 }